@@ -5,6 +5,7 @@ import org.apiguardian.api.API;
 import org.springframework.http.client.ClientHttpResponse;
 import org.zalando.fauxpas.ThrowingRunnable;
 import org.zalando.riptide.AbstractCancelableCompletableFuture;
+import org.zalando.riptide.Deadline;
 import org.zalando.riptide.DefaultSafeMethodDetector;
 import org.zalando.riptide.MethodDetector;
 import org.zalando.riptide.OverrideSafeMethodDetector;
@@ -12,6 +13,7 @@ import org.zalando.riptide.Plugin;
 import org.zalando.riptide.RequestArguments;
 import org.zalando.riptide.RequestExecution;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -21,6 +23,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static lombok.AccessLevel.PRIVATE;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.zalando.riptide.CancelableCompletableFuture.forwardTo;
@@ -52,13 +55,18 @@ public final class BackupRequestPlugin implements Plugin {
 
     @Override
     public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
-        if (safe.test(arguments)) {
+        if (safe.test(arguments) && hasBudgetForBackup(arguments.getDeadline())) {
             return withBackup(execution);
         }
 
         return execution;
     }
 
+    private boolean hasBudgetForBackup(@Nullable final Deadline deadline) {
+        // a backup request that would only be sent after the deadline expired is pointless
+        return deadline == null || deadline.remaining(NANOSECONDS) > unit.toNanos(delay);
+    }
+
     private RequestExecution withBackup(final RequestExecution execution) {
         return () -> {
             final CompletableFuture<ClientHttpResponse> original = execution.execute();
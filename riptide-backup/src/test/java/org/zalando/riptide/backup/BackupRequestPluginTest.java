@@ -9,6 +9,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.springframework.core.task.AsyncListenableTaskExecutor;
 import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.zalando.riptide.Deadline;
 import org.zalando.riptide.Http;
 import org.zalando.riptide.capture.Completion;
 import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
@@ -152,4 +153,14 @@ public final class BackupRequestPluginTest {
         Thread.sleep(1000);
     }
 
+    @Test
+    public void shouldNotSendBackupRequestIfDeadlineExpiresBefore() {
+        driver.addExpectation(onRequestTo("/bar"), giveEmptyResponse().after(2, SECONDS));
+
+        unit.get("/bar")
+                .deadline(Deadline.after(500, TimeUnit.MILLISECONDS))
+                .call(pass())
+                .join();
+    }
+
 }
@@ -0,0 +1,176 @@
+package org.zalando.riptide;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.google.common.reflect.TypeToken;
+import org.apiguardian.api.API;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.TypeUtils;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link MappingJackson2HttpMessageConverter} that caches an {@link ObjectReader} and an {@link ObjectWriter} per
+ * type, i.e. deserializers and serializers are looked up once per type rather than once per message. Readers and
+ * writers for types that are known upfront, e.g. the ones used in routing trees, can be created eagerly:
+ *
+ * <pre>{@code
+ * CachingJackson2HttpMessageConverter converter = new CachingJackson2HttpMessageConverter(mapper);
+ * converter.warmUp(TypeToken.of(Order.class), Types.listOf(Order.class));
+ * }</pre>
+ *
+ * Values wrapped in {@link MappingJacksonValue} are written by the original implementation.
+ */
+@API(status = EXPERIMENTAL)
+public final class CachingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    @Nullable // only during construction
+    private ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    @Nullable // only during construction
+    private ConcurrentMap<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public CachingJackson2HttpMessageConverter(final ObjectMapper mapper) {
+        super(mapper);
+    }
+
+    /**
+     * Creates readers and writers for the given types, e.g. at startup.
+     *
+     * @param types the types of messages that will be read or written
+     */
+    public void warmUp(final TypeToken<?>... types) {
+        for (final TypeToken<?> type : types) {
+            final JavaType javaType = getJavaType(type.getType(), null);
+            getReader(javaType);
+            getWriter(javaType);
+        }
+    }
+
+    @Override
+    public boolean canRead(final Type type, @Nullable final Class<?> contextClass,
+            @Nullable final MediaType mediaType) {
+        if (readers().containsKey(getJavaType(type, contextClass))) {
+            return canRead(mediaType);
+        }
+        return super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public Object read(final Type type, @Nullable final Class<?> contextClass, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(getJavaType(type, contextClass), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(getJavaType(clazz, null), inputMessage);
+    }
+
+    private Object read(final JavaType javaType, final HttpInputMessage inputMessage) throws IOException {
+        try {
+            return getReader(javaType).readValue(inputMessage.getBody());
+        } catch (final InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (final JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    protected void writeInternal(final Object object, @Nullable final Type type,
+            final HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+
+        if (object instanceof MappingJacksonValue) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        final MediaType contentType = outputMessage.getHeaders().getContentType();
+        final JsonEncoding encoding = getJsonEncoding(contentType);
+        final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody(), encoding);
+
+        try {
+            writePrefix(generator, object);
+            getWriter(object, type).writeValue(generator, object);
+            writeSuffix(generator, object);
+            generator.flush();
+        } catch (final InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (final JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private ObjectReader getReader(final JavaType javaType) {
+        return readers().computeIfAbsent(javaType, objectMapper::readerFor);
+    }
+
+    /**
+     * Container types and types that match the runtime type exactly are written as declared, e.g. to preserve the
+     * element type of a list or the type arguments of a generic class, everything else is written based on its runtime
+     * type, e.g. a subclass of the declared type.
+     */
+    private ObjectWriter getWriter(final Object object, @Nullable final Type type) {
+        if (type != null && TypeUtils.isAssignable(type, object.getClass())) {
+            final JavaType javaType = getJavaType(type, null);
+
+            if (javaType.isContainerType() || javaType.hasRawClass(object.getClass())) {
+                return getWriter(javaType);
+            }
+        }
+
+        return getWriter(objectMapper.constructType(object.getClass()));
+    }
+
+    private ObjectWriter getWriter(final JavaType javaType) {
+        return writers().computeIfAbsent(javaType, objectMapper::writerFor);
+    }
+
+    private ConcurrentMap<JavaType, ObjectReader> readers() {
+        // null during construction, i.e. if the super constructor calls an overridden method
+        return readers == null ? (readers = new ConcurrentHashMap<>()) : readers;
+    }
+
+    private ConcurrentMap<JavaType, ObjectWriter> writers() {
+        return writers == null ? (writers = new ConcurrentHashMap<>()) : writers;
+    }
+
+    @Override
+    public void setObjectMapper(final ObjectMapper objectMapper) {
+        super.setObjectMapper(objectMapper);
+        clear();
+    }
+
+    @Override
+    public void setPrettyPrint(final boolean prettyPrint) {
+        super.setPrettyPrint(prettyPrint);
+        clear();
+    }
+
+    private void clear() {
+        readers().clear();
+        writers().clear();
+    }
+
+}
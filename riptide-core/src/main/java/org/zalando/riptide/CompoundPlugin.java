@@ -21,6 +21,17 @@ final class CompoundPlugin implements Plugin {
         return result;
     }
 
+    @Override
+    public RequestExecution interceptAfterRouting(final RequestArguments arguments, final RequestExecution execution) {
+        RequestExecution result = execution;
+
+        for (final Plugin plugin : plugins) {
+            result = plugin.interceptAfterRouting(arguments, result);
+        }
+
+        return result;
+    }
+
     @Override
     public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
         RequestExecution result = execution;
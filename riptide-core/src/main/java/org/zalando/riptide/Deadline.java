@@ -0,0 +1,125 @@
+package org.zalando.riptide;
+
+import com.google.common.base.Ticker;
+import org.apiguardian.api.API;
+import org.springframework.http.HttpHeaders;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A point in time after which the caller is no longer interested in the result of a request. Plugins that apply
+ * timeouts, retries or backup requests only ever use the remaining budget of a deadline.
+ *
+ * Deadlines are either set explicitly per request using {@link Requester#deadline(Deadline)} or are inherited
+ * from the calling thread, see {@link #activate()}.
+ */
+@API(status = EXPERIMENTAL)
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final Ticker ticker;
+    private final long nanos;
+
+    @Nullable
+    private final String header;
+
+    private Deadline(final Ticker ticker, final long nanos, @Nullable final String header) {
+        this.ticker = ticker;
+        this.nanos = nanos;
+        this.header = header;
+    }
+
+    public static Deadline after(final long amount, final TimeUnit unit) {
+        return after(amount, unit, Ticker.systemTicker());
+    }
+
+    static Deadline after(final long amount, final TimeUnit unit, final Ticker ticker) {
+        return new Deadline(ticker, ticker.read() + unit.toNanos(amount), null);
+    }
+
+    /**
+     * Propagates the remaining budget, in milliseconds, to the server using the given header.
+     *
+     * @param header the header name, e.g. {@code X-Request-Timeout}
+     * @return a deadline that will be propagated
+     */
+    public Deadline propagateAs(final String header) {
+        return new Deadline(ticker, nanos, header);
+    }
+
+    public long remaining(final TimeUnit unit) {
+        return unit.convert(nanos - ticker.read(), NANOSECONDS);
+    }
+
+    public boolean isExpired() {
+        return nanos - ticker.read() <= 0;
+    }
+
+    @Nullable
+    public String getHeader() {
+        return header;
+    }
+
+    void propagate(final HttpHeaders headers) {
+        if (header != null) {
+            headers.set(header, String.valueOf(Math.max(0, remaining(MILLISECONDS))));
+        }
+    }
+
+    /**
+     * Makes this deadline the current one of the calling thread, i.e. all requests that are started on this thread
+     * without an explicit deadline will inherit it.
+     *
+     * <pre>{@code
+     * try (Deadline.Scope ignored = Deadline.after(2, SECONDS).activate()) {
+     *     http.get("/users").call(pass()).join();
+     * }
+     * }</pre>
+     *
+     * @return a scope that restores the previous deadline when closed
+     */
+    public Scope activate() {
+        @Nullable final Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> restore(previous);
+    }
+
+    private static void restore(@Nullable final Deadline previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Nullable
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param deadline an optional deadline
+     * @param timeout the timeout that applies if there is no deadline or if the deadline is further away
+     * @param unit the time unit of the timeout
+     * @return the smaller one of the given timeout and the remaining budget, in nanoseconds
+     */
+    public static long remaining(@Nullable final Deadline deadline, final long timeout, final TimeUnit unit) {
+        final long nanos = unit.toNanos(timeout);
+        return deadline == null ? nanos : Math.min(nanos, deadline.remaining(NANOSECONDS));
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
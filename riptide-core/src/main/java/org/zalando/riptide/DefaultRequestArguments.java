@@ -53,4 +53,7 @@ public final class DefaultRequestArguments implements RequestArguments {
     @Wither
     Object body;
 
+    @Wither
+    Deadline deadline;
+
 }
@@ -1,6 +1,7 @@
 package org.zalando.riptide;
 
 import com.google.common.collect.ForwardingObject;
+import org.apiguardian.api.API;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
@@ -8,7 +9,13 @@ import org.springframework.http.client.ClientHttpResponse;
 import java.io.IOException;
 import java.io.InputStream;
 
-abstract class ForwardingClientHttpResponse extends ForwardingObject implements ClientHttpResponse {
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link ClientHttpResponse response} decorator. {@link Timings} of the decorated response stay accessible.
+ */
+@API(status = EXPERIMENTAL)
+public abstract class ForwardingClientHttpResponse extends ForwardingObject implements ClientHttpResponse {
 
     @Override
     protected abstract ClientHttpResponse delegate();
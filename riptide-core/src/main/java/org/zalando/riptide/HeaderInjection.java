@@ -0,0 +1,72 @@
+package org.zalando.riptide;
+
+import org.apiguardian.api.API;
+import org.springframework.http.HttpHeaders;
+
+import javax.annotation.Nullable;
+import java.util.function.Consumer;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Adds headers to requests that are sent on the current thread. Requests are created synchronously as part of
+ * executing the innermost {@link RequestExecution}, i.e. a {@link Plugin plugin} that starts an injection right before
+ * calling {@link RequestExecution#execute()} can add headers that depend on the individual attempt, e.g. tracing
+ * context:
+ *
+ * <pre>{@code
+ * try (HeaderInjection injection = HeaderInjection.start(headers -> headers.set("X-Attempt", "1"))) {
+ *     return execution.execute();
+ * }
+ * }</pre>
+ *
+ * Headers that were passed to the request explicitly take precedence.
+ */
+@API(status = EXPERIMENTAL)
+public final class HeaderInjection implements AutoCloseable {
+
+    private static final ThreadLocal<HeaderInjection> CURRENT = new ThreadLocal<>();
+
+    @Nullable
+    private final HeaderInjection previous;
+
+    private final Consumer<HttpHeaders> injector;
+
+    private HeaderInjection(@Nullable final HeaderInjection previous, final Consumer<HttpHeaders> injector) {
+        this.previous = previous;
+        this.injector = injector;
+    }
+
+    public static HeaderInjection start(final Consumer<HttpHeaders> injector) {
+        final HeaderInjection injection = new HeaderInjection(CURRENT.get(), injector);
+        CURRENT.set(injection);
+        return injection;
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static void apply(final HttpHeaders headers) {
+        @Nullable final HeaderInjection current = CURRENT.get();
+
+        if (current != null) {
+            current.inject(headers);
+        }
+    }
+
+    private void inject(final HttpHeaders headers) {
+        if (previous != null) {
+            // outer injections first, so that inner ones can override them
+            previous.inject(headers);
+        }
+
+        injector.accept(headers);
+    }
+
+}
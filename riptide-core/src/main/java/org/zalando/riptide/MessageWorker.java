@@ -3,9 +3,11 @@ package org.zalando.riptide;
 import com.google.common.reflect.TypeToken;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.client.AsyncClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -14,7 +16,9 @@ import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 
 import javax.annotation.Nullable;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -52,7 +56,13 @@ final class MessageWorker implements MessageReader, MessageWriter {
 
     private <I> I readBody(final Type type, final ClientHttpResponse response) throws IOException {
         final ResponseExtractor<I> extractor = new HttpMessageConverterExtractor<>(type, converters);
-        return extractor.extractData(response);
+        final long startTime = System.nanoTime();
+
+        try {
+            return extractor.extractData(response);
+        } finally {
+            Timings.record(response, Timings.Phase.DESERIALIZATION, startTime);
+        }
     }
 
     private <I> void closeIfNecessary(final I body, final ClientHttpResponse response) {
@@ -82,12 +92,88 @@ final class MessageWorker implements MessageReader, MessageWriter {
         final Class<?> type = body.getClass();
         @Nullable final MediaType contentType = headers.getContentType();
     
-        converters.stream()
-                .filter(converter -> converter.canWrite(type, contentType))
+        final HttpMessageConverter<T> converter = converters.stream()
+                .filter(candidate -> candidate.canWrite(type, contentType))
                 .map(this::<T>cast)
                 .findFirst()
-                .orElseThrow(() -> fail(type, contentType))
-                .write(body, contentType, request);
+                .orElseThrow(() -> fail(type, contentType));
+
+        @Nullable final RequestBodyCounter counter = RequestBodyCounter.current();
+
+        if (counter == null) {
+            converter.write(body, contentType, request);
+        } else if (request instanceof StreamingHttpOutputMessage) {
+            // the body is written later, when the request is being sent, usually on a different thread
+            converter.write(body, contentType, new CountingStreamingHttpOutputMessage(request, counter));
+        } else {
+            converter.write(body, contentType, new CountingHttpOutputMessage(request, counter));
+        }
+    }
+
+    private static class CountingHttpOutputMessage implements HttpOutputMessage {
+
+        final HttpOutputMessage message;
+        final RequestBodyCounter counter;
+
+        @Nullable
+        private OutputStream body;
+
+        private CountingHttpOutputMessage(final HttpOutputMessage message, final RequestBodyCounter counter) {
+            this.message = message;
+            this.counter = counter;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingOutputStream(message.getBody(), counter);
+            }
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return message.getHeaders();
+        }
+
+    }
+
+    private static final class CountingStreamingHttpOutputMessage extends CountingHttpOutputMessage
+            implements StreamingHttpOutputMessage {
+
+        private CountingStreamingHttpOutputMessage(final HttpOutputMessage message, final RequestBodyCounter counter) {
+            super(message, counter);
+        }
+
+        @Override
+        public void setBody(final Body body) {
+            ((StreamingHttpOutputMessage) message).setBody(stream ->
+                    body.writeTo(new CountingOutputStream(stream, counter)));
+        }
+
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private final RequestBodyCounter counter;
+
+        private CountingOutputStream(final OutputStream stream, final RequestBodyCounter counter) {
+            super(stream);
+            this.counter = counter;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            counter.add(1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            counter.add(len);
+        }
+
     }
 
     @SuppressWarnings("unchecked") // guarded by HttpMessageConverter#canWrite
@@ -4,9 +4,12 @@ import org.apiguardian.api.API;
 import org.springframework.http.client.ClientHttpResponse;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ObjectArrays.concat;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.zalando.fauxpas.FauxPas.partially;
 
@@ -17,14 +20,44 @@ import static org.zalando.fauxpas.FauxPas.partially;
  *
  * This plugin will modify the stack trace of any thrown exception and appending the stack trace elements of the
  * original stack trace
+ *
+ * Capturing a stack trace is one of the more expensive things done per request. Applications with a high request
+ * rate may {@link #withSampleRate(int) sample} requests instead, i.e. only failures of sampled requests will carry
+ * the original stack trace.
  */
 @API(status = STABLE)
 public final class OriginalStackTracePlugin implements Plugin {
 
+    private final int sampleRate;
+    private final AtomicLong requests = new AtomicLong();
+
+    public OriginalStackTracePlugin() {
+        this(1);
+    }
+
+    private OriginalStackTracePlugin(final int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @param sampleRate keeps the original stack trace of every n-th request, {@code 1} keeps all of them
+     * @return a new plugin
+     */
+    @API(status = EXPERIMENTAL)
+    public OriginalStackTracePlugin withSampleRate(final int sampleRate) {
+        checkArgument(sampleRate > 0, "Sample rate must be positive");
+        return new OriginalStackTracePlugin(sampleRate);
+    }
+
     @Override
     public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
         return () -> {
             final CompletableFuture<ClientHttpResponse> future = execution.execute();
+
+            if (!isSampled()) {
+                return future;
+            }
+
             // let's do the "heavy" stack trace work while the request is already on its way
             final Supplier<StackTraceElement[]> original = keepOriginalStackTrace();
             return future.exceptionally(partially(cause -> {
@@ -34,6 +67,11 @@ public final class OriginalStackTracePlugin implements Plugin {
         };
     }
 
+    private boolean isSampled() {
+        // avoids contention on the counter in the default case
+        return sampleRate == 1 || requests.getAndIncrement() % sampleRate == 0;
+    }
+
     /**
      * A good way to store a stacktrace away efficiently is to simply construct an exception. Later, if you
      * want to inspect the stacktrace call exception.getStackTrace() which will do the slow work of
@@ -39,6 +39,8 @@ public interface RequestArguments {
 
     Object getBody();
 
+    Deadline getDeadline();
+
     RequestArguments withBaseUrl(@Nullable URI baseUrl);
 
     RequestArguments withUrlResolution(@Nullable UrlResolution resolution);
@@ -59,6 +61,8 @@ public interface RequestArguments {
 
     RequestArguments withBody(@Nullable Object body);
 
+    RequestArguments withDeadline(@Nullable Deadline deadline);
+
     default RequestArguments withRequestUri() {
         @Nullable final URI uri = getUri();
         @Nullable final URI unresolvedUri;
@@ -111,7 +115,7 @@ public interface RequestArguments {
 
     static RequestArguments create() {
         return new DefaultRequestArguments(null, null, null, null, ImmutableList.of(), null, ImmutableMultimap.of(),
-                null, ImmutableMultimap.of(), null);
+                null, ImmutableMultimap.of(), null, null);
     }
 
 }
@@ -0,0 +1,76 @@
+package org.zalando.riptide;
+
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Counts the bytes of request bodies of requests that are created on the current thread. Requests are created
+ * synchronously as part of executing the innermost {@link RequestExecution}, i.e. a {@link Plugin plugin} that starts
+ * a counter right before calling {@link RequestExecution#execute()} sees the size of the body of that attempt:
+ *
+ * <pre>{@code
+ * try (RequestBodyCounter counter = RequestBodyCounter.start()) {
+ *     return execution.execute().whenComplete((response, throwable) -> record(counter.getCount()));
+ * }
+ * }</pre>
+ *
+ * Streaming request factories write the body while the request is being sent, i.e. after
+ * {@link RequestExecution#execute()} returned and usually on a different thread. The count is only complete once the
+ * response arrived.
+ *
+ * Bodies are only counted while a counter is active, i.e. there is no overhead otherwise.
+ */
+@API(status = EXPERIMENTAL)
+public final class RequestBodyCounter implements AutoCloseable {
+
+    private static final ThreadLocal<RequestBodyCounter> CURRENT = new ThreadLocal<>();
+
+    @Nullable
+    private final RequestBodyCounter previous;
+
+    private final AtomicLong count = new AtomicLong();
+
+    private RequestBodyCounter(@Nullable final RequestBodyCounter previous) {
+        this.previous = previous;
+    }
+
+    public static RequestBodyCounter start() {
+        final RequestBodyCounter counter = new RequestBodyCounter(CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * @return the number of bytes that were written so far
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Nullable
+    static RequestBodyCounter current() {
+        return CURRENT.get();
+    }
+
+    void add(final long bytes) {
+        count.addAndGet(bytes);
+
+        if (previous != null) {
+            previous.add(bytes);
+        }
+    }
+
+}
@@ -39,6 +39,9 @@ public final class Requester extends Dispatcher {
     private final Multimap<String, String> query = LinkedHashMultimap.create();
     private final HttpHeaders headers = new HttpHeaders();
 
+    @Nullable
+    private Deadline deadline = Deadline.current();
+
     Requester(final AsyncClientHttpRequestFactory requestFactory, final MessageWorker worker,
             final RequestArguments arguments, final Plugin plugin) {
         this.requestFactory = requestFactory;
@@ -105,6 +108,18 @@ public final class Requester extends Dispatcher {
         return this;
     }
 
+    /**
+     * Limits the time that this request, including all retries and backup requests, may take. Overrides the
+     * deadline that was inherited from the {@link Deadline#current() current thread}, if any.
+     *
+     * @param deadline the deadline of this request
+     * @return this requester
+     */
+    public Requester deadline(@Nullable final Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
     public <T> Dispatcher body(@Nullable final T body) {
         return execute(body);
     }
@@ -123,6 +138,7 @@ public final class Requester extends Dispatcher {
                 .withRequestUri()
                 .withHeaders(builder.build())
                 .withBody(body)
+                .withDeadline(deadline)
         );
     }
 
@@ -165,7 +181,17 @@ public final class Requester extends Dispatcher {
 
         private CompletableFuture<ClientHttpResponse> send() throws IOException {
             final AsyncClientHttpRequest request = createRequest();
+            @Nullable final Deadline deadline = arguments.getDeadline();
+
+            if (deadline != null) {
+                // streaming requests commit their headers as soon as the body is being written
+                deadline.propagate(request.getHeaders());
+            }
+
+            HeaderInjection.apply(request.getHeaders());
+
             worker.write(request, entity);
+
             final ListenableFuture<ClientHttpResponse> original = request.executeAsync();
 
             final CompletableFuture<ClientHttpResponse> future = preserveCancelability(original);
@@ -0,0 +1,305 @@
+package org.zalando.riptide;
+
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A hashed timing wheel that is meant to be shared by all clients. Scheduling and cancelling a task are both O(1) and
+ * don't acquire any locks, which makes it a good fit for timeouts that are almost always cancelled before they expire.
+ * Tasks are only checked once per tick, i.e. they will expire up to one tick late.
+ *
+ * Expired tasks run on the wheel's single worker thread and must therefore be short, see
+ * {@link TimingWheelScheduler} for a way to run them on a different executor.
+ */
+@API(status = EXPERIMENTAL)
+public final class TimingWheel implements AutoCloseable {
+
+    /**
+     * A handle of a scheduled task.
+     */
+    public interface Timeout {
+
+        /**
+         * @return true if the task was cancelled, false if it already expired or was cancelled before
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+
+    }
+
+    private static final int INIT = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Thread worker;
+
+    private final Queue<Entry> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancelled = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = true;
+
+    public TimingWheel() {
+        this(10, MILLISECONDS, 512, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * @param tickDuration the precision of the wheel
+     * @param unit the time unit of the tick duration
+     * @param ticksPerWheel the number of buckets, will be rounded up to the next power of two
+     * @param threadFactory the factory for the single worker thread
+     */
+    public TimingWheel(final long tickDuration, final TimeUnit unit, final int ticksPerWheel,
+            final ThreadFactory threadFactory) {
+
+        checkArgument(tickDuration > 0, "Tick duration must be positive");
+        checkArgument(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30, "Ticks per wheel must be in (0, 2^30]");
+
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[powerOfTwo(ticksPerWheel)];
+        this.mask = wheel.length - 1;
+
+        for (int index = 0; index < wheel.length; index++) {
+            wheel[index] = new Bucket();
+        }
+
+        this.startTime = System.nanoTime();
+        this.worker = threadFactory.newThread(this::run);
+        worker.start();
+    }
+
+    private static int powerOfTwo(final int value) {
+        int result = 1;
+        while (result < value) {
+            result <<= 1;
+        }
+        return result;
+    }
+
+    /**
+     * @param task the task to run once the delay elapsed
+     * @param delay the delay
+     * @param unit the time unit of the delay
+     * @return a handle that allows to cancel the task
+     * @throws IllegalStateException if this wheel was closed already
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel was closed already");
+        }
+
+        final long nanos = unit.toNanos(Math.max(0, delay));
+        final long deadline = System.nanoTime() - startTime + nanos;
+
+        // guards against overflow of very long delays
+        final Entry entry = new Entry(task, nanos > 0 && deadline < 0 ? Long.MAX_VALUE : deadline);
+        scheduled.add(entry);
+        return entry;
+    }
+
+    /**
+     * Stops the worker thread. Pending tasks will never run.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+
+        while (running) {
+            final long deadline = awaitTick(tick);
+
+            if (!running) {
+                break;
+            }
+
+            removeCancelled();
+            transferScheduled(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private long awaitTick(final long tick) {
+        final long deadline = tickDuration * (tick + 1);
+
+        while (running) {
+            final long now = System.nanoTime() - startTime;
+            final long sleep = deadline - now;
+
+            if (sleep <= 0) {
+                return now;
+            }
+
+            LockSupport.parkNanos(this, sleep);
+        }
+
+        return deadline;
+    }
+
+    private void removeCancelled() {
+        @Nullable Entry entry;
+
+        while ((entry = cancelled.poll()) != null) {
+            if (entry.bucket != null) {
+                entry.bucket.remove(entry);
+            }
+        }
+    }
+
+    private void transferScheduled(final long tick) {
+        @Nullable Entry entry;
+
+        while ((entry = scheduled.poll()) != null) {
+            if (entry.state.get() == CANCELLED) {
+                continue;
+            }
+
+            final long expiration = entry.deadline / tickDuration;
+            entry.remainingRounds = (expiration - tick) / wheel.length;
+
+            // tasks that are already due go into the current bucket
+            final long target = Math.max(expiration, tick);
+            wheel[(int) (target & mask)].add(entry);
+        }
+    }
+
+    private final class Entry implements Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Entry previous;
+        private Entry next;
+
+        private Entry(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (state.compareAndSet(INIT, CANCELLED)) {
+                cancelled.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED)) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (final Throwable e) {
+                // the worker thread must survive failing tasks
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+
+    }
+
+    /**
+     * A doubly-linked list of entries that is only ever accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private Entry head;
+        private Entry tail;
+
+        void add(final Entry entry) {
+            entry.bucket = this;
+
+            if (head == null) {
+                head = tail = entry;
+            } else {
+                tail.next = entry;
+                entry.previous = tail;
+                tail = entry;
+            }
+        }
+
+        void expire(final long deadline) {
+            @Nullable Entry entry = head;
+
+            while (entry != null) {
+                final Entry next = entry.next;
+
+                if (entry.remainingRounds <= 0) {
+                    if (entry.deadline <= deadline) {
+                        remove(entry);
+                        entry.expire();
+                    }
+                } else if (entry.isCancelled()) {
+                    remove(entry);
+                } else {
+                    entry.remainingRounds--;
+                }
+
+                entry = next;
+            }
+        }
+
+        void remove(final Entry entry) {
+            if (entry.bucket != this) {
+                return;
+            }
+
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+
+            entry.previous = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+package org.zalando.riptide;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link ScheduledExecutorService} view of a shared {@link TimingWheel}. It allows plugins like the
+ * {@code TimeoutPlugin} or the {@code BackupRequestPlugin} to use a timing wheel rather than a heap-based delay queue.
+ * Tasks are timed by the wheel but run on the given executor. Timeouts and delays are lost if the executor rejects
+ * tasks, i.e. it should never reject, e.g. by using an unbounded queue. Rejected tasks fail and are logged.
+ *
+ * Shutting down this scheduler only rejects new tasks, the lifecycle of the wheel is managed separately. Periodic
+ * tasks are rescheduled on the wheel after every run.
+ */
+@API(status = EXPERIMENTAL)
+@Slf4j
+public final class TimingWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final TimingWheel wheel;
+    private final Executor executor;
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private volatile boolean shutdown;
+
+    public TimingWheelScheduler(final TimingWheel wheel, final Executor executor) {
+        this.wheel = wheel;
+        this.executor = executor;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return schedule(Executors.callable(command, null), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        checkNotShutdown();
+        return enqueue(new Task<>(callable, System.nanoTime() + unit.toNanos(delay), 0));
+    }
+
+    private <V> Task<V> enqueue(final Task<V> task) {
+        final long delay = task.getDelay(NANOSECONDS);
+
+        if (delay <= 0) {
+            executor.execute(task);
+        } else {
+            queueSize.incrementAndGet();
+            task.timeout = wheel.schedule(task::dispatch, delay, NANOSECONDS);
+        }
+
+        return task;
+    }
+
+    /**
+     * @return the number of tasks that are waiting for their delay to elapse
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay,
+            final long period, final TimeUnit unit) {
+        checkArgument(period > 0, "Period must be positive");
+        return schedulePeriodically(command, initialDelay, unit.toNanos(period), unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+            final long delay, final TimeUnit unit) {
+        checkArgument(delay > 0, "Delay must be positive");
+        return schedulePeriodically(command, initialDelay, -unit.toNanos(delay), unit);
+    }
+
+    private ScheduledFuture<?> schedulePeriodically(final Runnable command, final long initialDelay,
+            final long period, final TimeUnit unit) {
+        checkNotShutdown();
+        final long time = System.nanoTime() + unit.toNanos(initialDelay);
+        return enqueue(new Task<>(Executors.callable(command, null), time, period));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        checkNotShutdown();
+        executor.execute(command);
+    }
+
+    private void checkNotShutdown() {
+        if (shutdown) {
+            throw new RejectedExecutionException("Scheduler was shut down already");
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+        return shutdown;
+    }
+
+    private final class Task<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        private volatile long time;
+
+        /**
+         * Zero for one-shot tasks, positive for a fixed rate and negative for a fixed delay, just like
+         * {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+         */
+        private final long period;
+
+        @Nullable
+        private volatile TimingWheel.Timeout timeout;
+
+        private Task(final Callable<V> callable, final long time, final long period) {
+            super(callable);
+            this.time = time;
+            this.period = period;
+        }
+
+        private void dispatch() {
+            queueSize.decrementAndGet();
+
+            try {
+                executor.execute(this);
+            } catch (final RejectedExecutionException e) {
+                reject(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset() && !shutdown) {
+                time = period > 0 ? time + period : System.nanoTime() - period;
+
+                try {
+                    enqueue(this);
+                } catch (final RejectedExecutionException e) {
+                    reject(e);
+                }
+            }
+        }
+
+        private void reject(final RejectedExecutionException e) {
+            // nobody might be waiting for this task, e.g. a timeout, so we need to be loud about it
+            log.error("Executor rejected scheduled task, it will not run", e);
+            setException(e);
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+            @Nullable final TimingWheel.Timeout timeout = this.timeout;
+
+            if (cancelled && timeout != null && timeout.cancel()) {
+                queueSize.decrementAndGet();
+            }
+
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed that) {
+            return Long.compare(getDelay(NANOSECONDS), that.getDelay(NANOSECONDS));
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.zalando.riptide;
+
+import org.apiguardian.api.API;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Durations of the individual phases of a single attempt of a request. Filled by the HTTP engine and by routing at
+ * phase boundaries and attached to the {@link ClientHttpResponse response}, see {@link Timed}.
+ */
+@API(status = EXPERIMENTAL)
+public final class Timings {
+
+    public enum Phase {
+
+        /**
+         * Waiting for a thread of the client's executor.
+         */
+        QUEUE,
+
+        /**
+         * Waiting for a connection from the pool.
+         */
+        LEASE,
+
+        /**
+         * Establishing a new connection, including the TLS handshake.
+         */
+        CONNECT,
+
+        /**
+         * Sending the request and waiting for the response headers, i.e. mostly server time.
+         */
+        RESPONSE,
+
+        /**
+         * Reading and converting the response body.
+         */
+        DESERIALIZATION
+
+    }
+
+    /**
+     * A {@link ClientHttpResponse response} that exposes the timings of the attempt that produced it.
+     */
+    public interface Timed {
+
+        Timings getTimings();
+
+    }
+
+    private static final long ABSENT = -1;
+
+    private final AtomicLongArray durations = new AtomicLongArray(Phase.values().length);
+
+    public Timings() {
+        for (int index = 0; index < durations.length(); index++) {
+            durations.set(index, ABSENT);
+        }
+    }
+
+    /**
+     * Adds the given duration to the given phase. Phases that are passed multiple times, e.g. reading the same
+     * response twice, will be summed up.
+     *
+     * @param phase the phase
+     * @param duration the duration
+     * @param unit the time unit of the duration
+     */
+    public void record(final Phase phase, final long duration, final TimeUnit unit) {
+        final long nanos = unit.toNanos(duration);
+        durations.accumulateAndGet(phase.ordinal(), nanos, (previous, current) ->
+                previous == ABSENT ? current : previous + current);
+    }
+
+    /**
+     * @param phase the phase
+     * @return the duration of the given phase in nanoseconds, or empty if the phase wasn't passed, e.g. connecting
+     * when a pooled connection was reused
+     */
+    public OptionalLong get(final Phase phase) {
+        final long nanos = durations.get(phase.ordinal());
+        return nanos == ABSENT ? OptionalLong.empty() : OptionalLong.of(nanos);
+    }
+
+    /**
+     * @param response a response, optionally {@link ForwardingClientHttpResponse decorated}
+     * @return the timings of the given response, if it's {@link Timed timed}
+     */
+    public static Optional<Timings> of(final ClientHttpResponse response) {
+        if (response instanceof Timed) {
+            return Optional.of(((Timed) response).getTimings());
+        } else if (response instanceof ForwardingClientHttpResponse) {
+            return of(((ForwardingClientHttpResponse) response).delegate());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    static void record(final ClientHttpResponse response, final Phase phase, final long startTime) {
+        of(response).ifPresent(timings -> timings.record(phase, System.nanoTime() - startTime, NANOSECONDS));
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.zalando.riptide;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.zalando.riptide.model.Success;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.reflect.TypeToken.of;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_XML;
+import static org.zalando.riptide.Types.listOf;
+
+public final class CachingJackson2HttpMessageConverterTest {
+
+    private final CachingJackson2HttpMessageConverter unit =
+            new CachingJackson2HttpMessageConverter(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    public void shouldReadClass() throws IOException {
+        final Success success = (Success) unit.read(Success.class, input("{\"happy\":true}"));
+
+        assertThat(success.isHappy(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadGenericType() throws IOException {
+        final List<Success> list = (List<Success>) unit.read(listOf(Success.class).getType(), null,
+                input("[{\"happy\":true},{\"happy\":false}]"));
+
+        assertThat(list, hasSize(2));
+        assertThat(list.get(0), is(instanceOf(Success.class)));
+        assertThat(list.get(1).isHappy(), is(false));
+    }
+
+    @Test
+    public void shouldReadRepeatedly() throws IOException {
+        unit.warmUp(of(Success.class));
+
+        assertThat(((Success) unit.read(Success.class, input("{\"happy\":true}"))).isHappy(), is(true));
+        assertThat(((Success) unit.read(Success.class, input("{\"happy\":false}"))).isHappy(), is(false));
+    }
+
+    @Test
+    public void shouldSupportMediaTypesOfWarmedUpTypes() {
+        unit.warmUp(of(Success.class), listOf(Success.class));
+
+        assertThat(unit.canRead(Success.class, null, APPLICATION_JSON), is(true));
+        assertThat(unit.canRead(listOf(Success.class).getType(), null, APPLICATION_JSON), is(true));
+        assertThat(unit.canRead(Success.class, null, APPLICATION_XML), is(false));
+    }
+
+    @Test(expected = HttpMessageNotReadableException.class)
+    public void shouldFailOnInvalidInput() throws IOException {
+        unit.read(Success.class, input("{"));
+    }
+
+    @Test
+    public void shouldWriteRuntimeType() throws IOException {
+        final MockHttpOutputMessage output = new MockHttpOutputMessage();
+        unit.write(new Success(true), Object.class, APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(UTF_8), is("{\"happy\":true}"));
+    }
+
+    @Test
+    public void shouldWriteWarmedUpType() throws IOException {
+        unit.warmUp(of(Success.class));
+
+        final MockHttpOutputMessage first = new MockHttpOutputMessage();
+        unit.write(new Success(true), Success.class, APPLICATION_JSON, first);
+
+        final MockHttpOutputMessage second = new MockHttpOutputMessage();
+        unit.write(new Success(false), null, APPLICATION_JSON, second);
+
+        assertThat(first.getBodyAsString(UTF_8), is("{\"happy\":true}"));
+        assertThat(second.getBodyAsString(UTF_8), is("{\"happy\":false}"));
+    }
+
+    @Test
+    public void shouldWriteContainerType() throws IOException {
+        unit.warmUp(listOf(Success.class));
+
+        final MockHttpOutputMessage output = new MockHttpOutputMessage();
+        unit.write(singletonList(new Success(false)), listOf(Success.class).getType(), APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(UTF_8), is("[{\"happy\":false}]"));
+    }
+
+    @Test
+    public void shouldWriteJacksonValue() throws IOException {
+        final MockHttpOutputMessage output = new MockHttpOutputMessage();
+        unit.write(new MappingJacksonValue(new Success(true)), APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(UTF_8), is("{\"happy\":true}"));
+    }
+
+    @Test
+    public void shouldClearCachesWhenReconfigured() throws IOException {
+        unit.warmUp(listOf(Success.class));
+        unit.setPrettyPrint(true);
+
+        final MockHttpOutputMessage output = new MockHttpOutputMessage();
+        unit.write(singletonList(new Success(false)), listOf(Success.class).getType(), APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(UTF_8), containsString("\n"));
+    }
+
+    private static MockHttpInputMessage input(final String content) {
+        return new MockHttpInputMessage(content.getBytes(UTF_8));
+    }
+
+}
@@ -0,0 +1,96 @@
+package org.zalando.riptide;
+
+import com.google.common.base.Ticker;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class DeadlineTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return time.get();
+        }
+    };
+
+    @Test
+    public void shouldTrackRemainingBudget() {
+        final Deadline unit = Deadline.after(2, SECONDS, ticker);
+
+        assertThat(unit.remaining(MILLISECONDS), is(2000L));
+        assertThat(unit.isExpired(), is(false));
+
+        time.addAndGet(SECONDS.toNanos(2));
+
+        assertThat(unit.remaining(MILLISECONDS), is(0L));
+        assertThat(unit.isExpired(), is(true));
+    }
+
+    @Test
+    public void shouldUseSmallerOfTimeoutAndRemainingBudget() {
+        final Deadline unit = Deadline.after(2, SECONDS, ticker);
+
+        assertThat(Deadline.remaining(null, 1, SECONDS), is(SECONDS.toNanos(1)));
+        assertThat(Deadline.remaining(unit, 1, SECONDS), is(SECONDS.toNanos(1)));
+        assertThat(Deadline.remaining(unit, 3, SECONDS), is(SECONDS.toNanos(2)));
+    }
+
+    @Test
+    public void shouldPropagateRemainingBudget() {
+        final Deadline unit = Deadline.after(2, SECONDS, ticker).propagateAs("X-Request-Timeout");
+        final HttpHeaders headers = new HttpHeaders();
+
+        time.addAndGet(MILLISECONDS.toNanos(500));
+        unit.propagate(headers);
+
+        assertThat(headers.getFirst("X-Request-Timeout"), is("1500"));
+    }
+
+    @Test
+    public void shouldNotPropagateNegativeBudget() {
+        final Deadline unit = Deadline.after(1, NANOSECONDS, ticker).propagateAs("X-Request-Timeout");
+        final HttpHeaders headers = new HttpHeaders();
+
+        time.addAndGet(SECONDS.toNanos(1));
+        unit.propagate(headers);
+
+        assertThat(headers.getFirst("X-Request-Timeout"), is("0"));
+    }
+
+    @Test
+    public void shouldNotPropagateWithoutHeader() {
+        final HttpHeaders headers = new HttpHeaders();
+
+        Deadline.after(1, SECONDS, ticker).propagate(headers);
+
+        assertThat(headers.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldActivateAndRestore() {
+        final Deadline outer = Deadline.after(2, SECONDS, ticker);
+        final Deadline inner = Deadline.after(1, SECONDS, ticker);
+
+        try (Deadline.Scope ignored = outer.activate()) {
+            try (Deadline.Scope ignored2 = inner.activate()) {
+                assertThat(Deadline.current(), is(sameInstance(inner)));
+            }
+            assertThat(Deadline.current(), is(sameInstance(outer)));
+        }
+
+        assertThat(Deadline.current(), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.zalando.riptide;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.zalando.riptide.PassRoute.pass;
+
+public final class HeaderInjectionTest {
+
+    private final MockSetup setup = new MockSetup();
+    private final MockRestServiceServer server = setup.getServer();
+
+    private final Http unit = setup.getHttpBuilder()
+            .plugin(new Plugin() {
+                @Override
+                public RequestExecution interceptBeforeRouting(final RequestArguments arguments,
+                        final RequestExecution execution) {
+                    return () -> {
+                        try (HeaderInjection outer = HeaderInjection.start(headers -> {
+                            headers.set("X-Outer", "outer");
+                            headers.set("X-Inner", "outer");
+                        })) {
+                            try (HeaderInjection inner = HeaderInjection.start(headers ->
+                                    headers.set("X-Inner", "inner"))) {
+                                return execution.execute();
+                            }
+                        }
+                    };
+                }
+
+                @Override
+                public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+                    return execution;
+                }
+            })
+            .build();
+
+    @After
+    public void verify() {
+        server.verify();
+    }
+
+    @Test
+    public void shouldInjectHeaders() {
+        server.expect(requestTo("https://api.example.com/"))
+                .andExpect(header("X-Outer", "outer"))
+                .andExpect(header("X-Inner", "inner"))
+                .andRespond(withSuccess());
+
+        unit.get("/").call(pass()).join();
+    }
+
+    @Test
+    public void shouldPreferExplicitHeaders() {
+        server.expect(requestTo("https://api.example.com/"))
+                .andExpect(header("X-Outer", "explicit"))
+                .andRespond(withSuccess());
+
+        unit.get("/").header("X-Outer", "explicit").call(pass()).join();
+    }
+
+    @Test
+    public void shouldOnlyInjectWhileActive() {
+        try (HeaderInjection injection = HeaderInjection.start(headers -> headers.set("X-Test", "test"))) {
+            final HttpHeaders headers = new HttpHeaders();
+            HeaderInjection.apply(headers);
+            assertThat(headers.getFirst("X-Test"), is("test"));
+        }
+
+        final HttpHeaders headers = new HttpHeaders();
+        HeaderInjection.apply(headers);
+        assertThat(headers.getFirst("X-Test"), is(nullValue()));
+    }
+
+}
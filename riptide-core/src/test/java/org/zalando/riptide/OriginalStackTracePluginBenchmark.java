@@ -0,0 +1,84 @@
+package org.zalando.riptide;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.http.HttpMethod.GET;
+
+/**
+ * Compares the overhead of the {@link OriginalStackTracePlugin} per request, when keeping every stack trace and when
+ * sampling, against no plugin at all. Run using {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OriginalStackTracePluginBenchmark {
+
+    private RequestExecution none;
+    private RequestExecution every;
+    private RequestExecution sampled;
+
+    @Setup
+    public void setUp() {
+        final RequestArguments arguments = RequestArguments.create()
+                .withMethod(GET)
+                .withRequestUri(URI.create("https://api.example.com/users/123"));
+
+        final ClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        final RequestExecution execution = () -> CompletableFuture.completedFuture(response);
+
+        none = execution;
+        every = new OriginalStackTracePlugin().prepare(arguments, execution);
+        sampled = new OriginalStackTracePlugin().withSampleRate(100).prepare(arguments, execution);
+    }
+
+    @Benchmark
+    public Object none() throws Exception {
+        return deep(32, none);
+    }
+
+    @Benchmark
+    public Object every() throws Exception {
+        return deep(32, every);
+    }
+
+    @Benchmark
+    public Object sampled() throws Exception {
+        return deep(32, sampled);
+    }
+
+    /**
+     * Stack traces of real applications are deep, i.e. the cost of capturing them grows with the depth of the stack.
+     */
+    private static Object deep(final int depth, final RequestExecution execution) throws Exception {
+        return depth == 0 ? execution.execute() : deep(depth - 1, execution);
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OriginalStackTracePluginBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
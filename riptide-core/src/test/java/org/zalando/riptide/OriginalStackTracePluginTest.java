@@ -0,0 +1,12 @@
+package org.zalando.riptide;
+
+import org.junit.Test;
+
+public final class OriginalStackTracePluginTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveSampleRate() {
+        new OriginalStackTracePlugin().withSampleRate(0);
+    }
+
+}
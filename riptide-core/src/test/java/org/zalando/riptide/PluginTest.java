@@ -67,6 +67,24 @@ public final class PluginTest {
         shouldRunInCorrectOrder(compound(state, argument)::interceptAfterRouting);
     }
 
+    @Test
+    public void shouldInterceptAfterRouting() throws IOException {
+        final Plugin after = new Plugin() {
+            @Override
+            public RequestExecution interceptAfterRouting(final RequestArguments arguments,
+                    final RequestExecution execution) {
+                return state.prepare(arguments, execution);
+            }
+
+            @Override
+            public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+                return execution;
+            }
+        };
+
+        shouldRunInCorrectOrder(compound(after, argument)::interceptAfterRouting);
+    }
+
     private void shouldRunInCorrectOrder(
             final BiFunction<RequestArguments, RequestExecution, RequestExecution> function) throws IOException {
 
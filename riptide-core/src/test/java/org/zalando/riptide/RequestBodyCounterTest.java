@@ -0,0 +1,119 @@
+package org.zalando.riptide;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.StreamingHttpOutputMessage.Body;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.TEXT_PLAIN;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.zalando.riptide.PassRoute.pass;
+
+public final class RequestBodyCounterTest {
+
+    private final AtomicLong count = new AtomicLong(-1);
+
+    private final MockSetup setup = new MockSetup();
+    private final MockRestServiceServer server = setup.getServer();
+
+    private final Http unit = setup.getHttpBuilder()
+            .plugin(new Plugin() {
+                @Override
+                public RequestExecution interceptBeforeRouting(final RequestArguments arguments,
+                        final RequestExecution execution) {
+                    return () -> {
+                        try (RequestBodyCounter counter = RequestBodyCounter.start()) {
+                            try {
+                                return execution.execute();
+                            } finally {
+                                count.set(counter.getCount());
+                            }
+                        }
+                    };
+                }
+
+                @Override
+                public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+                    return execution;
+                }
+            })
+            .build();
+
+    @After
+    public void verify() {
+        server.verify();
+    }
+
+    @Test
+    public void shouldCountRequestBody() {
+        server.expect(requestTo("https://api.example.com/")).andRespond(withSuccess());
+
+        unit.post("/").contentType(TEXT_PLAIN).body("Hello, world!").call(pass()).join();
+
+        assertThat(count.get(), is(13L));
+    }
+
+    @Test
+    public void shouldCountMissingBodyAsZero() {
+        server.expect(requestTo("https://api.example.com/")).andRespond(withSuccess());
+
+        unit.get("/").call(pass()).join();
+
+        assertThat(count.get(), is(0L));
+    }
+
+    @Test
+    public void shouldCountStreamingRequestBody() throws IOException {
+        final StreamingAsyncClientHttpRequest request = mock(StreamingAsyncClientHttpRequest.class);
+        when(request.getHeaders()).thenReturn(new HttpHeaders());
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(TEXT_PLAIN);
+
+        final MessageWorker worker = new MessageWorker(singletonList(new StringHttpMessageConverter()));
+
+        try (RequestBodyCounter counter = RequestBodyCounter.start()) {
+            worker.write(request, new HttpEntity<>("Hello, world!", headers));
+
+            final ArgumentCaptor<Body> body = ArgumentCaptor.forClass(Body.class);
+            Mockito.verify(request).setBody(body.capture());
+
+            // streaming bodies are written later, when the request is being sent
+            assertThat(counter.getCount(), is(0L));
+            body.getValue().writeTo(new ByteArrayOutputStream());
+            assertThat(counter.getCount(), is(13L));
+        }
+    }
+
+    @Test
+    public void shouldOnlyCountWhileActive() {
+        try (RequestBodyCounter counter = RequestBodyCounter.start()) {
+            assertThat(RequestBodyCounter.current(), is(counter));
+        }
+
+        assertThat(RequestBodyCounter.current(), is(nullValue()));
+    }
+
+    private interface StreamingAsyncClientHttpRequest extends AsyncClientHttpRequest, StreamingHttpOutputMessage {
+
+    }
+
+}
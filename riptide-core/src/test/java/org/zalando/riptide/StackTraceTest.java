@@ -68,6 +68,22 @@ public final class StackTraceTest {
         assertThat(getStackTraceAsString(exception), not(containsString("StackTraceTest.execute(")));
     }
 
+    @Test
+    public void shouldOnlyKeepOriginalStackTraceOfSampledRequests() throws Exception {
+        driver.addExpectation(onRequestTo("/"),
+                giveResponse("", "application/json"));
+
+        final Http unit = configureRest()
+                .plugin(new OriginalStackTracePlugin().withSampleRate(2))
+                .build();
+
+        final Exception sampled = perform(execute(unit.get("/")));
+        final Exception skipped = perform(execute(unit.get("/")));
+
+        assertThat(getStackTraceAsString(sampled), containsString("StackTraceTest.execute("));
+        assertThat(getStackTraceAsString(skipped), not(containsString("StackTraceTest.execute(")));
+    }
+
     private HttpBuilder configureRest() {
         return Http.builder()
                 .baseUrl(driver.getBaseUrl())
@@ -0,0 +1,148 @@
+package org.zalando.riptide;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public final class TimingWheelSchedulerTest {
+
+    private final TimingWheel wheel = new TimingWheel(1, MILLISECONDS, 64, Executors.defaultThreadFactory());
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final TimingWheelScheduler unit = new TimingWheelScheduler(wheel, executor);
+
+    @After
+    public void tearDown() {
+        wheel.close();
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldRunCallableAfterDelay() throws InterruptedException, ExecutionException, TimeoutException {
+        final ScheduledFuture<String> future = unit.schedule(() -> "done", 20, MILLISECONDS);
+
+        assertThat(future.getDelay(MILLISECONDS), is(greaterThan(0L)));
+        assertThat(future.get(1, SECONDS), is("done"));
+        assertThat(future.getDelay(MILLISECONDS), is(lessThan(0L)));
+    }
+
+    @Test
+    public void shouldRunImmediately() throws InterruptedException, ExecutionException, TimeoutException {
+        final ScheduledFuture<String> future = unit.schedule(() -> "done", 0, MILLISECONDS);
+
+        assertThat(future.get(1, SECONDS), is("done"));
+    }
+
+    @Test
+    public void shouldNotRunCancelledTask() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ScheduledFuture<?> future = unit.schedule(runs::incrementAndGet, 20, MILLISECONDS);
+
+        assertThat(future.cancel(true), is(true));
+
+        Thread.sleep(100);
+
+        assertThat(future.isCancelled(), is(true));
+        assertThat(runs.get(), is(0));
+    }
+
+    @Test
+    public void shouldTrackQueueSize() throws InterruptedException, ExecutionException, TimeoutException {
+        final ScheduledFuture<?> cancelled = unit.schedule(() -> "cancelled", 1, SECONDS);
+        final ScheduledFuture<String> future = unit.schedule(() -> "done", 20, MILLISECONDS);
+
+        assertThat(unit.getQueueSize(), is(2));
+
+        cancelled.cancel(false);
+        assertThat(unit.getQueueSize(), is(1));
+
+        future.get(1, SECONDS);
+        assertThat(unit.getQueueSize(), is(0));
+    }
+
+    @Test
+    public void shouldOrderByDelay() {
+        final ScheduledFuture<?> first = unit.schedule(() -> {}, 1, SECONDS);
+        final ScheduledFuture<?> second = unit.schedule(() -> {}, 2, SECONDS);
+
+        assertThat(first.compareTo(second), is(lessThan(0)));
+
+        first.cancel(false);
+        second.cancel(false);
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void shouldFailTaskIfExecutorRejects() throws InterruptedException, ExecutionException, TimeoutException {
+        final ScheduledFuture<?> future = unit.schedule(() -> {}, 20, MILLISECONDS);
+        executor.shutdown();
+
+        future.get(1, SECONDS);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shouldRejectTasksAfterShutdown() {
+        unit.shutdown();
+
+        assertThat(unit.isShutdown(), is(true));
+        assertThat(unit.isTerminated(), is(true));
+
+        unit.schedule(() -> {}, 1, MILLISECONDS);
+    }
+
+    @Test
+    public void shouldRunAtFixedRate() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        final ScheduledFuture<?> future = unit.scheduleAtFixedRate(latch::countDown, 0, 10, MILLISECONDS);
+
+        assertThat(latch.await(1, SECONDS), is(true));
+        assertThat(future.isDone(), is(false));
+        assertThat(future.cancel(false), is(true));
+    }
+
+    @Test
+    public void shouldRunWithFixedDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        final ScheduledFuture<?> future = unit.scheduleWithFixedDelay(latch::countDown, 5, 10, MILLISECONDS);
+
+        assertThat(latch.await(1, SECONDS), is(true));
+        assertThat(future.cancel(false), is(true));
+    }
+
+    @Test
+    public void shouldStopPeriodicTaskAfterCancel() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ScheduledFuture<?> future = unit.scheduleAtFixedRate(runs::incrementAndGet, 0, 5, MILLISECONDS);
+        Thread.sleep(50);
+        future.cancel(false);
+        Thread.sleep(20);
+
+        final int before = runs.get();
+        Thread.sleep(50);
+
+        assertThat(runs.get(), is(before));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositivePeriod() {
+        unit.scheduleAtFixedRate(() -> {}, 1, 0, SECONDS);
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.zalando.riptide;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TimingWheelTest {
+
+    private final TimingWheel unit = new TimingWheel(1, MILLISECONDS, 8, Executors.defaultThreadFactory());
+
+    @After
+    public void tearDown() {
+        unit.close();
+    }
+
+    @Test
+    public void shouldRunTaskAfterDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        final TimingWheel.Timeout timeout = unit.schedule(latch::countDown, 50, MILLISECONDS);
+
+        assertThat(latch.await(1, SECONDS), is(true));
+        assertThat(System.nanoTime() - start, is(greaterThanOrEqualTo(MILLISECONDS.toNanos(50))));
+        assertThat(timeout.isExpired(), is(true));
+    }
+
+    @Test
+    public void shouldRunTaskThatSpansMultipleRounds() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        // 8 buckets of 1ms each, i.e. this wraps around the wheel a couple of times
+        unit.schedule(latch::countDown, 30, MILLISECONDS);
+
+        assertThat(latch.await(1, SECONDS), is(true));
+    }
+
+    @Test
+    public void shouldRunTaskWithoutDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        unit.schedule(latch::countDown, 0, MILLISECONDS);
+
+        assertThat(latch.await(1, SECONDS), is(true));
+    }
+
+    @Test
+    public void shouldNotRunCancelledTask() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+
+        final TimingWheel.Timeout timeout = unit.schedule(runs::incrementAndGet, 20, MILLISECONDS);
+
+        assertThat(timeout.cancel(), is(true));
+        assertThat(timeout.cancel(), is(false));
+        assertThat(timeout.isCancelled(), is(true));
+
+        Thread.sleep(100);
+
+        assertThat(runs.get(), is(0));
+        assertThat(timeout.isExpired(), is(false));
+    }
+
+    @Test
+    public void shouldSurviveFailingTasks() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        unit.schedule(() -> {
+            throw new IllegalStateException();
+        }, 1, MILLISECONDS);
+        unit.schedule(latch::countDown, 10, MILLISECONDS);
+
+        assertThat(latch.await(1, SECONDS), is(true));
+    }
+
+    @Test
+    public void shouldSupportVeryLongDelays() {
+        final TimingWheel.Timeout timeout = unit.schedule(() -> {}, Long.MAX_VALUE, DAYS);
+
+        assertThat(timeout.isExpired(), is(false));
+        assertThat(timeout.cancel(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectTasksAfterClose() {
+        unit.close();
+        unit.schedule(() -> {}, 1, MILLISECONDS);
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.zalando.riptide;
+
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.util.OptionalLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.zalando.riptide.Timings.Phase.CONNECT;
+import static org.zalando.riptide.Timings.Phase.DESERIALIZATION;
+import static org.zalando.riptide.Timings.Phase.QUEUE;
+
+public final class TimingsTest {
+
+    private final Timings unit = new Timings();
+
+    @Test
+    public void shouldBeEmptyByDefault() {
+        assertThat(unit.get(CONNECT), is(OptionalLong.empty()));
+    }
+
+    @Test
+    public void shouldRecordInNanoseconds() {
+        unit.record(QUEUE, 5, MILLISECONDS);
+
+        assertThat(unit.get(QUEUE), is(OptionalLong.of(MILLISECONDS.toNanos(5))));
+    }
+
+    @Test
+    public void shouldSumUpRepeatedPhases() {
+        unit.record(DESERIALIZATION, 5, NANOSECONDS);
+        unit.record(DESERIALIZATION, 7, NANOSECONDS);
+
+        assertThat(unit.get(DESERIALIZATION), is(OptionalLong.of(12)));
+    }
+
+    @Test
+    public void shouldRecordZero() {
+        unit.record(CONNECT, 0, NANOSECONDS);
+
+        assertThat(unit.get(CONNECT), is(OptionalLong.of(0)));
+    }
+
+    @Test
+    public void shouldFindTimingsOfTimedResponse() {
+        final ClientHttpResponse response = mock(ClientHttpResponse.class,
+                withSettings().extraInterfaces(Timings.Timed.class));
+        when(((Timings.Timed) response).getTimings()).thenReturn(unit);
+
+        assertThat(Timings.of(response).get(), is(sameInstance(unit)));
+    }
+
+    @Test
+    public void shouldFindTimingsOfDecoratedResponse() {
+        final ClientHttpResponse response = mock(ClientHttpResponse.class,
+                withSettings().extraInterfaces(Timings.Timed.class));
+        when(((Timings.Timed) response).getTimings()).thenReturn(unit);
+
+        final ClientHttpResponse decorated = new ForwardingClientHttpResponse() {
+            @Override
+            protected ClientHttpResponse delegate() {
+                return response;
+            }
+        };
+
+        assertThat(Timings.of(decorated).get(), is(sameInstance(unit)));
+    }
+
+    @Test
+    public void shouldNotFindTimingsOfRegularResponse() {
+        assertThat(Timings.of(mock(ClientHttpResponse.class)).isPresent(), is(false));
+    }
+
+}
@@ -23,4 +23,15 @@ public interface CircuitBreakerListener {
         // nothing to do
     }
 
+    /**
+     * Provides the listener for the circuit breaker identified by the given key, as managed by a
+     * {@link CircuitBreakerRegistry registry}. Stateful listeners should return a fresh instance per key.
+     *
+     * @param key the circuit breaker's key, e.g. a host or URI template
+     * @return a listener for the given key
+     */
+    default CircuitBreakerListener forKey(final String key) {
+        return this;
+    }
+
 }
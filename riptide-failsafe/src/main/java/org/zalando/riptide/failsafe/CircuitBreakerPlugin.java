@@ -0,0 +1,72 @@
+package org.zalando.riptide.failsafe;
+
+import net.jodah.failsafe.CircuitBreakerOpenException;
+import org.apiguardian.api.API;
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.Plugin;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestExecution;
+import org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.Permission;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Applies a {@link SlidingWindowCircuitBreaker sliding window circuit breaker} to every request. Rejected requests
+ * fail with a {@link CircuitBreakerOpenException}, just like they would when using Failsafe's circuit breaker.
+ *
+ * Retries should be applied on top of this plugin, i.e. the {@link FailsafePlugin} needs to be registered after it.
+ */
+@API(status = EXPERIMENTAL)
+public final class CircuitBreakerPlugin implements Plugin {
+
+    private final SlidingWindowCircuitBreaker breaker;
+
+    public CircuitBreakerPlugin(final SlidingWindowCircuitBreaker breaker) {
+        this.breaker = breaker;
+    }
+
+    @Override
+    public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+        return () -> {
+            @Nullable final Permission permission = breaker.tryAcquirePermission();
+
+            if (permission == null) {
+                final CompletableFuture<ClientHttpResponse> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(new CircuitBreakerOpenException());
+                return rejected;
+            }
+
+            final long start = breaker.now();
+            final CompletableFuture<ClientHttpResponse> future;
+
+            try {
+                future = execution.execute();
+            } catch (final IOException | RuntimeException e) {
+                permission.onFailure(breaker.now() - start);
+                throw e;
+            }
+
+            future.whenComplete((response, throwable) -> {
+                final long duration = breaker.now() - start;
+
+                if (throwable == null) {
+                    permission.onSuccess(duration);
+                } else if (throwable instanceof CancellationException) {
+                    // e.g. a backup request won, that's neither a success nor a failure
+                    permission.release();
+                } else {
+                    permission.onFailure(duration);
+                }
+            });
+
+            return future;
+        };
+    }
+
+}
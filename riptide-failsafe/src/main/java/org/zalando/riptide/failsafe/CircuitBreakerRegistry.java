@@ -0,0 +1,110 @@
+package org.zalando.riptide.failsafe;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import net.jodah.failsafe.CircuitBreaker;
+import org.apiguardian.api.API;
+import org.zalando.riptide.RequestArguments;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.google.common.base.MoreObjects.firstNonNull;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Holds one {@link CircuitBreaker circuit breaker} per key, e.g. per host or per URI template, rather than a single one
+ * per client. Circuit breakers are created lazily, the number of keys is bounded and idle circuit breakers are evicted.
+ * Circuit breakers that are not closed are never evicted due to size, i.e. an open circuit breaker can't be reset by
+ * traffic to other keys. They are still evicted once idle and at most {@code maximumSize} of them are retained in
+ * addition, i.e. the registry holds at most twice as many circuit breakers as configured.
+ */
+@API(status = EXPERIMENTAL)
+public final class CircuitBreakerRegistry {
+
+    private final Function<RequestArguments, String> keyFunction;
+    private final Function<String, CircuitBreaker> factory;
+    private final long maximumSize;
+    private final long idleTimeout;
+    private final TimeUnit unit;
+
+    private final LoadingCache<String, CircuitBreaker> breakers;
+
+    /**
+     * Circuit breakers that were evicted due to size while not being closed, least recently used ones are dropped.
+     */
+    private final Cache<String, CircuitBreaker> retained;
+
+    public CircuitBreakerRegistry(final Function<String, CircuitBreaker> factory) {
+        this(host(), factory, 1000, 1, HOURS);
+    }
+
+    private CircuitBreakerRegistry(final Function<RequestArguments, String> keyFunction,
+            final Function<String, CircuitBreaker> factory, final long maximumSize, final long idleTimeout,
+            final TimeUnit unit) {
+        this.keyFunction = keyFunction;
+        this.factory = factory;
+        this.maximumSize = maximumSize;
+        this.idleTimeout = idleTimeout;
+        this.unit = unit;
+        this.retained = CacheBuilder.newBuilder()
+                // bounded as well, e.g. during an outage every distinct key might have an open circuit breaker
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout, unit)
+                .build();
+        this.breakers = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout, unit)
+                .removalListener(this::retain)
+                .build(CacheLoader.from(this::load));
+    }
+
+    private void retain(final RemovalNotification<String, CircuitBreaker> notification) {
+        @Nullable final String key = notification.getKey();
+        @Nullable final CircuitBreaker breaker = notification.getValue();
+
+        if (notification.getCause() == RemovalCause.SIZE && key != null && breaker != null && !breaker.isClosed()) {
+            retained.put(key, breaker);
+        }
+    }
+
+    private CircuitBreaker load(final String key) {
+        @Nullable final CircuitBreaker breaker = retained.asMap().remove(key);
+        return breaker == null ? factory.apply(key) : breaker;
+    }
+
+    public CircuitBreakerRegistry withKeyFunction(final Function<RequestArguments, String> keyFunction) {
+        return new CircuitBreakerRegistry(keyFunction, factory, maximumSize, idleTimeout, unit);
+    }
+
+    public CircuitBreakerRegistry withMaximumSize(final long maximumSize) {
+        return new CircuitBreakerRegistry(keyFunction, factory, maximumSize, idleTimeout, unit);
+    }
+
+    public CircuitBreakerRegistry withIdleTimeout(final long idleTimeout, final TimeUnit unit) {
+        return new CircuitBreakerRegistry(keyFunction, factory, maximumSize, idleTimeout, unit);
+    }
+
+    public CircuitBreaker getCircuitBreaker(final RequestArguments arguments) {
+        return getCircuitBreaker(keyFunction.apply(arguments));
+    }
+
+    public CircuitBreaker getCircuitBreaker(final String key) {
+        return breakers.getUnchecked(key);
+    }
+
+    public static Function<RequestArguments, String> host() {
+        return arguments -> firstNonNull(arguments.getRequestUri().getHost(), "none");
+    }
+
+    public static Function<RequestArguments, String> uriTemplate() {
+        return arguments -> firstNonNull(arguments.getUriTemplate(), arguments.getRequestUri().getPath());
+    }
+
+}
@@ -8,9 +8,11 @@ import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.Listeners;
 import net.jodah.failsafe.RetryPolicy;
 import net.jodah.failsafe.SyncFailsafe;
+import net.jodah.failsafe.util.Duration;
 import org.apiguardian.api.API;
 import org.springframework.http.client.ClientHttpResponse;
 import org.zalando.riptide.ConditionalIdempotentMethodDetector;
+import org.zalando.riptide.Deadline;
 import org.zalando.riptide.DefaultIdempotentMethodDetector;
 import org.zalando.riptide.DefaultSafeMethodDetector;
 import org.zalando.riptide.IdempotencyKeyIdempotentMethodDetector;
@@ -23,7 +25,9 @@ import org.zalando.riptide.RequestExecution;
 import javax.annotation.Nullable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static lombok.AccessLevel.PRIVATE;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.zalando.riptide.CancelableCompletableFuture.forwardTo;
@@ -36,7 +40,7 @@ public final class FailsafePlugin implements Plugin {
     private final ScheduledExecutorService scheduler;
     private final MethodDetector idempotent;
     private final RetryPolicy retryPolicy;
-    private final CircuitBreaker circuitBreaker;
+    private final Function<RequestArguments, CircuitBreaker> circuitBreakers;
     private final RetryListener listener;
 
     public FailsafePlugin(final ScheduledExecutorService scheduler) {
@@ -51,23 +55,32 @@ public final class FailsafePlugin implements Plugin {
     }
 
     public FailsafePlugin withIdempotentMethodDetector(final MethodDetector detector) {
-        return new FailsafePlugin(scheduler, detector, retryPolicy, circuitBreaker, listener);
+        return new FailsafePlugin(scheduler, detector, retryPolicy, circuitBreakers, listener);
     }
 
     public FailsafePlugin withRetryPolicy(@Nullable final RetryPolicy retryPolicy) {
-        return new FailsafePlugin(scheduler, idempotent, retryPolicy, circuitBreaker, listener);
+        return new FailsafePlugin(scheduler, idempotent, retryPolicy, circuitBreakers, listener);
     }
 
     public FailsafePlugin withCircuitBreaker(@Nullable final CircuitBreaker circuitBreaker) {
-        return new FailsafePlugin(scheduler, idempotent, retryPolicy, circuitBreaker, listener);
+        return new FailsafePlugin(scheduler, idempotent, retryPolicy,
+                circuitBreaker == null ? null : arguments -> circuitBreaker, listener);
+    }
+
+    public FailsafePlugin withCircuitBreakers(@Nullable final CircuitBreakerRegistry registry) {
+        return new FailsafePlugin(scheduler, idempotent, retryPolicy,
+                registry == null ? null : registry::getCircuitBreaker, listener);
     }
 
     public FailsafePlugin withListener(final RetryListener listener) {
-        return new FailsafePlugin(scheduler, idempotent, retryPolicy, circuitBreaker, listener);
+        return new FailsafePlugin(scheduler, idempotent, retryPolicy, circuitBreakers, listener);
     }
 
     @Override
     public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+        @Nullable final CircuitBreaker circuitBreaker = circuitBreakers == null ?
+                null : circuitBreakers.apply(arguments);
+        @Nullable final RetryPolicy retryPolicy = limit(this.retryPolicy, arguments.getDeadline());
         @Nullable final SyncFailsafe<Object> failsafe = select(retryPolicy, circuitBreaker, arguments);
 
         if (failsafe == null) {
@@ -87,6 +100,31 @@ public final class FailsafePlugin implements Plugin {
         };
     }
 
+    /**
+     * Bounds the retry policy by the remaining budget of the given deadline. Retries are disabled entirely if the
+     * deadline would expire before the first retry could even be attempted.
+     */
+    @Nullable
+    private static RetryPolicy limit(@Nullable final RetryPolicy retryPolicy, @Nullable final Deadline deadline) {
+        if (retryPolicy == null || deadline == null) {
+            return retryPolicy;
+        }
+
+        final long remaining = deadline.remaining(NANOSECONDS);
+
+        if (remaining <= retryPolicy.getDelay().toNanos()) {
+            return null;
+        }
+
+        @Nullable final Duration maxDuration = retryPolicy.getMaxDuration();
+
+        if (maxDuration != null && maxDuration.toNanos() <= remaining) {
+            return retryPolicy;
+        }
+
+        return retryPolicy.copy().withMaxDuration(remaining, NANOSECONDS);
+    }
+
     @Nullable
     private SyncFailsafe<Object> select(@Nullable final RetryPolicy retryPolicy,
             @Nullable final CircuitBreaker circuitBreaker, final RequestArguments arguments) {
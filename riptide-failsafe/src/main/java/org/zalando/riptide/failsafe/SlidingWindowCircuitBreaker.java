@@ -0,0 +1,372 @@
+package org.zalando.riptide.failsafe;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A lock-free circuit breaker that decides based on the failure rate and slow call rate within a time-based sliding
+ * window. The window is a ring buffer of buckets with atomic counters, i.e. recording an outcome never blocks.
+ *
+ * In contrast to Failsafe's {@link net.jodah.failsafe.CircuitBreaker circuit breaker} the thresholds are rates
+ * rather than consecutive counts. While half-open only a bounded number of probes is permitted.
+ *
+ * @see CircuitBreakerPlugin
+ */
+@API(status = EXPERIMENTAL)
+public final class SlidingWindowCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int BUCKETS = 10;
+
+    private final double failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final double slowCallRateThreshold;
+    private final long slowCallDuration;
+    private final int successThreshold;
+    private final int permittedCalls;
+    private final long delay;
+    private final long window;
+    private final CircuitBreakerListener listener;
+    private final Ticker ticker;
+
+    private final long bucketDuration;
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+
+    /**
+     * The state and the time it was entered are swapped atomically as a whole, i.e. nobody can observe an open
+     * circuit together with the time it was opened previously.
+     */
+    private final AtomicReference<Status> status;
+
+    public SlidingWindowCircuitBreaker() {
+        this(0.5, 20, 1.0, Long.MAX_VALUE, 1, 1, SECONDS.toNanos(30), MINUTES.toNanos(1),
+                CircuitBreakerListener.DEFAULT, Ticker.systemTicker());
+    }
+
+    private SlidingWindowCircuitBreaker(final double failureRateThreshold, final int minimumNumberOfCalls,
+            final double slowCallRateThreshold, final long slowCallDuration, final int successThreshold,
+            final int permittedCalls, final long delay, final long window, final CircuitBreakerListener listener,
+            final Ticker ticker) {
+
+        checkArgument(failureRateThreshold > 0 && failureRateThreshold <= 1,
+                "Failure rate threshold must be in (0, 1]");
+        checkArgument(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1,
+                "Slow call rate threshold must be in (0, 1]");
+        checkArgument(successThreshold > 0 && successThreshold <= permittedCalls,
+                "Success threshold must be between 1 and the number of permitted calls");
+        checkArgument(window >= BUCKETS, "Window is too small");
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.successThreshold = successThreshold;
+        this.permittedCalls = permittedCalls;
+        this.delay = delay;
+        this.window = window;
+        this.listener = listener;
+        this.ticker = ticker;
+        this.bucketDuration = window / BUCKETS;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            buckets[index] = new Bucket();
+        }
+
+        this.status = new AtomicReference<>(new Status(State.CLOSED, now(), 0));
+    }
+
+    /**
+     * @param rate the failure rate, between 0 (exclusive) and 1 (inclusive), at which the circuit opens
+     * @param minimumNumberOfCalls the number of calls within the window before the rate is considered
+     * @return a new circuit breaker
+     */
+    public SlidingWindowCircuitBreaker withFailureRateThreshold(final double rate, final int minimumNumberOfCalls) {
+        return new SlidingWindowCircuitBreaker(rate, minimumNumberOfCalls, slowCallRateThreshold,
+                slowCallDuration, successThreshold, permittedCalls, delay, window, listener, ticker);
+    }
+
+    /**
+     * @param rate the slow call rate, between 0 (exclusive) and 1 (inclusive), at which the circuit opens
+     * @param duration the duration at which a call is considered slow
+     * @param unit the time unit of the duration
+     * @return a new circuit breaker
+     */
+    public SlidingWindowCircuitBreaker withSlowCallRateThreshold(final double rate, final long duration,
+            final TimeUnit unit) {
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumNumberOfCalls, rate,
+                unit.toNanos(duration), successThreshold, permittedCalls, delay, window, listener, ticker);
+    }
+
+    /**
+     * @param successes the number of successful probes needed to close the circuit again
+     * @param permittedCalls the number of probes that are permitted while the circuit is half-open
+     * @return a new circuit breaker
+     */
+    public SlidingWindowCircuitBreaker withSuccessThreshold(final int successes, final int permittedCalls) {
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumNumberOfCalls, slowCallRateThreshold,
+                slowCallDuration, successes, permittedCalls, delay, window, listener, ticker);
+    }
+
+    public SlidingWindowCircuitBreaker withDelay(final long delay, final TimeUnit unit) {
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumNumberOfCalls, slowCallRateThreshold,
+                slowCallDuration, successThreshold, permittedCalls, unit.toNanos(delay), window, listener, ticker);
+    }
+
+    public SlidingWindowCircuitBreaker withWindow(final long window, final TimeUnit unit) {
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumNumberOfCalls, slowCallRateThreshold,
+                slowCallDuration, successThreshold, permittedCalls, delay, unit.toNanos(window), listener, ticker);
+    }
+
+    public SlidingWindowCircuitBreaker withListener(final CircuitBreakerListener listener) {
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumNumberOfCalls, slowCallRateThreshold,
+                slowCallDuration, successThreshold, permittedCalls, delay, window, listener, ticker);
+    }
+
+    @VisibleForTesting
+    SlidingWindowCircuitBreaker withTicker(final Ticker ticker) {
+        return new SlidingWindowCircuitBreaker(failureRateThreshold, minimumNumberOfCalls, slowCallRateThreshold,
+                slowCallDuration, successThreshold, permittedCalls, delay, window, listener, ticker);
+    }
+
+    public State getState() {
+        return status.get().state;
+    }
+
+    long now() {
+        return ticker.read();
+    }
+
+    /**
+     * Attempts to acquire a permission to perform a call. Every acquired permission needs to be followed by exactly one
+     * call to either {@link Permission#onSuccess(long)}, {@link Permission#onFailure(long)} or
+     * {@link Permission#release()}.
+     *
+     * @return the permission, or null if the call should be rejected
+     */
+    @Nullable
+    public Permission tryAcquirePermission() {
+        while (true) {
+            final Status current = status.get();
+
+            switch (current.state) {
+                case CLOSED:
+                    return new Permission(current);
+                case OPEN:
+                    if (now() - current.since < delay) {
+                        return null;
+                    }
+                    transition(current, State.HALF_OPEN);
+                    break;
+                case HALF_OPEN:
+                    return current.tryAcquireProbe() ? new Permission(current) : null;
+            }
+        }
+    }
+
+    /**
+     * A permission to perform a single call. Outcomes only count for the state the permission was acquired in, e.g. a
+     * call that was permitted while closed and completes while half-open is not a probe.
+     */
+    @API(status = EXPERIMENTAL)
+    public final class Permission {
+
+        private final Status acquired;
+
+        private Permission(final Status acquired) {
+            this.acquired = acquired;
+        }
+
+        public void onSuccess(final long duration) {
+            record(acquired, false, duration);
+        }
+
+        public void onFailure(final long duration) {
+            record(acquired, true, duration);
+        }
+
+        /**
+         * Returns the permission without an outcome, e.g. if the call was cancelled.
+         */
+        public void release() {
+            if (acquired.state == State.HALF_OPEN && status.get() == acquired) {
+                // only probes that were actually taken from the current half-open state are returned
+                acquired.permits.incrementAndGet();
+            }
+        }
+
+    }
+
+    private void record(final Status acquired, final boolean failure, final long duration) {
+        if (status.get() != acquired) {
+            // permitted in a previous state, e.g. before the circuit opened, the outcome doesn't matter anymore
+            return;
+        }
+
+        final boolean slow = duration >= slowCallDuration;
+
+        switch (acquired.state) {
+            case CLOSED:
+                recordInWindow(acquired, failure, slow);
+                break;
+            case HALF_OPEN:
+                recordProbe(acquired, failure || slow);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void recordInWindow(final Status current, final boolean failure, final boolean slow) {
+        final long now = now();
+        final long epoch = Math.floorDiv(now, bucketDuration);
+        final Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+
+        bucket.record(epoch, failure, slow);
+
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+
+        for (final Bucket candidate : buckets) {
+            if (candidate.epoch.get() > epoch - BUCKETS) {
+                calls += candidate.calls.get();
+                failures += candidate.failures.get();
+                slowCalls += candidate.slowCalls.get();
+            }
+        }
+
+        if (calls == 0 || calls < minimumNumberOfCalls) {
+            return;
+        }
+
+        if ((double) failures / calls >= failureRateThreshold ||
+                (double) slowCalls / calls >= slowCallRateThreshold) {
+            transition(current, State.OPEN);
+        }
+    }
+
+    private void recordProbe(final Status current, final boolean failure) {
+        if (failure) {
+            if (current.probeFailures.incrementAndGet() > permittedCalls - successThreshold) {
+                transition(current, State.OPEN);
+            }
+        } else if (current.probeSuccesses.incrementAndGet() >= successThreshold) {
+            transition(current, State.CLOSED);
+        }
+    }
+
+    private void transition(final Status from, final State to) {
+        if (to == State.CLOSED) {
+            // the window is not used while half-open, i.e. resetting it before the transition is harmless
+            for (final Bucket bucket : buckets) {
+                bucket.reset(Long.MIN_VALUE);
+            }
+        }
+
+        final Status next = new Status(to, now(), to == State.HALF_OPEN ? permittedCalls : 0);
+
+        if (!status.compareAndSet(from, next)) {
+            // some other thread won the race and already notified the listener
+            return;
+        }
+
+        switch (to) {
+            case OPEN:
+                listener.onOpen();
+                break;
+            case HALF_OPEN:
+                listener.onHalfOpen();
+                break;
+            case CLOSED:
+                listener.onClose();
+                break;
+        }
+    }
+
+    /**
+     * A state, the time it was entered and, while half-open, the probes. Every transition creates a new instance.
+     */
+    private static final class Status {
+
+        private final State state;
+        private final long since;
+        private final AtomicInteger permits;
+        private final AtomicInteger probeSuccesses = new AtomicInteger();
+        private final AtomicInteger probeFailures = new AtomicInteger();
+
+        Status(final State state, final long since, final int permits) {
+            this.state = state;
+            this.since = since;
+            this.permits = new AtomicInteger(permits);
+        }
+
+        boolean tryAcquireProbe() {
+            while (true) {
+                final int current = permits.get();
+
+                if (current <= 0) {
+                    return false;
+                }
+
+                if (permits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong slowCalls = new AtomicLong();
+
+        void record(final long currentEpoch, final boolean failure, final boolean slow) {
+            final long previous = epoch.get();
+
+            if (previous < currentEpoch && epoch.compareAndSet(previous, currentEpoch)) {
+                // concurrent writers may lose a few counts here, which is acceptable for a rate
+                calls.set(0);
+                failures.set(0);
+                slowCalls.set(0);
+            }
+
+            calls.incrementAndGet();
+
+            if (failure) {
+                failures.incrementAndGet();
+            }
+
+            if (slow) {
+                slowCalls.incrementAndGet();
+            }
+        }
+
+        void reset(final long value) {
+            epoch.set(value);
+            calls.set(0);
+            failures.set(0);
+            slowCalls.set(0);
+        }
+
+    }
+
+}
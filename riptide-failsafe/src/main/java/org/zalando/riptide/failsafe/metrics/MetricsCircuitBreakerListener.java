@@ -54,6 +54,11 @@ public final class MetricsCircuitBreakerListener implements CircuitBreakerListen
         return new MetricsCircuitBreakerListener(registry, metricName, ImmutableList.copyOf(defaultTags));
     }
 
+    @Override
+    public CircuitBreakerListener forKey(final String key) {
+        return withDefaultTags(concat(defaultTags, singleton(Tag.of("key", key))));
+    }
+
     @Override
     public void onOpen() {
         on(OPEN);
@@ -2,6 +2,8 @@ package org.zalando.riptide.failsafe;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertSame;
+
 public final class CircuitBreakerListenerTest {
 
     private final CircuitBreakerListener unit = CircuitBreakerListener.DEFAULT;
@@ -13,4 +15,9 @@ public final class CircuitBreakerListenerTest {
         unit.onClose();
     }
 
+    @Test
+    public void shouldReturnItselfForKey() {
+        assertSame(unit, unit.forKey("example"));
+    }
+
 }
@@ -0,0 +1,69 @@
+package org.zalando.riptide.failsafe;
+
+import net.jodah.failsafe.CircuitBreakerOpenException;
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestExecution;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.State.CLOSED;
+import static org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.State.OPEN;
+
+public final class CircuitBreakerPluginTest {
+
+    private final SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker()
+            .withFailureRateThreshold(1.0, 2);
+
+    private final CircuitBreakerPlugin unit = new CircuitBreakerPlugin(breaker);
+
+    private final RequestArguments arguments = RequestArguments.create();
+
+    @Test
+    public void shouldRecordSuccess() throws IOException {
+        final ClientHttpResponse response = mock(ClientHttpResponse.class);
+
+        unit.prepare(arguments, () -> CompletableFuture.completedFuture(response)).execute().join();
+        unit.prepare(arguments, () -> CompletableFuture.completedFuture(response)).execute().join();
+
+        assertThat(breaker.getState(), is(CLOSED));
+    }
+
+    @Test
+    public void shouldRejectWhenOpen() throws IOException {
+        final RequestExecution failing = () -> {
+            final CompletableFuture<ClientHttpResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(new IOException());
+            return future;
+        };
+
+        unit.prepare(arguments, failing).execute();
+        unit.prepare(arguments, failing).execute();
+
+        assertThat(breaker.getState(), is(OPEN));
+
+        try {
+            unit.prepare(arguments, failing).execute().join();
+            fail("Expected exception");
+        } catch (final CompletionException e) {
+            assertThat(e.getCause(), is(instanceOf(CircuitBreakerOpenException.class)));
+        }
+    }
+
+    @Test
+    public void shouldNotCountCancellations() throws IOException {
+        unit.prepare(arguments, CompletableFuture::new).execute().cancel(true);
+        unit.prepare(arguments, CompletableFuture::new).execute().cancel(true);
+
+        assertThat(breaker.getState(), is(CLOSED));
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.zalando.riptide.failsafe;
+
+import net.jodah.failsafe.CircuitBreaker;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.zalando.riptide.RequestArguments;
+
+import java.net.URI;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class CircuitBreakerRegistryTest {
+
+    private final CircuitBreakerRegistry unit = new CircuitBreakerRegistry(key -> new CircuitBreaker());
+
+    @Test
+    public void shouldReuseCircuitBreakerPerHost() {
+        final CircuitBreaker first = unit.getCircuitBreaker(arguments("http://foo/a", "/a"));
+        final CircuitBreaker second = unit.getCircuitBreaker(arguments("http://foo/b", "/b"));
+
+        assertThat(first, is(sameInstance(second)));
+    }
+
+    @Test
+    public void shouldSeparateCircuitBreakersPerHost() {
+        final CircuitBreaker foo = unit.getCircuitBreaker(arguments("http://foo/a", "/a"));
+        final CircuitBreaker bar = unit.getCircuitBreaker(arguments("http://bar/a", "/a"));
+
+        assertThat(foo, is(not(sameInstance(bar))));
+
+        foo.open();
+
+        assertThat(foo.isOpen(), is(true));
+        assertThat(bar.isClosed(), is(true));
+    }
+
+    @Test
+    public void shouldSeparateCircuitBreakersPerUriTemplate() {
+        final CircuitBreakerRegistry registry = unit.withKeyFunction(CircuitBreakerRegistry.uriTemplate());
+
+        final CircuitBreaker first = registry.getCircuitBreaker(arguments("http://foo/users/1", "/users/{id}"));
+        final CircuitBreaker second = registry.getCircuitBreaker(arguments("http://foo/users/2", "/users/{id}"));
+        final CircuitBreaker third = registry.getCircuitBreaker(arguments("http://foo/orders/1", "/orders/{id}"));
+
+        assertThat(first, is(sameInstance(second)));
+        assertThat(first, is(not(sameInstance(third))));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedCircuitBreakers() {
+        final CircuitBreakerRegistry registry = unit.withMaximumSize(1);
+
+        final CircuitBreaker foo = registry.getCircuitBreaker("foo");
+        registry.getCircuitBreaker("bar");
+
+        assertThat(registry.getCircuitBreaker("foo"), is(not(sameInstance(foo))));
+    }
+
+    @Test
+    public void shouldNotEvictOpenCircuitBreakers() {
+        final CircuitBreakerRegistry registry = unit.withMaximumSize(1);
+
+        final CircuitBreaker foo = registry.getCircuitBreaker("foo");
+        foo.open();
+        registry.getCircuitBreaker("bar");
+
+        assertThat(registry.getCircuitBreaker("foo"), is(sameInstance(foo)));
+        assertThat(foo.isOpen(), is(true));
+    }
+
+    @Test
+    public void shouldBoundRetainedCircuitBreakers() {
+        final CircuitBreakerRegistry registry = unit.withMaximumSize(1);
+
+        final CircuitBreaker foo = registry.getCircuitBreaker("foo");
+        foo.open();
+        registry.getCircuitBreaker("bar").open();
+        registry.getCircuitBreaker("baz");
+
+        assertThat(registry.getCircuitBreaker("foo"), is(not(sameInstance(foo))));
+    }
+
+    private static RequestArguments arguments(final String uri, final String template) {
+        return RequestArguments.create()
+                .withMethod(HttpMethod.GET)
+                .withUriTemplate(template)
+                .withRequestUri(URI.create(uri));
+    }
+
+}
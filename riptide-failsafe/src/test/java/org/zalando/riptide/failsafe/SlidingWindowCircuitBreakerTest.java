@@ -0,0 +1,185 @@
+package org.zalando.riptide.failsafe;
+
+import com.google.common.base.Ticker;
+import org.junit.Test;
+import org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.Permission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.State.CLOSED;
+import static org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.State.HALF_OPEN;
+import static org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker.State.OPEN;
+
+public final class SlidingWindowCircuitBreakerTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return time.get();
+        }
+    };
+
+    private final CircuitBreakerListener listener = mock(CircuitBreakerListener.class);
+
+    private final SlidingWindowCircuitBreaker unit = new SlidingWindowCircuitBreaker()
+            .withFailureRateThreshold(0.5, 4)
+            .withSuccessThreshold(2, 3)
+            .withDelay(1, SECONDS)
+            .withWindow(10, SECONDS)
+            .withListener(listener)
+            .withTicker(ticker);
+
+    @Test
+    public void shouldStayClosedBelowMinimumNumberOfCalls() {
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onFailure(0);
+
+        assertThat(unit.getState(), is(CLOSED));
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldStayClosedBelowFailureRate() {
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onFailure(0);
+
+        assertThat(unit.getState(), is(CLOSED));
+    }
+
+    @Test
+    public void shouldOpenAtFailureRate() {
+        open();
+
+        assertThat(unit.getState(), is(OPEN));
+        assertThat(unit.tryAcquirePermission(), is(nullValue()));
+        verify(listener).onOpen();
+    }
+
+    @Test
+    public void shouldForgetOutcomesOutsideOfWindow() {
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onFailure(0);
+        time.addAndGet(SECONDS.toNanos(11));
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onSuccess(0);
+
+        assertThat(unit.getState(), is(CLOSED));
+    }
+
+    @Test
+    public void shouldOpenOnSlowCalls() {
+        final SlidingWindowCircuitBreaker unit = this.unit
+                .withSlowCallRateThreshold(0.5, 100, MILLISECONDS);
+
+        unit.tryAcquirePermission().onSuccess(MILLISECONDS.toNanos(150));
+        unit.tryAcquirePermission().onSuccess(MILLISECONDS.toNanos(150));
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onSuccess(0);
+
+        assertThat(unit.getState(), is(OPEN));
+    }
+
+    @Test
+    public void shouldPermitBoundedNumberOfProbesWhenHalfOpen() {
+        open();
+        time.addAndGet(SECONDS.toNanos(1));
+
+        final Permission first = unit.tryAcquirePermission();
+        assertThat(first, is(notNullValue()));
+        assertThat(unit.getState(), is(HALF_OPEN));
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+        assertThat(unit.tryAcquirePermission(), is(nullValue()));
+
+        first.release();
+
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+        verify(listener).onHalfOpen();
+    }
+
+    @Test
+    public void shouldNotReleaseProbesThatWereNotTaken() {
+        final Permission closed = unit.tryAcquirePermission();
+        open();
+        time.addAndGet(SECONDS.toNanos(1));
+
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+        assertThat(unit.getState(), is(HALF_OPEN));
+
+        closed.release();
+
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+        assertThat(unit.tryAcquirePermission(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotCountOutcomesOfPreviousStatesAsProbes() {
+        final Permission first = unit.tryAcquirePermission();
+        final Permission second = unit.tryAcquirePermission();
+        open();
+        time.addAndGet(SECONDS.toNanos(1));
+
+        assertThat(unit.tryAcquirePermission(), is(notNullValue()));
+
+        first.onSuccess(0);
+        second.onSuccess(0);
+        assertThat(unit.getState(), is(HALF_OPEN));
+
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onFailure(0);
+        assertThat(unit.getState(), is(OPEN));
+    }
+
+    @Test
+    public void shouldCloseAfterSuccessfulProbes() {
+        open();
+        time.addAndGet(SECONDS.toNanos(1));
+
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onSuccess(0);
+
+        assertThat(unit.getState(), is(CLOSED));
+        verify(listener).onClose();
+    }
+
+    @Test
+    public void shouldReopenAfterFailedProbes() {
+        open();
+        time.addAndGet(SECONDS.toNanos(1));
+
+        unit.tryAcquirePermission().onFailure(0);
+        assertThat(unit.getState(), is(HALF_OPEN));
+
+        unit.tryAcquirePermission().onFailure(0);
+        assertThat(unit.getState(), is(OPEN));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidFailureRate() {
+        unit.withFailureRateThreshold(1.5, 1);
+    }
+
+    private void open() {
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onFailure(0);
+        unit.tryAcquirePermission().onSuccess(0);
+        unit.tryAcquirePermission().onFailure(0);
+    }
+
+}
@@ -64,6 +64,23 @@ public final class MetricsCircuitBreakerListenerTest {
         assertEquals(2, open.count());
     }
 
+    @Test
+    public void shouldTagKey() {
+        final CircuitBreakerListener listener = unit.forKey("example.org");
+        final CircuitBreaker breaker = new CircuitBreaker()
+                .onOpen(listener::onOpen)
+                .onHalfOpen(listener::onHalfOpen)
+                .onClose(listener::onClose);
+
+        breaker.open();
+        breaker.close();
+
+        final Timer timer = getOnlyElement(timers());
+
+        assertEquals("example.org", timer.getId().getTag("key"));
+        assertEquals("true", timer.getId().getTag("test"));
+    }
+
     private List<Timer> timers() {
         return registry.find("circuit-breakers").timers().stream()
                 .sorted(comparing(this::tags, from(comparing(Tag::getKey)
@@ -0,0 +1,107 @@
+package org.zalando.riptide.httpclient;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import org.apiguardian.api.API;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Limits the total duration of the TLS handshake. Without it, the handshake is only bound by the socket
+ * configuration's {@code SO_TIMEOUT}, which defaults to infinity, since the request's socket timeout only applies once
+ * the connection has been established.
+ *
+ * Every single read during the handshake is limited by the timeout, and a shared watchdog thread closes the socket
+ * once the timeout has elapsed, i.e. a peer that keeps sending bytes slowly can't extend the handshake either.
+ */
+@API(status = EXPERIMENTAL)
+public final class HandshakeTimeoutSSLConnectionSocketFactory extends SSLConnectionSocketFactory {
+
+    private static final ScheduledThreadPoolExecutor WATCHDOG = createWatchdog();
+
+    private final int handshakeTimeout;
+
+    /**
+     * @param context the SSL context
+     * @param verifier the hostname verifier
+     * @param handshakeTimeout the handshake timeout in milliseconds
+     */
+    public HandshakeTimeoutSSLConnectionSocketFactory(final SSLContext context, final HostnameVerifier verifier,
+            final int handshakeTimeout) {
+        super(context, verifier);
+        this.handshakeTimeout = handshakeTimeout;
+    }
+
+    @Override
+    public Socket createLayeredSocket(final Socket socket, final String target, final int port,
+            final HttpContext context) throws IOException {
+
+        final int timeout = socket.getSoTimeout();
+        socket.setSoTimeout(handshakeTimeout);
+
+        final ScheduledFuture<?> watchdog = WATCHDOG.schedule(() -> closeQuietly(socket), handshakeTimeout,
+                MILLISECONDS);
+
+        final Socket layered;
+
+        try {
+            layered = super.createLayeredSocket(socket, target, port, context);
+        } catch (final SocketTimeoutException e) {
+            watchdog.cancel(false);
+            throw timeout(target, port, e);
+        } catch (final IOException e) {
+            if (watchdog.cancel(false)) {
+                throw e;
+            }
+            // the watchdog closed the socket
+            throw timeout(target, port, e);
+        }
+
+        if (!watchdog.cancel(false)) {
+            // the handshake finished, but the watchdog was faster
+            closeQuietly(layered);
+            throw timeout(target, port, new SocketTimeoutException("Socket was closed after handshake timeout"));
+        }
+
+        layered.setSoTimeout(timeout);
+        return layered;
+    }
+
+    private TlsHandshakeTimeoutException timeout(final String target, final int port, final IOException cause) {
+        final SocketTimeoutException timeout = cause instanceof SocketTimeoutException ?
+                (SocketTimeoutException) cause :
+                (SocketTimeoutException) new SocketTimeoutException(cause.getMessage()).initCause(cause);
+
+        return new TlsHandshakeTimeoutException(
+                "TLS handshake with " + target + ":" + port + " took longer than " + handshakeTimeout + "ms", timeout);
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (final IOException e) {
+            // nothing we can do about it, the handshake fails anyway
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createWatchdog() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "riptide-tls-handshake-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // handshakes usually finish in time, cancelled watchdogs shouldn't pile up in the queue
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+}
@@ -7,12 +7,19 @@ import org.springframework.http.client.AsyncClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.concurrent.ListenableFuture;
+import org.zalando.riptide.Timings;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 
-final class RestAsyncClientHttpRequest implements AsyncClientHttpRequest {
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.zalando.riptide.Timings.Phase.CONNECT;
+import static org.zalando.riptide.Timings.Phase.LEASE;
+import static org.zalando.riptide.Timings.Phase.QUEUE;
+import static org.zalando.riptide.Timings.Phase.RESPONSE;
+
+class RestAsyncClientHttpRequest implements AsyncClientHttpRequest {
 
     private final ClientHttpRequest request;
     private final AsyncListenableTaskExecutor executor;
@@ -24,11 +31,29 @@ final class RestAsyncClientHttpRequest implements AsyncClientHttpRequest {
 
     @Override
     public ListenableFuture<ClientHttpResponse> executeAsync() throws IOException {
-        return executor.submitListenable(this::execute);
+        final Timings timings = new Timings();
+        final long submitTime = System.nanoTime();
+        return executor.submitListenable(() -> execute(timings, submitTime));
     }
 
-    private RestAsyncClientHttpResponse execute() throws IOException {
-        return new RestAsyncClientHttpResponse(request.execute());
+    private RestAsyncClientHttpResponse execute(final Timings timings, final long submitTime) throws IOException {
+        final long startTime = System.nanoTime();
+        timings.record(QUEUE, startTime - submitTime, NANOSECONDS);
+
+        TimingClientConnectionManager.activate(timings);
+
+        try {
+            final ClientHttpResponse response = request.execute();
+
+            // lease and connect are part of the execution, but were recorded separately
+            final long duration = System.nanoTime() - startTime
+                    - timings.get(LEASE).orElse(0) - timings.get(CONNECT).orElse(0);
+            timings.record(RESPONSE, duration, NANOSECONDS);
+
+            return new RestAsyncClientHttpResponse(response, timings);
+        } finally {
+            TimingClientConnectionManager.deactivate();
+        }
     }
 
     @Override
@@ -8,6 +8,7 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apiguardian.api.API;
 import org.springframework.core.task.AsyncListenableTaskExecutor;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.client.AsyncClientHttpRequest;
 import org.springframework.http.client.AsyncClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequest;
@@ -17,6 +18,7 @@ import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import java.io.IOException;
 import java.net.URI;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 @API(status = STABLE)
@@ -26,15 +28,32 @@ public final class RestAsyncClientHttpRequestFactory implements ClientHttpReques
     private final AsyncListenableTaskExecutor executor;
 
     public RestAsyncClientHttpRequestFactory(final HttpClient client, final AsyncListenableTaskExecutor executor) {
+        this(client, executor, true);
+    }
+
+    /**
+     * @param client the underlying client
+     * @param executor the executor that executes requests
+     * @param bufferRequestBody whether request bodies should be buffered in memory before they are sent. Unbuffered
+     *                          request bodies are written directly to the connection, using chunked transfer encoding,
+     *                          which allows to send arbitrarily large bodies, e.g. streams.
+     */
+    @API(status = EXPERIMENTAL)
+    public RestAsyncClientHttpRequestFactory(final HttpClient client, final AsyncListenableTaskExecutor executor,
+            final boolean bufferRequestBody) {
         final RequestConfig config = Configurable.class.cast(client).getConfig();
 
-        this.factory = new HttpComponentsClientHttpRequestFactory(client) {
+        final HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(client) {
             @Override
             protected void postProcessHttpRequest(final HttpUriRequest request) {
                 // restore the client's request settings that are incorrectly handled by spring
                 HttpRequestBase.class.cast(request).setConfig(config);
             }
         };
+
+        factory.setBufferRequestBody(bufferRequestBody);
+
+        this.factory = factory;
         this.executor = executor;
     }
 
@@ -45,7 +64,13 @@ public final class RestAsyncClientHttpRequestFactory implements ClientHttpReques
 
     @Override
     public AsyncClientHttpRequest createAsyncRequest(final URI uri, final HttpMethod method) throws IOException {
-        return new RestAsyncClientHttpRequest(factory.createRequest(uri, method), executor);
+        final ClientHttpRequest request = factory.createRequest(uri, method);
+
+        if (request instanceof StreamingHttpOutputMessage) {
+            return new StreamingRestAsyncClientHttpRequest(request, executor);
+        }
+
+        return new RestAsyncClientHttpRequest(request, executor);
     }
 
 }
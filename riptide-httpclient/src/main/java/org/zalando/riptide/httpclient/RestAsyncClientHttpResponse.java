@@ -4,17 +4,29 @@ import org.apache.http.conn.ConnectionReleaseTrigger;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.Timings;
 
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
-final class RestAsyncClientHttpResponse implements ClientHttpResponse {
+final class RestAsyncClientHttpResponse implements ClientHttpResponse, Timings.Timed {
 
     private final ClientHttpResponse response;
+    private final Timings timings;
 
     RestAsyncClientHttpResponse(final ClientHttpResponse response) {
+        this(response, new Timings());
+    }
+
+    RestAsyncClientHttpResponse(final ClientHttpResponse response, final Timings timings) {
         this.response = response;
+        this.timings = timings;
+    }
+
+    @Override
+    public Timings getTimings() {
+        return timings;
     }
 
     @Override
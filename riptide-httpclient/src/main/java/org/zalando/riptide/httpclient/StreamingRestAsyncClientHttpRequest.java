@@ -0,0 +1,26 @@
+package org.zalando.riptide.httpclient;
+
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+
+/**
+ * A request with an unbuffered body. The body is written directly to the connection when the request is executed,
+ * i.e. on the executor's thread.
+ */
+final class StreamingRestAsyncClientHttpRequest extends RestAsyncClientHttpRequest
+        implements StreamingHttpOutputMessage {
+
+    private final StreamingHttpOutputMessage message;
+
+    StreamingRestAsyncClientHttpRequest(final ClientHttpRequest request, final AsyncListenableTaskExecutor executor) {
+        super(request, executor);
+        this.message = (StreamingHttpOutputMessage) request;
+    }
+
+    @Override
+    public void setBody(final Body body) {
+        message.setBody(body);
+    }
+
+}
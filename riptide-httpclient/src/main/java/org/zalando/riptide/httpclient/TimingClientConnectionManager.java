@@ -0,0 +1,128 @@
+package org.zalando.riptide.httpclient;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.protocol.HttpContext;
+import org.apiguardian.api.API;
+import org.zalando.riptide.Timings;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.riptide.Timings.Phase.CONNECT;
+import static org.zalando.riptide.Timings.Phase.LEASE;
+
+/**
+ * Records the {@link Timings.Phase#LEASE lease} and {@link Timings.Phase#CONNECT connect} phases of requests that are
+ * executed by a {@link RestAsyncClientHttpRequestFactory}. All other operations are delegated as is.
+ */
+@API(status = EXPERIMENTAL)
+public final class TimingClientConnectionManager implements HttpClientConnectionManager {
+
+    // HttpClient executes a request entirely on the calling thread
+    private static final ThreadLocal<Timings> CURRENT = new ThreadLocal<>();
+
+    private final HttpClientConnectionManager manager;
+
+    public TimingClientConnectionManager(final HttpClientConnectionManager manager) {
+        this.manager = manager;
+    }
+
+    static void activate(final Timings timings) {
+        CURRENT.set(timings);
+    }
+
+    static void deactivate() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        final ConnectionRequest request = manager.requestConnection(route, state);
+
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(final long timeout, final TimeUnit unit)
+                    throws InterruptedException, ExecutionException {
+                final long startTime = System.nanoTime();
+
+                try {
+                    return request.get(timeout, unit);
+                } finally {
+                    record(LEASE, startTime);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(final HttpClientConnection connection, final HttpRoute route, final int connectTimeout,
+            final HttpContext context) throws IOException {
+        final long startTime = System.nanoTime();
+
+        try {
+            manager.connect(connection, route, connectTimeout, context);
+        } finally {
+            record(CONNECT, startTime);
+        }
+    }
+
+    @Override
+    public void upgrade(final HttpClientConnection connection, final HttpRoute route,
+            final HttpContext context) throws IOException {
+        final long startTime = System.nanoTime();
+
+        try {
+            manager.upgrade(connection, route, context);
+        } finally {
+            record(CONNECT, startTime);
+        }
+    }
+
+    private static void record(final Timings.Phase phase, final long startTime) {
+        @Nullable final Timings timings = CURRENT.get();
+
+        if (timings != null) {
+            timings.record(phase, System.nanoTime() - startTime, NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void releaseConnection(final HttpClientConnection connection, final Object newState,
+            final long validDuration, final TimeUnit unit) {
+        manager.releaseConnection(connection, newState, validDuration, unit);
+    }
+
+    @Override
+    public void routeComplete(final HttpClientConnection connection, final HttpRoute route,
+            final HttpContext context) throws IOException {
+        manager.routeComplete(connection, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(final long idletime, final TimeUnit unit) {
+        manager.closeIdleConnections(idletime, unit);
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        manager.closeExpiredConnections();
+    }
+
+    @Override
+    public void shutdown() {
+        manager.shutdown();
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.zalando.riptide.httpclient;
+
+import org.apiguardian.api.API;
+
+import java.net.SocketTimeoutException;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Signals that the TLS handshake didn't finish in time, as opposed to a regular read timeout.
+ *
+ * @see HandshakeTimeoutSSLConnectionSocketFactory
+ */
+@API(status = EXPERIMENTAL)
+public final class TlsHandshakeTimeoutException extends SocketTimeoutException {
+
+    public TlsHandshakeTimeoutException(final String message, final SocketTimeoutException cause) {
+        super(message);
+        initCause(cause);
+    }
+
+}
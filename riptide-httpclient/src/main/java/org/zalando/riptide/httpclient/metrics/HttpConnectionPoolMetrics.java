@@ -0,0 +1,102 @@
+package org.zalando.riptide.httpclient.metrics;
+
+import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apiguardian.api.API;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.collect.Iterables.concat;
+import static java.util.Collections.singleton;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Gauges for the leased, available and pending connections of a {@link PoolingHttpClientConnectionManager}:
+ *
+ * <ul>
+ *     <li>{@code <name>.leased}, {@code <name>.available} and {@code <name>.pending} in total</li>
+ *     <li>{@code <name>.route.leased}, {@code <name>.route.available} and {@code <name>.route.pending} per route,
+ *     tagged with {@code route}</li>
+ * </ul>
+ *
+ * All gauges are registered when binding. Per route gauges are registered for the given routes and for all routes that
+ * the pool knows at that time, e.g. the route of a client's base URL.
+ */
+@API(status = EXPERIMENTAL)
+public final class HttpConnectionPoolMetrics implements MeterBinder {
+
+    private final PoolingHttpClientConnectionManager pool;
+    private final String metricName;
+    private final ImmutableList<Tag> defaultTags;
+    private final ImmutableList<HttpRoute> routes;
+
+    public HttpConnectionPoolMetrics(final PoolingHttpClientConnectionManager pool) {
+        this(pool, "http.client.connections", ImmutableList.of(), ImmutableList.of());
+    }
+
+    private HttpConnectionPoolMetrics(final PoolingHttpClientConnectionManager pool, final String metricName,
+            final ImmutableList<Tag> defaultTags, final ImmutableList<HttpRoute> routes) {
+        this.pool = pool;
+        this.metricName = metricName;
+        this.defaultTags = defaultTags;
+        this.routes = routes;
+    }
+
+    public HttpConnectionPoolMetrics withMetricName(final String metricName) {
+        return new HttpConnectionPoolMetrics(pool, metricName, defaultTags, routes);
+    }
+
+    public HttpConnectionPoolMetrics withDefaultTags(final Tag... defaultTags) {
+        return withDefaultTags(ImmutableList.copyOf(defaultTags));
+    }
+
+    public HttpConnectionPoolMetrics withDefaultTags(final Iterable<Tag> defaultTags) {
+        return new HttpConnectionPoolMetrics(pool, metricName, ImmutableList.copyOf(defaultTags), routes);
+    }
+
+    public HttpConnectionPoolMetrics withRoutes(final HttpRoute... routes) {
+        return withRoutes(ImmutableList.copyOf(routes));
+    }
+
+    public HttpConnectionPoolMetrics withRoutes(final Iterable<HttpRoute> routes) {
+        return new HttpConnectionPoolMetrics(pool, metricName, defaultTags, ImmutableList.copyOf(routes));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        total(registry, "leased", PoolStats::getLeased);
+        total(registry, "available", PoolStats::getAvailable);
+        total(registry, "pending", PoolStats::getPending);
+
+        final Set<HttpRoute> known = new LinkedHashSet<>(routes);
+        known.addAll(pool.getRoutes());
+
+        known.forEach(route -> {
+            perRoute(registry, route, "leased", PoolStats::getLeased);
+            perRoute(registry, route, "available", PoolStats::getAvailable);
+            perRoute(registry, route, "pending", PoolStats::getPending);
+        });
+    }
+
+    private void total(final MeterRegistry registry, final String name, final ToIntFunction<PoolStats> stat) {
+        Gauge.builder(metricName + "." + name, pool, manager -> stat.applyAsInt(manager.getTotalStats()))
+                .tags(defaultTags)
+                .register(registry);
+    }
+
+    private void perRoute(final MeterRegistry registry, final HttpRoute route, final String name,
+            final ToIntFunction<PoolStats> stat) {
+        Gauge.builder(metricName + ".route." + name, pool, manager -> stat.applyAsInt(manager.getStats(route)))
+                .tags(concat(defaultTags, singleton(Tag.of("route", route.getTargetHost().toURI()))))
+                .register(registry);
+    }
+
+}
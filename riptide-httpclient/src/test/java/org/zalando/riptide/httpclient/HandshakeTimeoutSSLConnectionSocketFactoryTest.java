@@ -0,0 +1,81 @@
+package org.zalando.riptide.httpclient;
+
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.ssl.SSLContexts;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+
+import static org.apache.http.conn.ssl.SSLConnectionSocketFactory.getDefaultHostnameVerifier;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class HandshakeTimeoutSSLConnectionSocketFactoryTest {
+
+    private final HandshakeTimeoutSSLConnectionSocketFactory unit = new HandshakeTimeoutSSLConnectionSocketFactory(
+            SSLContexts.createDefault(), getDefaultHostnameVerifier(), 100);
+
+    @Test
+    public void shouldTimeoutHandshake() throws IOException {
+        // accepts connections but never answers the client hello
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket socket = new Socket(server.getInetAddress(), server.getLocalPort())) {
+
+            try {
+                unit.createLayeredSocket(socket, "localhost", server.getLocalPort(), new BasicHttpContext());
+                fail("Expected exception");
+            } catch (final TlsHandshakeTimeoutException e) {
+                assertThat(e.getCause(), instanceOf(SocketTimeoutException.class));
+            }
+        }
+    }
+
+    @Test(timeout = 5_000)
+    public void shouldTimeoutHandshakeOfTricklingPeer() throws IOException {
+        final ExecutorService executor = newSingleThreadExecutor();
+
+        // answers with the header of a server hello record, followed by one byte every 50ms, i.e. every single read
+        // succeeds in time, but the handshake as a whole doesn't
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket socket = new Socket(server.getInetAddress(), server.getLocalPort())) {
+
+            executor.submit(() -> {
+                try (Socket peer = server.accept()) {
+                    final OutputStream stream = peer.getOutputStream();
+                    stream.write(new byte[]{0x16, 0x03, 0x03, 0x01, 0x00});
+                    stream.flush();
+
+                    while (!Thread.currentThread().isInterrupted()) {
+                        Thread.sleep(50);
+                        stream.write(0x02);
+                        stream.flush();
+                    }
+                }
+                return null;
+            });
+
+            final long start = System.nanoTime();
+
+            try {
+                unit.createLayeredSocket(socket, "localhost", server.getLocalPort(), new BasicHttpContext());
+                fail("Expected exception");
+            } catch (final TlsHandshakeTimeoutException e) {
+                assertThat(e.getCause(), instanceOf(SocketTimeoutException.class));
+                assertThat((System.nanoTime() - start) / 1_000_000, lessThan(1_000L));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
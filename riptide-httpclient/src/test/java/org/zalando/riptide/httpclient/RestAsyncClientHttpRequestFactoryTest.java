@@ -15,6 +15,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.task.AsyncListenableTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.client.AsyncClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NON_PRIVATE;
+import static com.github.restdriver.clientdriver.RestClientDriver.giveEmptyResponse;
 import static com.github.restdriver.clientdriver.RestClientDriver.giveResponseAsBytes;
 import static com.github.restdriver.clientdriver.RestClientDriver.onRequestTo;
 import static com.google.common.io.Resources.getResource;
@@ -41,6 +43,7 @@ import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
@@ -162,4 +165,28 @@ public final class RestAsyncClientHttpRequestFactoryTest {
         assertThat(names, hasItems("jhorstmann", "lukasniemeier-zalando", "whiskeysierra"));
     }
 
+    @Test
+    public void shouldStreamRequestBody() throws IOException, ExecutionException, InterruptedException {
+        driver.addExpectation(onRequestTo("/users").withMethod(Method.POST)
+                        .withHeader("Transfer-Encoding", "chunked")
+                        .withBody("{\"login\":\"whiskeysierra\"}", "application/json"),
+                giveEmptyResponse());
+
+        final RestAsyncClientHttpRequestFactory factory =
+                new RestAsyncClientHttpRequestFactory(client, executor, false);
+
+        final URI uri = URI.create(driver.getBaseUrl()).resolve("/users");
+        final AsyncClientHttpRequest request = factory.createAsyncRequest(uri, POST);
+
+        assertThat(request, is(instanceOf(StreamingHttpOutputMessage.class)));
+
+        request.getHeaders().setContentType(APPLICATION_JSON);
+        ((StreamingHttpOutputMessage) request).setBody(body ->
+                body.write("{\"login\":\"whiskeysierra\"}".getBytes(UTF_8)));
+
+        final ClientHttpResponse response = request.executeAsync().get();
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NO_CONTENT));
+    }
+
 }
@@ -0,0 +1,79 @@
+package org.zalando.riptide.httpclient;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.Test;
+import org.zalando.riptide.Timings;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.zalando.riptide.Timings.Phase.CONNECT;
+import static org.zalando.riptide.Timings.Phase.LEASE;
+
+public final class TimingClientConnectionManagerTest {
+
+    private final HttpClientConnectionManager manager = mock(HttpClientConnectionManager.class);
+    private final TimingClientConnectionManager unit = new TimingClientConnectionManager(manager);
+
+    private final HttpRoute route = new HttpRoute(new HttpHost("localhost"));
+    private final HttpClientConnection connection = mock(HttpClientConnection.class);
+    private final Timings timings = new Timings();
+
+    @After
+    public void tearDown() {
+        TimingClientConnectionManager.deactivate();
+    }
+
+    @Test
+    public void shouldRecordLease() throws Exception {
+        final ConnectionRequest request = mock(ConnectionRequest.class);
+        when(manager.requestConnection(route, null)).thenReturn(request);
+        when(request.get(1, SECONDS)).thenReturn(connection);
+
+        TimingClientConnectionManager.activate(timings);
+
+        assertThat(unit.requestConnection(route, null).get(1, SECONDS), is(connection));
+        assertThat(timings.get(LEASE).isPresent(), is(true));
+        assertThat(timings.get(CONNECT).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldRecordConnect() throws Exception {
+        TimingClientConnectionManager.activate(timings);
+
+        unit.connect(connection, route, 1000, new BasicHttpContext());
+
+        verify(manager).connect(any(), any(), anyInt(), any());
+        assertThat(timings.get(CONNECT).isPresent(), is(true));
+    }
+
+    @Test
+    public void shouldNotRecordWithoutTimings() throws Exception {
+        unit.connect(connection, route, 1000, new BasicHttpContext());
+
+        assertThat(timings.get(CONNECT).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldDelegate() {
+        unit.closeExpiredConnections();
+        unit.closeIdleConnections(1, SECONDS);
+        unit.shutdown();
+
+        verify(manager).closeExpiredConnections();
+        verify(manager).closeIdleConnections(1, SECONDS);
+        verify(manager).shutdown();
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.zalando.riptide.httpclient.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public final class HttpConnectionPoolMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PoolingHttpClientConnectionManager pool = new PoolingHttpClientConnectionManager();
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldMeasureTotals() throws Exception {
+        new HttpConnectionPoolMetrics(pool)
+                .withDefaultTags(Tag.of("clientId", "example"))
+                .bindTo(registry);
+
+        final HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+        final HttpClientConnection connection = pool.requestConnection(route, null).get(1, SECONDS);
+
+        assertThat(gauge("http.client.connections.leased").value(), is(1.0));
+        assertThat(gauge("http.client.connections.available").value(), is(0.0));
+        assertThat(gauge("http.client.connections.pending").value(), is(0.0));
+
+        pool.releaseConnection(connection, null, 0, SECONDS);
+    }
+
+    @Test
+    public void shouldMeasureGivenRoutes() throws Exception {
+        final HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+
+        new HttpConnectionPoolMetrics(pool)
+                .withMetricName("http.pool")
+                .withDefaultTags(Tag.of("clientId", "example"))
+                .withRoutes(route)
+                .bindTo(registry);
+
+        @Nullable final Gauge leased = routeGauge("http.pool.route.leased");
+        assertThat(leased, is(notNullValue()));
+        assertThat(leased.value(), is(0.0));
+
+        final HttpClientConnection connection = pool.requestConnection(route, null).get(1, SECONDS);
+
+        assertThat(leased.value(), is(1.0));
+
+        pool.releaseConnection(connection, null, 0, SECONDS);
+    }
+
+    @Test
+    public void shouldMeasureKnownRoutes() throws Exception {
+        final HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+        final HttpClientConnection connection = pool.requestConnection(route, null).get(1, SECONDS);
+
+        new HttpConnectionPoolMetrics(pool)
+                .withDefaultTags(Tag.of("clientId", "example"))
+                .bindTo(registry);
+
+        @Nullable final Gauge leased = routeGauge("http.client.connections.route.leased");
+        assertThat(leased, is(notNullValue()));
+        assertThat(leased.value(), is(1.0));
+
+        pool.releaseConnection(connection, null, 0, SECONDS);
+    }
+
+    @Test
+    public void shouldNotRegisterGaugesWhileMeasuring() throws Exception {
+        new HttpConnectionPoolMetrics(pool)
+                .withDefaultTags(Tag.of("clientId", "example"))
+                .bindTo(registry);
+
+        final int meters = registry.getMeters().size();
+
+        final HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+        final HttpClientConnection connection = pool.requestConnection(route, null).get(1, SECONDS);
+
+        gauge("http.client.connections.leased").value();
+
+        assertThat(registry.getMeters().size(), is(meters));
+
+        pool.releaseConnection(connection, null, 0, SECONDS);
+    }
+
+    private Gauge gauge(final String name) {
+        return registry.find(name).tag("clientId", "example").gauge();
+    }
+
+    @Nullable
+    private Gauge routeGauge(final String name) {
+        return registry.find(name)
+                .tag("clientId", "example")
+                .tag("route", "http://localhost:8080")
+                .gauge();
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("riptide.CircuitBreaker")
+@Label("Circuit Breaker Transition")
+@Category({"Riptide", "HTTP"})
+@StackTrace(false)
+final class CircuitBreakerEvent extends Event {
+
+    @Label("Client")
+    String clientId;
+
+    @Label("Key")
+    @Description("The circuit breaker's key, if it's one of many managed by a registry")
+    String key;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Time In State")
+    @Description("How long the circuit breaker stayed in its previous state")
+    @Timespan
+    long timeInState;
+
+}
@@ -0,0 +1,81 @@
+package org.zalando.riptide.jfr;
+
+import net.jodah.failsafe.CircuitBreaker.State;
+import org.apiguardian.api.API;
+import org.zalando.riptide.failsafe.CircuitBreakerListener;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.jodah.failsafe.CircuitBreaker.State.CLOSED;
+import static net.jodah.failsafe.CircuitBreaker.State.HALF_OPEN;
+import static net.jodah.failsafe.CircuitBreaker.State.OPEN;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Emits a {@code riptide.CircuitBreaker} Flight Recorder event for every state transition of a circuit breaker.
+ */
+@API(status = EXPERIMENTAL)
+public final class JfrCircuitBreakerListener implements CircuitBreakerListener {
+
+    @Nullable
+    private final String clientId;
+
+    @Nullable
+    private final String key;
+
+    private final AtomicReference<State> state = new AtomicReference<>(CLOSED);
+    private final AtomicLong since = new AtomicLong(System.nanoTime());
+
+    public JfrCircuitBreakerListener() {
+        this(null, null);
+    }
+
+    private JfrCircuitBreakerListener(@Nullable final String clientId, @Nullable final String key) {
+        this.clientId = clientId;
+        this.key = key;
+    }
+
+    public JfrCircuitBreakerListener withClientId(final String clientId) {
+        return new JfrCircuitBreakerListener(clientId, key);
+    }
+
+    @Override
+    public CircuitBreakerListener forKey(final String key) {
+        return new JfrCircuitBreakerListener(clientId, key);
+    }
+
+    @Override
+    public void onOpen() {
+        on(OPEN);
+    }
+
+    @Override
+    public void onHalfOpen() {
+        on(HALF_OPEN);
+    }
+
+    @Override
+    public void onClose() {
+        on(CLOSED);
+    }
+
+    private void on(final State to) {
+        final long now = System.nanoTime();
+        final State from = state.getAndSet(to);
+        final long last = since.getAndSet(now);
+
+        final CircuitBreakerEvent event = new CircuitBreakerEvent();
+
+        if (event.shouldCommit()) {
+            event.clientId = clientId;
+            event.key = key;
+            event.from = from.name();
+            event.to = to.name();
+            event.timeInState = now - last;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.zalando.riptide.jfr;
+
+import org.apiguardian.api.API;
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.Plugin;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestBodyCounter;
+import org.zalando.riptide.RequestExecution;
+import org.zalando.riptide.Timings;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.riptide.Timings.Phase.CONNECT;
+import static org.zalando.riptide.Timings.Phase.LEASE;
+import static org.zalando.riptide.Timings.Phase.QUEUE;
+import static org.zalando.riptide.Timings.Phase.RESPONSE;
+import static org.zalando.riptide.jfr.Requests.failure;
+import static org.zalando.riptide.jfr.Requests.method;
+import static org.zalando.riptide.jfr.Requests.status;
+import static org.zalando.riptide.jfr.Requests.uri;
+
+/**
+ * Emits a {@code riptide.Request} Flight Recorder event for every attempt of a request. The event spans from sending
+ * the request until the response headers arrived. Nothing is measured unless the event type is enabled in a running
+ * recording. Like the {@code MetricsPlugin}, it should be registered as the first plugin, in order to observe retries
+ * and backup requests as individual attempts.
+ */
+@API(status = EXPERIMENTAL)
+public final class JfrPlugin implements Plugin {
+
+    @Nullable
+    private final String clientId;
+
+    public JfrPlugin() {
+        this(null);
+    }
+
+    private JfrPlugin(@Nullable final String clientId) {
+        this.clientId = clientId;
+    }
+
+    public JfrPlugin withClientId(final String clientId) {
+        return new JfrPlugin(clientId);
+    }
+
+    @Override
+    public RequestExecution interceptBeforeRouting(final RequestArguments arguments, final RequestExecution execution) {
+        // created once per request, the returned execution is invoked once per attempt
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        return () -> {
+            final int attempt = attempts.getAndIncrement();
+            final boolean backup = inFlight.getAndIncrement() > 0;
+
+            final RequestEvent event = new RequestEvent();
+
+            if (!event.isEnabled()) {
+                return execution.execute()
+                        .whenComplete((response, throwable) -> inFlight.decrementAndGet());
+            }
+
+            event.begin();
+
+            final RequestBodyCounter counter;
+            final CompletableFuture<ClientHttpResponse> future;
+
+            try (RequestBodyCounter current = RequestBodyCounter.start()) {
+                counter = current;
+                future = execution.execute();
+            }
+
+            return future.whenComplete((response, throwable) -> {
+                inFlight.decrementAndGet();
+                event.end();
+
+                if (event.shouldCommit()) {
+                    event.attempt = attempt;
+                    event.backup = backup;
+                    // streaming bodies are written while sending, i.e. the count is only final by now
+                    event.requestSize = counter.getCount();
+                    commit(event, arguments, response, throwable);
+                }
+            });
+        };
+    }
+
+    @Override
+    public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+        return execution;
+    }
+
+    private void commit(final RequestEvent event, final RequestArguments arguments,
+            @Nullable final ClientHttpResponse response, @Nullable final Throwable throwable) {
+
+        event.clientId = clientId;
+        event.method = method(arguments);
+        event.uri = uri(arguments);
+        event.host = arguments.getRequestUri().getHost();
+        event.status = status(response);
+        event.failure = failure(throwable);
+        event.responseSize = response == null ? -1 : response.getHeaders().getContentLength();
+
+        if (response != null) {
+            Timings.of(response).ifPresent(timings -> {
+                event.queue = timings.get(QUEUE).orElse(0);
+                event.lease = timings.get(LEASE).orElse(0);
+                event.connect = timings.get(CONNECT).orElse(0);
+                event.response = timings.get(RESPONSE).orElse(0);
+            });
+        }
+
+        event.commit();
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.zalando.riptide.jfr;
+
+import net.jodah.failsafe.ExecutionContext;
+import org.apiguardian.api.API;
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.failsafe.RetryListener;
+
+import javax.annotation.Nullable;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.riptide.jfr.Requests.failure;
+import static org.zalando.riptide.jfr.Requests.method;
+import static org.zalando.riptide.jfr.Requests.status;
+import static org.zalando.riptide.jfr.Requests.uri;
+
+/**
+ * Emits a {@code riptide.Retry} Flight Recorder event for every retry of the {@code FailsafePlugin}.
+ */
+@API(status = EXPERIMENTAL)
+public final class JfrRetryListener implements RetryListener {
+
+    @Nullable
+    private final String clientId;
+
+    public JfrRetryListener() {
+        this(null);
+    }
+
+    private JfrRetryListener(@Nullable final String clientId) {
+        this.clientId = clientId;
+    }
+
+    public JfrRetryListener withClientId(final String clientId) {
+        return new JfrRetryListener(clientId);
+    }
+
+    @Override
+    public void onRetry(final RequestArguments arguments, @Nullable final ClientHttpResponse result,
+            @Nullable final Throwable failure, final ExecutionContext context) {
+
+        final RetryEvent event = new RetryEvent();
+
+        if (event.shouldCommit()) {
+            event.clientId = clientId;
+            event.method = method(arguments);
+            event.uri = uri(arguments);
+            event.status = status(result);
+            event.failure = failure(failure);
+            event.retries = context.getExecutions();
+            event.elapsed = context.getElapsedTime().toNanos();
+            event.commit();
+        }
+    }
+
+}
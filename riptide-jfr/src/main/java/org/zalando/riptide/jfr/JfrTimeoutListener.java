@@ -0,0 +1,48 @@
+package org.zalando.riptide.jfr;
+
+import org.apiguardian.api.API;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.timeout.TimeoutListener;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.riptide.jfr.Requests.method;
+import static org.zalando.riptide.jfr.Requests.uri;
+
+/**
+ * Emits a {@code riptide.Timeout} Flight Recorder event whenever the {@code TimeoutPlugin} fails a request.
+ */
+@API(status = EXPERIMENTAL)
+public final class JfrTimeoutListener implements TimeoutListener {
+
+    @Nullable
+    private final String clientId;
+
+    public JfrTimeoutListener() {
+        this(null);
+    }
+
+    private JfrTimeoutListener(@Nullable final String clientId) {
+        this.clientId = clientId;
+    }
+
+    public JfrTimeoutListener withClientId(final String clientId) {
+        return new JfrTimeoutListener(clientId);
+    }
+
+    @Override
+    public void onTimeout(final RequestArguments arguments, final long timeout, final TimeUnit unit) {
+        final TimeoutEvent event = new TimeoutEvent();
+
+        if (event.shouldCommit()) {
+            event.clientId = clientId;
+            event.method = method(arguments);
+            event.uri = uri(arguments);
+            event.timeout = unit.toNanos(timeout);
+            event.commit();
+        }
+    }
+
+}
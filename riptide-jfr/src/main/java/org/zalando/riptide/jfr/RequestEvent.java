@@ -0,0 +1,72 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("riptide.Request")
+@Label("HTTP Request")
+@Category({"Riptide", "HTTP"})
+@Description("A single attempt of an HTTP request, i.e. retries and backup requests are recorded separately")
+@StackTrace(false)
+final class RequestEvent extends Event {
+
+    @Label("Client")
+    String clientId;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    @Description("The URI template, or the request URI's path if the request has no template")
+    String uri;
+
+    @Label("Host")
+    String host;
+
+    @Label("Status")
+    @Description("The response's status code, -1 if there is no response")
+    int status;
+
+    @Label("Failure")
+    String failure;
+
+    @Label("Attempt")
+    @Description("0 for the original request, incremented for every retry and backup request")
+    int attempt;
+
+    @Label("Backup")
+    @Description("Whether another attempt of the same request was still in flight when this one was sent")
+    boolean backup;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestSize;
+
+    @Label("Response Size")
+    @Description("The response's Content-Length, -1 if unknown")
+    @DataAmount
+    long responseSize;
+
+    @Label("Queue")
+    @Timespan
+    long queue;
+
+    @Label("Lease")
+    @Timespan
+    long lease;
+
+    @Label("Connect")
+    @Timespan
+    long connect;
+
+    @Label("Response")
+    @Timespan
+    long response;
+
+}
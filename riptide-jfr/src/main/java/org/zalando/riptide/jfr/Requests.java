@@ -0,0 +1,49 @@
+package org.zalando.riptide.jfr;
+
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.RequestArguments;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+final class Requests {
+
+    private Requests() {
+
+    }
+
+    static String method(final RequestArguments arguments) {
+        return arguments.getMethod().name();
+    }
+
+    static String uri(final RequestArguments arguments) {
+        @Nullable final String template = arguments.getUriTemplate();
+        return template == null ? arguments.getRequestUri().getPath() : template;
+    }
+
+    static int status(@Nullable final ClientHttpResponse response) {
+        if (response == null) {
+            return -1;
+        }
+
+        try {
+            return response.getRawStatusCode();
+        } catch (final IOException e) {
+            return -1;
+        }
+    }
+
+    @Nullable
+    static String failure(@Nullable final Throwable throwable) {
+        if (throwable == null) {
+            return null;
+        }
+
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                throwable.getCause() : throwable;
+
+        return cause.getClass().getName();
+    }
+
+}
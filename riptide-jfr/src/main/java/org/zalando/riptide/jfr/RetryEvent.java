@@ -0,0 +1,38 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("riptide.Retry")
+@Label("HTTP Retry")
+@Category({"Riptide", "HTTP"})
+@StackTrace(false)
+final class RetryEvent extends Event {
+
+    @Label("Client")
+    String clientId;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Failure")
+    String failure;
+
+    @Label("Retries")
+    int retries;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+
+}
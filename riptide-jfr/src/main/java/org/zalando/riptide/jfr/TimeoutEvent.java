@@ -0,0 +1,29 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("riptide.Timeout")
+@Label("HTTP Timeout")
+@Category({"Riptide", "HTTP"})
+@StackTrace(false)
+final class TimeoutEvent extends Event {
+
+    @Label("Client")
+    String clientId;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Timeout")
+    @Timespan
+    long timeout;
+
+}
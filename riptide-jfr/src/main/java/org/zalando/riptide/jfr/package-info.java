@@ -0,0 +1,4 @@
+@ParametersAreNonnullByDefault
+package org.zalando.riptide.jfr;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,53 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.Test;
+import org.zalando.riptide.failsafe.CircuitBreakerListener;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.zalando.riptide.jfr.Recordings.record;
+
+public final class JfrCircuitBreakerListenerTest {
+
+    private final JfrCircuitBreakerListener unit = new JfrCircuitBreakerListener().withClientId("example");
+
+    @Test
+    public void shouldRecordTransitions() {
+        final List<RecordedEvent> events = record("riptide.CircuitBreaker", () -> {
+            unit.onOpen();
+            unit.onHalfOpen();
+            unit.onClose();
+        });
+
+        assertThat(events, hasSize(3));
+
+        assertTransition(events.get(0), "CLOSED", "OPEN");
+        assertTransition(events.get(1), "OPEN", "HALF_OPEN");
+        assertTransition(events.get(2), "HALF_OPEN", "CLOSED");
+
+        assertThat(events.get(0).getString("clientId"), is("example"));
+        assertThat(events.get(0).getString("key"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldRecordKey() {
+        final CircuitBreakerListener listener = unit.forKey("www.example.com");
+
+        final List<RecordedEvent> events = record("riptide.CircuitBreaker", listener::onOpen);
+
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("clientId"), is("example"));
+        assertThat(events.get(0).getString("key"), is("www.example.com"));
+    }
+
+    private static void assertTransition(final RecordedEvent event, final String from, final String to) {
+        assertThat(event.getString("from"), is(from));
+        assertThat(event.getString("to"), is(to));
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.zalando.riptide.jfr;
+
+import com.github.restdriver.clientdriver.ClientDriverRule;
+import jdk.jfr.consumer.RecordedEvent;
+import net.jodah.failsafe.RetryPolicy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.zalando.riptide.Http;
+import org.zalando.riptide.failsafe.FailsafePlugin;
+import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.github.restdriver.clientdriver.ClientDriverRequest.Method.POST;
+import static com.github.restdriver.clientdriver.RestClientDriver.giveEmptyResponse;
+import static com.github.restdriver.clientdriver.RestClientDriver.giveResponse;
+import static com.github.restdriver.clientdriver.RestClientDriver.onRequestTo;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.MediaType.TEXT_PLAIN;
+import static org.zalando.riptide.Bindings.anyStatus;
+import static org.zalando.riptide.Bindings.on;
+import static org.zalando.riptide.Navigators.status;
+import static org.zalando.riptide.PassRoute.pass;
+import static org.zalando.riptide.failsafe.RetryRoute.retry;
+import static org.zalando.riptide.jfr.Recordings.record;
+import static org.zalando.riptide.jfr.Recordings.recordDisabled;
+
+public final class JfrPluginTest {
+
+    @Rule
+    public final ClientDriverRule driver = new ClientDriverRule();
+
+    private final CloseableHttpClient client = HttpClientBuilder.create().build();
+    private final AsyncListenableTaskExecutor executor = new ConcurrentTaskExecutor();
+    private final RestAsyncClientHttpRequestFactory factory = new RestAsyncClientHttpRequestFactory(client, executor);
+
+    private final Http unit = Http.builder()
+            .baseUrl(driver.getBaseUrl())
+            .requestFactory(factory)
+            .plugin(new JfrPlugin().withClientId("example"))
+            .plugin(new FailsafePlugin(newSingleThreadScheduledExecutor())
+                    .withRetryPolicy(new RetryPolicy().withMaxRetries(1)))
+            .build();
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    public void shouldRecordRequest() {
+        driver.addExpectation(onRequestTo("/foo").withMethod(POST),
+                giveResponse("Hello", "text/plain"));
+
+        final List<RecordedEvent> events = record("riptide.Request", () ->
+                unit.post("/foo")
+                        .contentType(TEXT_PLAIN)
+                        .body("Hello, world!")
+                        .call(pass())
+                        .join());
+
+        assertThat(events, hasSize(1));
+
+        final RecordedEvent event = events.get(0);
+        assertThat(event.getString("clientId"), is("example"));
+        assertThat(event.getString("method"), is("POST"));
+        assertThat(event.getString("uri"), is("/foo"));
+        assertThat(event.getString("host"), is("localhost"));
+        assertThat(event.getInt("status"), is(200));
+        assertThat(event.getString("failure"), is(nullValue()));
+        assertThat(event.getInt("attempt"), is(0));
+        assertThat(event.getBoolean("backup"), is(false));
+        assertThat(event.getLong("requestSize"), is(13L));
+        assertThat(event.getLong("responseSize"), is(5L));
+        assertThat(event.getDuration().toNanos(), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void shouldRecordRetriesAsSeparateAttempts() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().withStatus(503));
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        final List<RecordedEvent> events = record("riptide.Request", () ->
+                unit.get("/foo")
+                        .dispatch(status(),
+                                on(SERVICE_UNAVAILABLE).call(retry()),
+                                anyStatus().call(pass()))
+                        .join());
+
+        assertThat(events, hasSize(2));
+
+        assertThat(events.get(0).getInt("status"), is(503));
+        assertThat(events.get(0).getInt("attempt"), is(0));
+        assertThat(events.get(1).getInt("status"), is(204));
+        assertThat(events.get(1).getInt("attempt"), is(1));
+        assertThat(events.get(1).getBoolean("backup"), is(false));
+    }
+
+    @Test
+    public void shouldNotRecordIfDisabled() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        final List<RecordedEvent> events = recordDisabled("riptide.Request", () ->
+                unit.get("/foo")
+                        .call(pass())
+                        .join());
+
+        assertThat(events, hasSize(0));
+    }
+
+}
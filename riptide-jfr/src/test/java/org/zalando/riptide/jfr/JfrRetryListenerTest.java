@@ -0,0 +1,56 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import net.jodah.failsafe.ExecutionContext;
+import net.jodah.failsafe.util.Duration;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.zalando.riptide.RequestArguments;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.zalando.riptide.jfr.Recordings.record;
+
+public final class JfrRetryListenerTest {
+
+    private final JfrRetryListener unit = new JfrRetryListener().withClientId("example");
+
+    @Test
+    public void shouldRecordRetry() {
+        final RequestArguments arguments = RequestArguments.create()
+                .withMethod(HttpMethod.GET)
+                .withUriTemplate("/orders/{id}")
+                .withRequestUri(URI.create("http://localhost/orders/123"));
+
+        final ExecutionContext context = mock(ExecutionContext.class);
+        when(context.getExecutions()).thenReturn(2);
+        when(context.getElapsedTime()).thenReturn(new Duration(250, MILLISECONDS));
+
+        final IOException failure = new SocketTimeoutException();
+
+        final List<RecordedEvent> events = record("riptide.Retry", () ->
+                unit.onRetry(arguments, null, new CompletionException(failure), context));
+
+        assertThat(events, hasSize(1));
+
+        final RecordedEvent event = events.get(0);
+        assertThat(event.getString("clientId"), is("example"));
+        assertThat(event.getString("method"), is("GET"));
+        assertThat(event.getString("uri"), is("/orders/{id}"));
+        assertThat(event.getInt("status"), is(-1));
+        assertThat(event.getString("failure"), is(SocketTimeoutException.class.getName()));
+        assertThat(event.getInt("retries"), is(2));
+        assertThat(event.getDuration("elapsed").toMillis(), is(250L));
+    }
+
+}
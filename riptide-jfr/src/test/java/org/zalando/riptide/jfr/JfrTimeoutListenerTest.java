@@ -0,0 +1,39 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.zalando.riptide.RequestArguments;
+
+import java.net.URI;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.zalando.riptide.jfr.Recordings.record;
+
+public final class JfrTimeoutListenerTest {
+
+    private final JfrTimeoutListener unit = new JfrTimeoutListener().withClientId("example");
+
+    @Test
+    public void shouldRecordTimeout() {
+        final RequestArguments arguments = RequestArguments.create()
+                .withMethod(HttpMethod.POST)
+                .withRequestUri(URI.create("http://localhost/orders"));
+
+        final List<RecordedEvent> events = record("riptide.Timeout", () ->
+                unit.onTimeout(arguments, 2, SECONDS));
+
+        assertThat(events, hasSize(1));
+
+        final RecordedEvent event = events.get(0);
+        assertThat(event.getString("clientId"), is("example"));
+        assertThat(event.getString("method"), is("POST"));
+        assertThat(event.getString("uri"), is("/orders"));
+        assertThat(event.getDuration("timeout").getSeconds(), is(2L));
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.zalando.riptide.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Comparator.comparing;
+
+final class Recordings {
+
+    private Recordings() {
+
+    }
+
+    static List<RecordedEvent> record(final String name, final Runnable action) {
+        return record(recording -> recording.enable(name).withoutThreshold(), action);
+    }
+
+    /**
+     * Records with the given event disabled and returns all events of that type that were recorded anyway.
+     */
+    static List<RecordedEvent> recordDisabled(final String name, final Runnable action) {
+        final List<RecordedEvent> events = record(recording -> recording.disable(name), action);
+        events.removeIf(event -> !event.getEventType().getName().equals(name));
+        return events;
+    }
+
+    @SneakyThrows
+    private static List<RecordedEvent> record(final Consumer<Recording> configurer, final Runnable action) {
+        final Path file = Files.createTempFile("riptide", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            configurer.accept(recording);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            events.sort(comparing(RecordedEvent::getStartTime));
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
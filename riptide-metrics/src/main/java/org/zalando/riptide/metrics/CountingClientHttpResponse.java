@@ -0,0 +1,52 @@
+package org.zalando.riptide.metrics;
+
+import com.google.common.io.CountingInputStream;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.ForwardingClientHttpResponse;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Counts the bytes that are read from the response body and records them once the response is closed.
+ */
+final class CountingClientHttpResponse extends ForwardingClientHttpResponse {
+
+    private final ClientHttpResponse response;
+    private final DistributionSummary summary;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Nullable
+    private CountingInputStream body;
+
+    CountingClientHttpResponse(final ClientHttpResponse response, final DistributionSummary summary) {
+        this.response = response;
+        this.summary = summary;
+    }
+
+    @Override
+    protected ClientHttpResponse delegate() {
+        return response;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new CountingInputStream(response.getBody());
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            summary.record(body == null ? 0 : body.getCount());
+        }
+
+        super.close();
+    }
+
+}
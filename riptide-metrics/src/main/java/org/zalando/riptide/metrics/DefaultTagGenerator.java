@@ -15,12 +15,31 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 @API(status = EXPERIMENTAL)
 public final class DefaultTagGenerator implements TagGenerator {
 
+    private final UriNormalizer normalizer;
+
+    public DefaultTagGenerator() {
+        this(UriNormalizer.create());
+    }
+
+    public DefaultTagGenerator(final UriNormalizer normalizer) {
+        this.normalizer = normalizer;
+    }
+
     @Override
     public Iterable<Tag> tags(final RequestArguments arguments, @Nullable final ClientHttpResponse response,
             @Nullable final Throwable throwable) {
+        return tags(arguments, normalizer.normalize(arguments), response, throwable);
+    }
+
+    /**
+     * @param uri the already {@link UriNormalizer#normalize(RequestArguments) normalized} URI, which spares callers
+     * that normalized it already a second pass
+     */
+    Iterable<Tag> tags(final RequestArguments arguments, final String uri, @Nullable final ClientHttpResponse response,
+            @Nullable final Throwable throwable) {
         return Arrays.asList(
                 Tag.of("method", method(arguments)),
-                Tag.of("uri", uri(arguments)),
+                Tag.of("uri", uri),
                 Tag.of("status", status(response)),
                 Tag.of("clientName", client(arguments)),
                 Tag.of("exception", exception(throwable))
@@ -31,10 +50,6 @@ public final class DefaultTagGenerator implements TagGenerator {
         return arguments.getMethod().name();
     }
 
-    private String uri(final RequestArguments arguments) {
-        return firstNonNull(arguments.getUriTemplate(), arguments.getRequestUri().getPath());
-    }
-
     private String status(@Nullable final ClientHttpResponse response) {
         if (response == null) {
             return "CLIENT_ERROR";
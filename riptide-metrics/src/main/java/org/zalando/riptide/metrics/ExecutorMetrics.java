@@ -0,0 +1,105 @@
+package org.zalando.riptide.metrics;
+
+import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apiguardian.api.API;
+import org.zalando.riptide.TimingWheelScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Gauges for the executor or scheduler of a client:
+ *
+ * <ul>
+ *     <li>{@code <name>.active}: threads that are currently executing a task</li>
+ *     <li>{@code <name>.queued}: tasks waiting for a thread or for their delay to elapse</li>
+ *     <li>{@code <name>.rejected}: tasks that were rejected so far</li>
+ * </ul>
+ *
+ * Active threads and rejections are only available for a {@link ThreadPoolExecutor}, the queue size additionally for
+ * a {@link TimingWheelScheduler}. Other executors are not instrumented. Rejections are counted by a handler that is
+ * installed once, when this binder is created, i.e. it can be bound to any number of registries.
+ */
+@API(status = EXPERIMENTAL)
+public final class ExecutorMetrics implements MeterBinder {
+
+    private final ExecutorService executor;
+    private final String metricName;
+    private final ImmutableList<Tag> defaultTags;
+    private final LongAdder rejections;
+
+    public ExecutorMetrics(final ExecutorService executor) {
+        this(executor, "http.client.executor", ImmutableList.of(), countRejections(executor));
+    }
+
+    private ExecutorMetrics(final ExecutorService executor, final String metricName,
+            final ImmutableList<Tag> defaultTags, final LongAdder rejections) {
+        this.executor = executor;
+        this.metricName = metricName;
+        this.defaultTags = defaultTags;
+        this.rejections = rejections;
+    }
+
+    private static LongAdder countRejections(final ExecutorService executor) {
+        final LongAdder rejections = new LongAdder();
+
+        if (executor instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            final RejectedExecutionHandler handler = pool.getRejectedExecutionHandler();
+
+            pool.setRejectedExecutionHandler((task, self) -> {
+                rejections.increment();
+                handler.rejectedExecution(task, self);
+            });
+        }
+
+        return rejections;
+    }
+
+    public ExecutorMetrics withMetricName(final String metricName) {
+        return new ExecutorMetrics(executor, metricName, defaultTags, rejections);
+    }
+
+    public ExecutorMetrics withDefaultTags(final Tag... defaultTags) {
+        return withDefaultTags(ImmutableList.copyOf(defaultTags));
+    }
+
+    public ExecutorMetrics withDefaultTags(final Iterable<Tag> defaultTags) {
+        return new ExecutorMetrics(executor, metricName, ImmutableList.copyOf(defaultTags), rejections);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (executor instanceof ThreadPoolExecutor) {
+            bindTo(registry, (ThreadPoolExecutor) executor);
+        } else if (executor instanceof TimingWheelScheduler) {
+            Gauge.builder(metricName + ".queued", (TimingWheelScheduler) executor, TimingWheelScheduler::getQueueSize)
+                    .tags(defaultTags)
+                    .register(registry);
+        }
+    }
+
+    private void bindTo(final MeterRegistry registry, final ThreadPoolExecutor executor) {
+        Gauge.builder(metricName + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .tags(defaultTags)
+                .register(registry);
+
+        Gauge.builder(metricName + ".queued", executor, pool -> pool.getQueue().size())
+                .tags(defaultTags)
+                .register(registry);
+
+        FunctionCounter.builder(metricName + ".rejected", rejections, LongAdder::doubleValue)
+                .tags(defaultTags)
+                .register(registry);
+    }
+
+}
@@ -1,20 +1,34 @@
 package org.zalando.riptide.metrics;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.apiguardian.api.API;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpResponse;
 import org.zalando.riptide.Plugin;
 import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestBodyCounter;
 import org.zalando.riptide.RequestExecution;
+import org.zalando.riptide.Timings;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.collect.Iterables.concat;
+import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.zalando.fauxpas.FauxPas.throwingBiConsumer;
@@ -22,25 +36,38 @@ import static org.zalando.fauxpas.FauxPas.throwingBiConsumer;
 @API(status = EXPERIMENTAL)
 public final class MetricsPlugin implements Plugin {
 
+    /**
+     * Guards against unbounded dimensions, e.g. a custom {@link UriNormalizer} with a very high limit.
+     */
+    private static final int MAX_CACHED_METERS = 10_000;
+
+    private static final Timings.Phase[] PHASES = Timings.Phase.values();
+
     private final MeterRegistry registry;
     private final String metricName;
     private final ImmutableList<Tag> defaultTags;
+    private final UriNormalizer normalizer;
     private final Clock clock;
-    private final TagGenerator generator = new DefaultTagGenerator();
+    private final DefaultTagGenerator generator;
+    private final ConcurrentMap<Key, Meters> meters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, Timer[]> phaseTimers = new ConcurrentHashMap<>();
 
     public MetricsPlugin(final MeterRegistry registry) {
-        this(registry, "http.client.requests", ImmutableList.of());
+        this(registry, "http.client.requests", ImmutableList.of(), UriNormalizer.create());
     }
 
-    private MetricsPlugin(final MeterRegistry registry, final String metricName, final ImmutableList<Tag> defaultTags) {
+    private MetricsPlugin(final MeterRegistry registry, final String metricName, final ImmutableList<Tag> defaultTags,
+            final UriNormalizer normalizer) {
         this.registry = registry;
         this.metricName = metricName;
         this.defaultTags = defaultTags;
+        this.normalizer = normalizer;
         this.clock = registry.config().clock();
+        this.generator = new DefaultTagGenerator(normalizer);
     }
 
     public MetricsPlugin withMetricName(final String metricName) {
-        return new MetricsPlugin(registry, metricName, defaultTags);
+        return new MetricsPlugin(registry, metricName, defaultTags, normalizer);
     }
 
     public MetricsPlugin withDefaultTags(final Tag... defaultTags) {
@@ -48,40 +75,203 @@ public final class MetricsPlugin implements Plugin {
     }
 
     public MetricsPlugin withDefaultTags(final Iterable<Tag> defaultTags) {
-        return new MetricsPlugin(registry, metricName, ImmutableList.copyOf(defaultTags));
+        return new MetricsPlugin(registry, metricName, ImmutableList.copyOf(defaultTags), normalizer);
+    }
+
+    public MetricsPlugin withUriNormalizer(final UriNormalizer normalizer) {
+        return new MetricsPlugin(registry, metricName, defaultTags, normalizer);
     }
 
+    /**
+     * Records the duration and the request and response body sizes of every attempt. Request bodies are
+     * {@link RequestBodyCounter counted} while they are written, response bodies while they are read. The latter are
+     * recorded once the response is closed.
+     */
     @Override
     public RequestExecution interceptBeforeRouting(final RequestArguments arguments, final RequestExecution execution) {
         return () -> {
             final Measurement measurement = new Measurement(arguments);
+            final CompletableFuture<ClientHttpResponse> future;
 
-            return execution.execute()
-                    .whenComplete(throwingBiConsumer(measurement::record));
+            try (RequestBodyCounter counter = RequestBodyCounter.start()) {
+                // streaming bodies are written while sending, i.e. the count is only final once the response arrived
+                measurement.requestSize = counter;
+                future = execution.execute();
+            }
+
+            return future
+                    .whenComplete(throwingBiConsumer(measurement::record))
+                    .thenApply(measurement::count);
         };
     }
 
+    /**
+     * Records the individual {@link Timings.Phase phases} of the final attempt, if the response is
+     * {@link Timings.Timed timed}. This happens after routing, since deserialization is part of routing.
+     */
+    @Override
+    public RequestExecution interceptAfterRouting(final RequestArguments arguments, final RequestExecution execution) {
+        return () -> execution.execute()
+                .whenComplete((response, throwable) -> {
+                    if (response != null) {
+                        Timings.of(response).ifPresent(timings -> record(arguments, response, timings));
+                    }
+                });
+    }
+
     @Override
     public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
         return execution;
     }
 
-    @AllArgsConstructor
+    private void record(final RequestArguments arguments, final ClientHttpResponse response, final Timings timings) {
+        final Timer[] timers = phaseTimers(arguments, response);
+
+        for (final Timings.Phase phase : PHASES) {
+            final OptionalLong duration = timings.get(phase);
+
+            if (duration.isPresent()) {
+                timers[phase.ordinal()].record(duration.getAsLong(), NANOSECONDS);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
     private final class Measurement {
 
         private final long startTime = clock.monotonicTime();
         private final RequestArguments arguments;
 
-        void record(final ClientHttpResponse response, final Throwable throwable) throws IOException {
+        private RequestBodyCounter requestSize;
+        private Meters meters;
+
+        void record(@Nullable final ClientHttpResponse response, @Nullable final Throwable throwable)
+                throws IOException {
             final long endTime = clock.monotonicTime();
 
-            final Iterable<Tag> tags = concat(defaultTags, generator.tags(arguments, response, throwable));
-            final Timer timer = registry.timer(metricName, tags);
+            meters = meters(arguments, response, throwable);
 
             final long duration = endTime - startTime;
-            timer.record(duration, NANOSECONDS);
+            meters.timer.record(duration, NANOSECONDS);
+            meters.requestSize.record(requestSize.getCount());
+        }
+
+        ClientHttpResponse count(final ClientHttpResponse response) {
+            return new CountingClientHttpResponse(response, meters.responseSize);
+        }
+
+    }
+
+    private Meters meters(final RequestArguments arguments, @Nullable final ClientHttpResponse response,
+            @Nullable final Throwable throwable) {
+
+        final Key key = key(arguments, response, throwable);
+
+        @Nullable final Meters meters = this.meters.get(key);
+
+        if (meters != null) {
+            return meters;
+        }
+
+        final Iterable<Tag> tags = concat(defaultTags, generator.tags(arguments, key.uri, response, throwable));
+        final Meters created = new Meters(
+                registry.timer(metricName, tags),
+                size(metricName + ".request.size", tags),
+                size(metricName + ".response.size", tags));
+
+        if (this.meters.size() < MAX_CACHED_METERS) {
+            this.meters.putIfAbsent(key, created);
+        }
+
+        return created;
+    }
+
+    private DistributionSummary size(final String name, final Iterable<Tag> tags) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private Timer[] phaseTimers(final RequestArguments arguments, final ClientHttpResponse response) {
+        final Key key = key(arguments, response, null);
+
+        @Nullable final Timer[] timers = phaseTimers.get(key);
+
+        if (timers != null) {
+            return timers;
+        }
+
+        final Iterable<Tag> tags = concat(defaultTags, generator.tags(arguments, key.uri, response, null));
+        final Timer[] created = new Timer[PHASES.length];
+
+        for (final Timings.Phase phase : PHASES) {
+            created[phase.ordinal()] = registry.timer(metricName + ".phases",
+                    concat(tags, singleton(Tag.of("phase", phase.name().toLowerCase(Locale.ROOT)))));
+        }
+
+        if (phaseTimers.size() < MAX_CACHED_METERS) {
+            phaseTimers.putIfAbsent(key, created);
+        }
+
+        return created;
+    }
+
+    @VisibleForTesting
+    Timer timer(final RequestArguments arguments, @Nullable final ClientHttpResponse response,
+            @Nullable final Throwable throwable) {
+        return meters(arguments, response, throwable).timer;
+    }
+
+    /**
+     * Templates are used as they are, i.e. only requests without one need to be normalized. Templates are usually
+     * constants, which is why comparing keys boils down to comparing references in that case.
+     */
+    private Key key(final RequestArguments arguments, @Nullable final ClientHttpResponse response,
+            @Nullable final Throwable throwable) {
+        @Nullable final String template = arguments.getUriTemplate();
+
+        return new Key(
+                arguments.getMethod(),
+                template == null ? normalizer.normalize(arguments) : template,
+                status(response),
+                arguments.getRequestUri().getHost(),
+                throwable == null ? null : throwable.getClass());
+    }
+
+    private static int status(@Nullable final ClientHttpResponse response) {
+        if (response == null) {
+            return -1;
         }
 
+        try {
+            return response.getRawStatusCode();
+        } catch (final IOException e) {
+            return -2;
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class Meters {
+        private final Timer timer;
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+    }
+
+    /**
+     * Identifies a timer by the same dimensions that the {@link DefaultTagGenerator} uses, but without building and
+     * sorting tags first.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+        private final HttpMethod method;
+        private final String uri;
+        private final int status;
+        @Nullable
+        private final String host;
+        @Nullable
+        private final Class<? extends Throwable> exception;
     }
 
 }
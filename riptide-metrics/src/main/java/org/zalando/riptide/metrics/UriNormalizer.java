@@ -0,0 +1,292 @@
+package org.zalando.riptide.metrics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apiguardian.api.API;
+import org.zalando.riptide.RequestArguments;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Turns request URIs into low-cardinality {@code uri} tag values. URI templates are used as is. Requests without a
+ * template, e.g. {@code http.get(URI)}, are normalized:
+ *
+ * <ol>
+ *     <li>paths that match one of the known {@link #withPatterns(String...) patterns} are replaced by it</li>
+ *     <li>otherwise segments that look like IDs, i.e. numbers, UUIDs and hex hashes, are replaced by {@code {id}}</li>
+ * </ol>
+ *
+ * Once the number of distinct normalized paths reaches the {@link #withMaxValues(int) limit}, all new ones are reported
+ * as {@link #OTHER}. The limit is kept per instance, i.e. per client. Templates don't count towards it, since they are
+ * part of the code and therefore bounded already.
+ */
+@API(status = EXPERIMENTAL)
+public final class UriNormalizer {
+
+    public static final String OTHER = "OTHER";
+
+    private static final String ID = "{id}";
+
+    private final Node trie;
+    private final ImmutableList<String> patterns;
+    private final boolean detectIds;
+    private final int maxValues;
+
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private UriNormalizer(final ImmutableList<String> patterns, final boolean detectIds, final int maxValues) {
+        this.trie = compile(patterns);
+        this.patterns = patterns;
+        this.detectIds = detectIds;
+        this.maxValues = maxValues;
+    }
+
+    public static UriNormalizer create() {
+        return new UriNormalizer(ImmutableList.of(), true, 1_000);
+    }
+
+    /**
+     * @param patterns known paths, e.g. {@code /orders/{id}/items}, where a segment in curly braces matches any value
+     * @return a new normalizer
+     */
+    public UriNormalizer withPatterns(final String... patterns) {
+        return withPatterns(ImmutableList.copyOf(patterns));
+    }
+
+    public UriNormalizer withPatterns(final Iterable<String> patterns) {
+        return new UriNormalizer(ImmutableList.copyOf(patterns), detectIds, maxValues);
+    }
+
+    public UriNormalizer withIdDetection(final boolean detectIds) {
+        return new UriNormalizer(patterns, detectIds, maxValues);
+    }
+
+    public UriNormalizer withMaxValues(final int maxValues) {
+        checkArgument(maxValues > 0, "Max values must be positive");
+        return new UriNormalizer(patterns, detectIds, maxValues);
+    }
+
+    public String normalize(final RequestArguments arguments) {
+        @Nullable final String template = arguments.getUriTemplate();
+        return template == null ? limit(normalize(arguments.getRequestUri().getPath())) : template;
+    }
+
+    String normalize(@Nullable final String path) {
+        if (path == null || path.isEmpty()) {
+            return "";
+        }
+
+        final String[] segments = path.split("/", -1);
+
+        @Nullable final String pattern = trie.match(segments, 0);
+
+        if (pattern != null) {
+            return pattern;
+        }
+
+        return detectIds ? replaceIds(segments) : path;
+    }
+
+    private String limit(final String value) {
+        if (values.contains(value)) {
+            return value;
+        }
+
+        if (size.incrementAndGet() > maxValues) {
+            size.decrementAndGet();
+            return OTHER;
+        }
+
+        if (!values.add(value)) {
+            // added concurrently
+            size.decrementAndGet();
+        }
+
+        return value;
+    }
+
+    private static String replaceIds(final String[] segments) {
+        final StringBuilder result = new StringBuilder();
+
+        for (int index = 0; index < segments.length; index++) {
+            if (index > 0) {
+                result.append('/');
+            }
+
+            final String segment = segments[index];
+            result.append(isId(segment) ? ID : segment);
+        }
+
+        return result.toString();
+    }
+
+    static boolean isId(final String segment) {
+        return isNumber(segment) || isUuid(segment) || isHash(segment);
+    }
+
+    private static boolean isNumber(final String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+
+        for (int index = 0; index < segment.length(); index++) {
+            if (!isDigit(segment.charAt(index))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isUuid(final String segment) {
+        if (segment.length() != 36) {
+            return false;
+        }
+
+        for (int index = 0; index < segment.length(); index++) {
+            final char c = segment.charAt(index);
+
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHex(c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isHash(final String segment) {
+        if (segment.length() < 16) {
+            return false;
+        }
+
+        boolean digits = false;
+
+        for (int index = 0; index < segment.length(); index++) {
+            final char c = segment.charAt(index);
+
+            if (!isHex(c)) {
+                return false;
+            }
+
+            digits |= isDigit(c);
+        }
+
+        // long words that happen to consist of a-f only are unlikely, but not impossible
+        return digits;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(final char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static Node compile(final List<String> patterns) {
+        final Builder root = new Builder();
+
+        for (final String pattern : patterns) {
+            Builder node = root;
+
+            for (final String segment : pattern.split("/", -1)) {
+                node = isVariable(segment) ?
+                        node.variable() :
+                        node.literal(segment);
+            }
+
+            node.pattern = pattern;
+        }
+
+        return root.build();
+    }
+
+    private static boolean isVariable(final String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static final class Builder {
+
+        private final Map<String, Builder> literals = new HashMap<>();
+
+        @Nullable
+        private Builder variable;
+
+        @Nullable
+        private String pattern;
+
+        Builder literal(final String segment) {
+            return literals.computeIfAbsent(segment, ignored -> new Builder());
+        }
+
+        Builder variable() {
+            if (variable == null) {
+                variable = new Builder();
+            }
+            return variable;
+        }
+
+        Node build() {
+            final ImmutableMap.Builder<String, Node> children = ImmutableMap.builder();
+            literals.forEach((segment, child) -> children.put(segment, child.build()));
+            return new Node(children.build(), variable == null ? null : variable.build(), pattern);
+        }
+
+    }
+
+    private static final class Node {
+
+        private final ImmutableMap<String, Node> literals;
+
+        @Nullable
+        private final Node variable;
+
+        @Nullable
+        private final String pattern;
+
+        private Node(final ImmutableMap<String, Node> literals, @Nullable final Node variable,
+                @Nullable final String pattern) {
+            this.literals = literals;
+            this.variable = variable;
+            this.pattern = pattern;
+        }
+
+        @Nullable
+        String match(final String[] segments, final int index) {
+            if (index == segments.length) {
+                return pattern;
+            }
+
+            final String segment = segments[index];
+
+            // literals take precedence, variables are only tried if the literal branch doesn't match
+            @Nullable final Node literal = literals.get(segment);
+
+            if (literal != null) {
+                @Nullable final String match = literal.match(segments, index + 1);
+
+                if (match != null) {
+                    return match;
+                }
+            }
+
+            return variable == null || segment.isEmpty() ? null : variable.match(segments, index + 1);
+        }
+
+    }
+
+}
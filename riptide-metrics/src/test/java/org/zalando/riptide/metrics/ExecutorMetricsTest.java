@@ -0,0 +1,123 @@
+package org.zalando.riptide.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+import org.zalando.riptide.TimingWheel;
+import org.zalando.riptide.TimingWheelScheduler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ExecutorMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+
+    private final TimingWheel wheel = new TimingWheel();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        wheel.close();
+    }
+
+    @Test
+    public void shouldMeasureThreadPool() throws InterruptedException {
+        new ExecutorMetrics(executor)
+                .withDefaultTags(Tag.of("clientId", "example"))
+                .bindTo(registry);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            started.countDown();
+            await(latch);
+        });
+        executor.execute(() -> await(latch));
+
+        started.await(1, SECONDS);
+
+        try {
+            executor.execute(() -> await(latch));
+            fail("Expected rejection");
+        } catch (final RejectedExecutionException e) {
+            // expected
+        }
+
+        assertThat(gauge("http.client.executor.active"), is(1.0));
+        assertThat(gauge("http.client.executor.queued"), is(1.0));
+        assertThat(rejected(registry), is(1.0));
+
+        latch.countDown();
+    }
+
+    @Test
+    public void shouldCountRejectionsOncePerRegistry() {
+        final SimpleMeterRegistry other = new SimpleMeterRegistry();
+        final ExecutorMetrics unit = new ExecutorMetrics(executor).withDefaultTags(Tag.of("clientId", "example"));
+
+        unit.bindTo(registry);
+        unit.bindTo(other);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> await(latch));
+        executor.execute(() -> await(latch));
+
+        try {
+            executor.execute(() -> await(latch));
+            fail("Expected rejection");
+        } catch (final RejectedExecutionException e) {
+            // expected
+        }
+
+        assertThat(rejected(registry), is(1.0));
+        assertThat(rejected(other), is(1.0));
+
+        latch.countDown();
+    }
+
+    private static double rejected(final SimpleMeterRegistry registry) {
+        return registry.find("http.client.executor.rejected").tag("clientId", "example").functionCounter().count();
+    }
+
+    @Test
+    public void shouldMeasureTimingWheelScheduler() {
+        final TimingWheelScheduler scheduler = new TimingWheelScheduler(wheel, Executors.newSingleThreadExecutor());
+
+        new ExecutorMetrics(scheduler)
+                .withMetricName("http.client.scheduler")
+                .withDefaultTags(Tag.of("clientId", "example"))
+                .bindTo(registry);
+
+        scheduler.schedule(() -> "done", 1, SECONDS);
+
+        assertThat(gauge("http.client.scheduler.queued"), is(1.0));
+    }
+
+    private double gauge(final String name) {
+        return registry.find(name).tag("clientId", "example").gauge().value();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(1, SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
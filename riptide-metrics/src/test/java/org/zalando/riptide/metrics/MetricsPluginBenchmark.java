@@ -0,0 +1,87 @@
+package org.zalando.riptide.metrics;
+
+import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.zalando.riptide.RequestArguments;
+
+import java.net.URI;
+
+import static com.google.common.collect.Iterables.concat;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.http.HttpMethod.GET;
+
+/**
+ * Compares looking up the timer of a request using the {@link MetricsPlugin plugin's} cache with building its tags and
+ * looking it up in the registry, which is what the plugin used to do for every request. Both paths resolve the same
+ * timer and neither of them records anything. Run using {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsPluginBenchmark {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ImmutableList<Tag> defaultTags = ImmutableList.of(Tag.of("clientId", "example"));
+    private final TagGenerator generator = new DefaultTagGenerator();
+
+    private MetricsPlugin plugin;
+    private RequestArguments template;
+    private RequestArguments path;
+    private ClientHttpResponse response;
+
+    @Setup
+    public void setUp() {
+        plugin = new MetricsPlugin(registry).withDefaultTags(defaultTags);
+        template = RequestArguments.create()
+                .withMethod(GET)
+                .withBaseUrl(URI.create("https://api.example.com"))
+                .withUriTemplate("/users/{id}")
+                .withRequestUri(URI.create("https://api.example.com/users/123"));
+        path = template.withUriTemplate(null);
+        response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
+    @Benchmark
+    public Timer tags() {
+        return registry.timer("http.client.requests", concat(defaultTags, generator.tags(template, response, null)));
+    }
+
+    @Benchmark
+    public Timer cachedTemplate() {
+        return plugin.timer(template, response, null);
+    }
+
+    @Benchmark
+    public Timer cachedPath() {
+        return plugin.timer(path, response, null);
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MetricsPluginBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -3,6 +3,8 @@ package org.zalando.riptide.metrics;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.restdriver.clientdriver.ClientDriverRule;
+import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
@@ -14,6 +16,7 @@ import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.zalando.riptide.Http;
@@ -22,14 +25,17 @@ import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.Map;
 import java.util.concurrent.CompletionException;
 
 import static com.github.restdriver.clientdriver.ClientDriverRequest.Method.POST;
 import static com.github.restdriver.clientdriver.RestClientDriver.giveEmptyResponse;
+import static com.github.restdriver.clientdriver.RestClientDriver.giveResponse;
 import static com.github.restdriver.clientdriver.RestClientDriver.onRequestTo;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
@@ -38,6 +44,7 @@ import static org.springframework.http.HttpStatus.Series.SUCCESSFUL;
 import static org.zalando.riptide.Bindings.on;
 import static org.zalando.riptide.Navigators.series;
 import static org.zalando.riptide.PassRoute.pass;
+import static org.zalando.riptide.Route.call;
 
 public class MetricsPluginTest {
 
@@ -145,4 +152,58 @@ public class MetricsPluginTest {
         }
     }
 
+    @Test
+    public void shouldReuseTimerForSameDimensions() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().withStatus(200));
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().withStatus(200));
+
+        unit.get("/foo").call(pass()).join();
+        unit.get("/foo").call(pass()).join();
+
+        assertThat(registry.find("http.outgoing-requests").timers(), hasSize(1));
+        assertThat(registry.find("http.outgoing-requests").timer().count(), is(2L));
+    }
+
+    @Test
+    public void shouldRecordBodySizes() {
+        driver.addExpectation(onRequestTo("/sizes").withMethod(POST),
+                giveResponse("{\"id\":1}", "application/json"));
+
+        unit.post("/sizes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ImmutableMap.of("name", "alice"))
+                .call(call(Map.class, body -> {}))
+                .join();
+
+        @Nullable final DistributionSummary request = registry.find("http.outgoing-requests.request.size").summary();
+        @Nullable final DistributionSummary response = registry.find("http.outgoing-requests.response.size").summary();
+
+        assertThat(request, is(notNullValue()));
+        assertThat(request.totalAmount(), is(16.0));
+        assertThat(request.getId().getTag("uri"), is("/sizes"));
+        assertThat(request.getId().getTag("client"), is("example"));
+        assertThat(response, is(notNullValue()));
+        assertThat(response.totalAmount(), is(8.0));
+        assertThat(response.getId().getTag("status"), is("200"));
+    }
+
+    @Test
+    public void shouldRecordPhases() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().withStatus(200));
+
+        unit.get("/foo")
+                .call(pass())
+                .join();
+
+        @Nullable final Timer queue = registry.find("http.outgoing-requests.phases").tag("phase", "queue").timer();
+        @Nullable final Timer response = registry.find("http.outgoing-requests.phases").tag("phase", "response").timer();
+
+        assertThat(queue, is(notNullValue()));
+        assertThat(queue.count(), is(1L));
+        assertThat(queue.getId().getTag("uri"), is("/foo"));
+        assertThat(queue.getId().getTag("client"), is("example"));
+        assertThat(response, is(notNullValue()));
+        assertThat(response.count(), is(1L));
+    }
+
 }
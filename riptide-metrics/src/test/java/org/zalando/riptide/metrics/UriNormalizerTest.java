@@ -0,0 +1,84 @@
+package org.zalando.riptide.metrics;
+
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.zalando.riptide.RequestArguments;
+
+import javax.annotation.Nullable;
+import java.net.URI;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class UriNormalizerTest {
+
+    private final UriNormalizer unit = UriNormalizer.create()
+            .withPatterns("/orders/{id}", "/orders/latest", "/users/{user}/orders/{order}");
+
+    @Test
+    public void shouldPreferTemplate() {
+        final RequestArguments arguments = RequestArguments.create()
+                .withMethod(HttpMethod.GET)
+                .withUriTemplate("/orders/{id}/items")
+                .withRequestUri(URI.create("http://localhost/orders/123/items"));
+
+        assertThat(unit.normalize(arguments), is("/orders/{id}/items"));
+    }
+
+    @Test
+    public void shouldMatchPatterns() {
+        assertThat(unit.normalize("/orders/8723"), is("/orders/{id}"));
+        assertThat(unit.normalize("/orders/latest"), is("/orders/latest"));
+        assertThat(unit.normalize("/users/alice/orders/8723"), is("/users/{user}/orders/{order}"));
+    }
+
+    @Test
+    public void shouldDetectIds() {
+        assertThat(unit.normalize("/products/8723/reviews"), is("/products/{id}/reviews"));
+        assertThat(unit.normalize("/products/3f6c1a2e-8f0b-4c6e-9a51-5c2a0e4f7b19"), is("/products/{id}"));
+        assertThat(unit.normalize("/blobs/9a0364b9e99bb480dd25e1f0284c8555"), is("/blobs/{id}"));
+        assertThat(unit.normalize("/products/shoes"), is("/products/shoes"));
+        assertThat(unit.normalize("/products/decade"), is("/products/decade"));
+    }
+
+    @Test
+    public void shouldNotDetectIdsIfDisabled() {
+        assertThat(unit.withIdDetection(false).normalize("/products/8723"), is("/products/8723"));
+    }
+
+    @Test
+    public void shouldLimitDistinctValues() {
+        final UriNormalizer unit = UriNormalizer.create().withMaxValues(2);
+
+        assertThat(unit.normalize(arguments("/a")), is("/a"));
+        assertThat(unit.normalize(arguments("/b")), is("/b"));
+        assertThat(unit.normalize(arguments("/c")), is(UriNormalizer.OTHER));
+        assertThat(unit.normalize(arguments("/a")), is("/a"));
+    }
+
+    @Test
+    public void shouldNotLimitTemplates() {
+        final UriNormalizer unit = UriNormalizer.create().withMaxValues(1);
+
+        assertThat(unit.normalize(arguments("/a")), is("/a"));
+        assertThat(unit.normalize(arguments("/b", "/b/{id}")), is("/b/{id}"));
+        assertThat(unit.normalize(arguments("/c")), is(UriNormalizer.OTHER));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveLimit() {
+        UriNormalizer.create().withMaxValues(0);
+    }
+
+    private static RequestArguments arguments(final String path) {
+        return arguments(path, null);
+    }
+
+    private static RequestArguments arguments(final String path, @Nullable final String template) {
+        return RequestArguments.create()
+                .withMethod(HttpMethod.GET)
+                .withUriTemplate(template)
+                .withRequestUri(URI.create("http://localhost" + path));
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.zalando.riptide.opentracing;
+
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import org.apiguardian.api.API;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.annotation.Nullable;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Activates the span that was active when a task was submitted while the task is running, e.g. the span of the
+ * current attempt on the executor of the request factory:
+ *
+ * <pre>{@code
+ * ConcurrentTaskExecutor executor = new ConcurrentTaskExecutor(threadPool);
+ * executor.setTaskDecorator(new ActiveSpanTaskDecorator(tracer));
+ * }</pre>
+ *
+ * Propagation costs a single activation per task, tasks that were submitted without an active span are not
+ * decorated at all.
+ */
+@API(status = EXPERIMENTAL)
+public final class ActiveSpanTaskDecorator implements TaskDecorator {
+
+    private final Tracer tracer;
+
+    public ActiveSpanTaskDecorator(final Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Runnable decorate(final Runnable task) {
+        @Nullable final Span span = tracer.activeSpan();
+
+        if (span == null) {
+            return task;
+        }
+
+        return () -> {
+            try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                task.run();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,191 @@
+package org.zalando.riptide.opentracing;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.MapMaker;
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.propagation.TextMapInjectAdapter;
+import io.opentracing.tag.Tags;
+import org.apiguardian.api.API;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.HeaderInjection;
+import org.zalando.riptide.Plugin;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestExecution;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.opentracing.propagation.Format.Builtin.HTTP_HEADERS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.riptide.CancelableCompletableFuture.forwardTo;
+import static org.zalando.riptide.CancelableCompletableFuture.preserveCancelability;
+
+/**
+ * Traces requests using an OpenTracing {@link Tracer tracer}:
+ *
+ * <ul>
+ *     <li>every request is a span, a child of the span that was active when the request was made</li>
+ *     <li>every attempt, i.e. the original request, retries and backup requests, is a client span of its own and a
+ *     child of the request's span</li>
+ *     <li>the context of the current attempt is injected into the request's headers</li>
+ *     <li>the attempt's span is active while the request is sent, the request's span while routing the response</li>
+ * </ul>
+ *
+ * Headers are injected on the thread that sends the request, i.e. the executor of the request factory doesn't need
+ * to propagate any context. Code that runs on that executor and needs the active span, e.g. interceptors of the
+ * HTTP client, can use the {@link ActiveSpanTaskDecorator}.
+ *
+ * The plugin should be registered last, i.e. after any plugin that retries or duplicates requests, in order to see
+ * all attempts of a request as part of the same span.
+ */
+@API(status = EXPERIMENTAL)
+public final class OpenTracingPlugin implements Plugin {
+
+    private static final String COMPONENT = "riptide";
+
+    private final Tracer tracer;
+
+    /**
+     * Hands the span of a request over from {@link #interceptBeforeRouting(RequestArguments, RequestExecution)
+     * interceptBeforeRouting} to {@link #interceptAfterRouting(RequestArguments, RequestExecution)
+     * interceptAfterRouting}, which are called right after each other with the same arguments. Keys are compared by
+     * identity, i.e. equal requests never share a span.
+     */
+    private final ConcurrentMap<RequestArguments, Span> requests = new MapMaker().weakKeys().makeMap();
+
+    public OpenTracingPlugin(final Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Starts the span of the request and a span for every attempt. This is called once per request, synchronously on
+     * the thread that makes the request, i.e. the parent of the request's span is always the span that was active
+     * when the request was made, even if attempts are executed on a different thread, e.g. by a scheduler.
+     */
+    @Override
+    public RequestExecution interceptBeforeRouting(final RequestArguments arguments, final RequestExecution execution) {
+        final Span request = startRequest(arguments);
+        requests.put(arguments, request);
+
+        // the returned execution is invoked once per attempt
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        return () -> {
+            final int attempt = attempts.getAndIncrement();
+            final boolean backup = inFlight.getAndIncrement() > 0;
+            final Span span = startAttempt(request, attempt, backup);
+
+            final CompletableFuture<ClientHttpResponse> upstream;
+
+            try (Scope ignored = tracer.scopeManager().activate(span, false);
+                 HeaderInjection injection = HeaderInjection.start(headers -> inject(span, headers))) {
+                upstream = execution.execute();
+            } catch (final IOException | RuntimeException e) {
+                inFlight.decrementAndGet();
+                finish(span, null, e);
+                throw e;
+            }
+
+            final CompletableFuture<ClientHttpResponse> downstream = preserveCancelability(upstream);
+
+            upstream.whenComplete((response, throwable) -> {
+                inFlight.decrementAndGet();
+                finish(span, response, throwable);
+
+                // routing happens when the downstream future completes, i.e. within the request's span
+                try (Scope ignored = tracer.scopeManager().activate(request, false)) {
+                    forwardTo(downstream).accept(response, throwable);
+                }
+            });
+
+            return downstream;
+        };
+    }
+
+    /**
+     * Activates the span of the request, which was started by {@link #interceptBeforeRouting(RequestArguments,
+     * RequestExecution) interceptBeforeRouting} for the same arguments, while the request is being made and finishes
+     * it once the response was routed.
+     */
+    @Override
+    public RequestExecution interceptAfterRouting(final RequestArguments arguments, final RequestExecution execution) {
+        @Nullable final Span started = requests.remove(arguments);
+        final Span span = started == null ? startRequest(arguments) : started;
+
+        return () -> {
+            final CompletableFuture<ClientHttpResponse> future;
+
+            try (Scope ignored = tracer.scopeManager().activate(span, false)) {
+                future = execution.execute();
+            } catch (final IOException | RuntimeException e) {
+                finish(span, null, e);
+                throw e;
+            }
+
+            return future.whenComplete((response, throwable) -> finish(span, response, throwable));
+        };
+    }
+
+    @Override
+    public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+        return execution;
+    }
+
+    private Span startRequest(final RequestArguments arguments) {
+        return tracer.buildSpan(arguments.getMethod().name())
+                .withTag(Tags.COMPONENT.getKey(), COMPONENT)
+                .withTag(Tags.HTTP_METHOD.getKey(), arguments.getMethod().name())
+                .withTag(Tags.HTTP_URL.getKey(), arguments.getRequestUri().toString())
+                .withTag(Tags.PEER_HOSTNAME.getKey(), arguments.getRequestUri().getHost())
+                .start();
+    }
+
+    private Span startAttempt(final Span parent, final int attempt, final boolean backup) {
+        return tracer.buildSpan(attempt == 0 ? "attempt" : backup ? "backup" : "retry")
+                .asChildOf(parent)
+                .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_CLIENT)
+                .withTag(Tags.COMPONENT.getKey(), COMPONENT)
+                .withTag("attempt", attempt)
+                .withTag("backup", backup)
+                .start();
+    }
+
+    private void inject(final Span span, final HttpHeaders headers) {
+        final Map<String, String> context = new HashMap<>();
+        tracer.inject(span.context(), HTTP_HEADERS, new TextMapInjectAdapter(context));
+        headers.setAll(context);
+    }
+
+    private static void finish(final Span span, @Nullable final ClientHttpResponse response,
+            @Nullable final Throwable throwable) {
+
+        if (response != null) {
+            try {
+                Tags.HTTP_STATUS.set(span, response.getRawStatusCode());
+            } catch (final IOException e) {
+                // status is not available, the span is still worth reporting
+            }
+        }
+
+        if (throwable != null) {
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                    throwable.getCause() : throwable;
+
+            Tags.ERROR.set(span, true);
+            span.log(ImmutableMap.of("event", Tags.ERROR.getKey(), "error.object", cause));
+        }
+
+        span.finish();
+    }
+
+}
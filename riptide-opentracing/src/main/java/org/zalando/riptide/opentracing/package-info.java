@@ -0,0 +1,4 @@
+@ParametersAreNonnullByDefault
+package org.zalando.riptide.opentracing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
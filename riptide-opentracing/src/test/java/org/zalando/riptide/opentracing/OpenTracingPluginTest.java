@@ -0,0 +1,248 @@
+package org.zalando.riptide.opentracing;
+
+import com.github.restdriver.clientdriver.ClientDriverRule;
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.mock.MockSpan;
+import io.opentracing.mock.MockTracer;
+import net.jodah.failsafe.RetryPolicy;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.zalando.riptide.Http;
+import org.zalando.riptide.Plugin;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestExecution;
+import org.zalando.riptide.failsafe.FailsafePlugin;
+import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+import static com.github.restdriver.clientdriver.RestClientDriver.giveEmptyResponse;
+import static com.github.restdriver.clientdriver.RestClientDriver.onRequestTo;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.zalando.riptide.PassRoute.pass;
+import static org.zalando.riptide.Route.call;
+
+public final class OpenTracingPluginTest {
+
+    @Rule
+    public final ClientDriverRule driver = new ClientDriverRule();
+
+    private final MockTracer tracer = new MockTracer(MockTracer.Propagator.TEXT_MAP);
+
+    private final AtomicReference<Span> sending = new AtomicReference<>();
+
+    private final CloseableHttpClient client = HttpClientBuilder.create()
+            .setDefaultRequestConfig(RequestConfig.custom()
+                    .setSocketTimeout(500)
+                    .build())
+            .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> sending.set(tracer.activeSpan()))
+            .build();
+
+    private final ConcurrentTaskExecutor executor = new ConcurrentTaskExecutor(newCachedThreadPool());
+
+    {
+        executor.setTaskDecorator(new ActiveSpanTaskDecorator(tracer));
+    }
+
+    private final Http unit = Http.builder()
+            .baseUrl(driver.getBaseUrl())
+            .requestFactory(new RestAsyncClientHttpRequestFactory(client, executor))
+            .plugin(new FailsafePlugin(newSingleThreadScheduledExecutor())
+                    .withRetryPolicy(new RetryPolicy()
+                            .withMaxRetries(1)
+                            .retryOn(SocketTimeoutException.class)))
+            .plugin(new OpenTracingPlugin(tracer))
+            .build();
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    public void shouldTraceRequest() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        unit.get("/foo").call(pass()).join();
+
+        final List<MockSpan> spans = tracer.finishedSpans();
+        assertThat(spans, hasSize(2));
+
+        final MockSpan attempt = spans.get(0);
+        final MockSpan span = spans.get(1);
+
+        assertThat(span.operationName(), is("GET"));
+        assertThat(span.tags(), hasEntry("component", (Object) "riptide"));
+        assertThat(span.tags(), hasEntry("http.method", (Object) "GET"));
+        assertThat(span.tags(), hasEntry("http.url", (Object) (driver.getBaseUrl() + "/foo")));
+        assertThat(span.tags(), hasEntry("http.status_code", (Object) 204));
+
+        assertThat(attempt.operationName(), is("attempt"));
+        assertThat(attempt.parentId(), is(span.context().spanId()));
+        assertThat(attempt.tags(), hasEntry("span.kind", (Object) "client"));
+        assertThat(attempt.tags(), hasEntry("attempt", (Object) 0));
+        assertThat(attempt.tags(), hasEntry("http.status_code", (Object) 204));
+    }
+
+    @Test
+    public void shouldInjectSpanContext() {
+        driver.addExpectation(onRequestTo("/foo")
+                .withHeader("traceid", Pattern.compile("\\d+"))
+                .withHeader("spanid", Pattern.compile("\\d+")), giveEmptyResponse());
+
+        unit.get("/foo").call(pass()).join();
+    }
+
+    @Test
+    public void shouldTraceAsChildOfActiveSpan() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        final MockSpan parent = tracer.buildSpan("parent").start();
+
+        try (Scope ignored = tracer.scopeManager().activate(parent, true)) {
+            unit.get("/foo").call(pass()).join();
+        }
+
+        final MockSpan span = tracer.finishedSpans().get(1);
+        assertThat(span.parentId(), is(parent.context().spanId()));
+        assertThat(span.context().traceId(), is(parent.context().traceId()));
+    }
+
+    @Test
+    public void shouldTraceRetryAsChildSpan() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().after(800, MILLISECONDS));
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        unit.get("/foo").call(pass()).join();
+
+        final List<MockSpan> spans = tracer.finishedSpans();
+        assertThat(spans, hasSize(3));
+
+        final MockSpan attempt = spans.get(0);
+        final MockSpan retry = spans.get(1);
+        final MockSpan span = spans.get(2);
+
+        assertThat(attempt.parentId(), is(span.context().spanId()));
+        assertThat(attempt.tags(), hasEntry("error", (Object) true));
+        assertThat(retry.operationName(), is("retry"));
+        assertThat(retry.parentId(), is(span.context().spanId()));
+        assertThat(retry.tags(), hasEntry("attempt", (Object) 1));
+        assertThat(retry.tags(), hasEntry("http.status_code", (Object) 204));
+    }
+
+    @Test
+    public void shouldTagErrors() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().after(800, MILLISECONDS));
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse().after(800, MILLISECONDS));
+
+        try {
+            unit.get("/foo").call(pass()).join();
+            fail("Expected exception");
+        } catch (final CompletionException e) {
+            assertThat(e.getCause(), is(instanceOf(SocketTimeoutException.class)));
+        }
+
+        final List<MockSpan> spans = tracer.finishedSpans();
+        assertThat(spans, hasSize(3));
+        spans.forEach(span -> assertThat(span.tags(), hasEntry("error", (Object) true)));
+    }
+
+    @Test
+    public void shouldActivateSpanWhileRouting() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        final AtomicReference<Span> active = new AtomicReference<>();
+
+        unit.get("/foo").call(call(() -> active.set(tracer.activeSpan()))).join();
+
+        final Span span = tracer.finishedSpans().get(1);
+        assertThat(active.get(), is(sameInstance(span)));
+        assertThat(tracer.activeSpan(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldActivateAttemptSpanWhileSending() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        unit.get("/foo").call(pass()).join();
+
+        final Span attempt = tracer.finishedSpans().get(0);
+        assertThat(sending.get(), is(sameInstance(attempt)));
+    }
+
+    @Test
+    public void shouldTraceAttemptsOnSchedulerAsChildSpans() {
+        driver.addExpectation(onRequestTo("/foo"), giveEmptyResponse());
+
+        final ScheduledExecutorService scheduler = newSingleThreadScheduledExecutor(runnable ->
+                new Thread(runnable, "scheduler"));
+
+        final AtomicReference<Thread> attempting = new AtomicReference<>();
+
+        final Http unit = Http.builder()
+                .baseUrl(driver.getBaseUrl())
+                .requestFactory(new RestAsyncClientHttpRequestFactory(client, executor))
+                .plugin(new FailsafePlugin(scheduler)
+                        .withRetryPolicy(new RetryPolicy().withMaxRetries(1)))
+                .plugin(new Plugin() {
+                    @Override
+                    public RequestExecution interceptBeforeRouting(final RequestArguments arguments,
+                            final RequestExecution execution) {
+                        return () -> {
+                            attempting.set(Thread.currentThread());
+                            return execution.execute();
+                        };
+                    }
+
+                    @Override
+                    public RequestExecution prepare(final RequestArguments arguments,
+                            final RequestExecution execution) {
+                        return execution;
+                    }
+                })
+                .plugin(new OpenTracingPlugin(tracer))
+                .build();
+
+        try {
+            unit.get("/foo").call(pass()).join();
+        } finally {
+            scheduler.shutdown();
+        }
+
+        assertThat(attempting.get().getName(), is("scheduler"));
+
+        final List<MockSpan> spans = tracer.finishedSpans();
+        assertThat(spans, hasSize(2));
+
+        final MockSpan attempt = spans.get(0);
+        final MockSpan span = spans.get(1);
+
+        assertThat(attempt.operationName(), is("attempt"));
+        assertThat(attempt.parentId(), is(span.context().spanId()));
+        assertThat(attempt.context().traceId(), is(span.context().traceId()));
+    }
+
+}
@@ -39,6 +39,8 @@ public final class RiptideProperties {
         private UrlResolution urlResolution;
         private TimeSpan connectTimeout;
         private TimeSpan socketTimeout;
+        private TimeSpan connectionRequestTimeout;
+        private TimeSpan tlsHandshakeTimeout;
         private TimeSpan connectionTimeToLive;
         private Integer maxConnectionsPerRoute;
         private Integer maxConnectionsTotal;
@@ -46,13 +48,18 @@ public final class RiptideProperties {
         private ThreadPool threadPool;
         private Boolean detectTransientFaults;
         private Boolean preserveStackTrace;
+        private Integer preserveStackTraceSampleRate;
         private Boolean recordMetrics;
+        private Boolean binaryFormats;
+        @NestedConfigurationProperty
+        private Metrics metrics;
         @NestedConfigurationProperty
         private Retry retry;
         @NestedConfigurationProperty
         private CircuitBreaker circuitBreaker;
         @NestedConfigurationProperty
         private BackupRequest backupRequest;
+        private TimeSpan responseTimeout;
         private TimeSpan timeout;
     }
 
@@ -77,6 +84,8 @@ public final class RiptideProperties {
         private UrlResolution urlResolution;
         private TimeSpan connectTimeout;
         private TimeSpan socketTimeout;
+        private TimeSpan connectionRequestTimeout;
+        private TimeSpan tlsHandshakeTimeout;
         private TimeSpan connectionTimeToLive;
         private Integer maxConnectionsPerRoute;
         private Integer maxConnectionsTotal;
@@ -85,13 +94,18 @@ public final class RiptideProperties {
         private OAuth oauth;
         private Boolean detectTransientFaults;
         private Boolean preserveStackTrace;
+        private Integer preserveStackTraceSampleRate;
         private Boolean recordMetrics;
+        private Boolean binaryFormats;
+        @NestedConfigurationProperty
+        private Metrics metrics;
         @NestedConfigurationProperty
         private Retry retry;
         @NestedConfigurationProperty
         private CircuitBreaker circuitBreaker;
         @NestedConfigurationProperty
         private BackupRequest backupRequest;
+        private TimeSpan responseTimeout;
         private TimeSpan timeout;
         private boolean compressRequest = false;
         private Keystore keystore;
@@ -124,6 +138,17 @@ public final class RiptideProperties {
         private Integer queueSize;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static final class Metrics {
+        private List<Double> percentiles;
+        private List<TimeSpan> slo;
+        private Boolean histogram;
+        private TimeSpan expiry;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -155,6 +180,21 @@ public final class RiptideProperties {
         private Ratio failureThreshold;
         private TimeSpan delay;
         private Ratio successThreshold;
+        private Scope scope;
+        private Integer maxSize;
+        private TimeSpan idleTimeout;
+        private Type type;
+        private TimeSpan window;
+        private Ratio slowCallThreshold;
+        private TimeSpan slowCallDuration;
+
+        public enum Scope {
+            CLIENT, HOST, URI_TEMPLATE
+        }
+
+        public enum Type {
+            FAILSAFE, SLIDING_WINDOW
+        }
     }
 
     @Getter
@@ -0,0 +1,62 @@
+package org.zalando.riptide.spring;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.util.ClassUtils.getDefaultClassLoader;
+import static org.springframework.util.ClassUtils.isPresent;
+
+/**
+ * Binary JSON formats that are supported, if the corresponding Jackson data format is on the classpath.
+ */
+enum BinaryFormat {
+
+    SMILE(new MediaType("application", "x-jackson-smile"),
+            "com.fasterxml.jackson.dataformat.smile.SmileFactory",
+            "org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter",
+            "smileStreamConverter"),
+
+    CBOR(new MediaType("application", "cbor"),
+            "com.fasterxml.jackson.dataformat.cbor.CBORFactory",
+            "org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter",
+            "cborStreamConverter");
+
+    private final MediaType mediaType;
+    private final String factoryClassName;
+    private final String converterClassName;
+    private final String streamConverterMethod;
+
+    BinaryFormat(final MediaType mediaType, final String factoryClassName, final String converterClassName,
+            final String streamConverterMethod) {
+        this.mediaType = mediaType;
+        this.factoryClassName = factoryClassName;
+        this.converterClassName = converterClassName;
+        this.streamConverterMethod = streamConverterMethod;
+    }
+
+    MediaType getMediaType() {
+        return mediaType;
+    }
+
+    String getFactoryClassName() {
+        return factoryClassName;
+    }
+
+    String getConverterClassName() {
+        return converterClassName;
+    }
+
+    String getStreamConverterMethod() {
+        return streamConverterMethod;
+    }
+
+    static List<BinaryFormat> available() {
+        return Arrays.stream(values())
+                .filter(format -> isPresent(format.factoryClassName, getDefaultClassLoader()))
+                .collect(toList());
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.zalando.riptide.spring;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.zalando.riptide.spring.RiptideProperties.Metrics;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Applies the configured distribution statistics, i.e. percentiles, SLO boundaries and histograms, to the timers of
+ * a single client. Other meters, including the ones of other clients, are left untouched.
+ */
+final class ClientMeterFilter implements MeterFilter {
+
+    private static final String PREFIX = "http.client.";
+
+    private final String clientId;
+    private final DistributionStatisticConfig config;
+
+    ClientMeterFilter(final String clientId, final Metrics metrics) {
+        this.clientId = clientId;
+        this.config = toConfig(metrics);
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+        if (matches(id)) {
+            return this.config.merge(config);
+        }
+        return config;
+    }
+
+    private boolean matches(final Meter.Id id) {
+        // SLO boundaries are durations, they don't make sense for distribution summaries, e.g. body sizes
+        return id.getType() == Meter.Type.TIMER &&
+                id.getName().startsWith(PREFIX) &&
+                clientId.equals(id.getTag("clientId"));
+    }
+
+    private static DistributionStatisticConfig toConfig(final Metrics metrics) {
+        final DistributionStatisticConfig.Builder builder = DistributionStatisticConfig.builder()
+                .percentilesHistogram(metrics.getHistogram());
+
+        @Nullable final List<Double> percentiles = metrics.getPercentiles();
+        if (percentiles != null) {
+            builder.percentiles(percentiles.stream().mapToDouble(Double::doubleValue).toArray());
+        }
+
+        @Nullable final List<TimeSpan> slo = metrics.getSlo();
+        if (slo != null) {
+            builder.sla(slo.stream().mapToLong(span -> span.to(NANOSECONDS)).toArray());
+        }
+
+        @Nullable final TimeSpan expiry = metrics.getExpiry();
+        if (expiry != null) {
+            builder.expiry(Duration.ofMillis(expiry.to(MILLISECONDS)));
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.zalando.riptide.spring;
+
+import org.springframework.http.MediaType;
+import org.zalando.riptide.HeaderInjection;
+import org.zalando.riptide.Plugin;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestExecution;
+
+import java.util.List;
+
+/**
+ * Sets an {@code Accept} header on every attempt of requests that don't specify one, e.g. to prefer binary formats.
+ * An {@code Accept} header that was passed to the request explicitly replaces the default one.
+ */
+final class DefaultAcceptPlugin implements Plugin {
+
+    private final List<MediaType> mediaTypes;
+
+    DefaultAcceptPlugin(final List<MediaType> mediaTypes) {
+        this.mediaTypes = mediaTypes;
+    }
+
+    @Override
+    public RequestExecution interceptBeforeRouting(final RequestArguments arguments, final RequestExecution execution) {
+        // injected headers are overridden by the request's own headers
+        return () -> {
+            try (HeaderInjection injection = HeaderInjection.start(headers -> headers.setAccept(mediaTypes))) {
+                return execution.execute();
+            }
+        };
+    }
+
+    @Override
+    public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+        return execution;
+    }
+
+}
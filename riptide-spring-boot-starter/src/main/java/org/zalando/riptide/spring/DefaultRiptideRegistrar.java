@@ -3,6 +3,7 @@ package org.zalando.riptide.spring;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.CircuitBreaker;
@@ -10,32 +11,45 @@ import net.jodah.failsafe.RetryPolicy;
 import org.apache.http.ConnectionClosedException;
 import org.apache.http.NoHttpResponseException;
 import org.apache.http.client.HttpClient;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.springframework.beans.BeanMetadataElement;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.AsyncClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.client.AsyncRestTemplate;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriTemplateHandler;
+import org.zalando.riptide.CachingJackson2HttpMessageConverter;
 import org.zalando.riptide.Http;
 import org.zalando.riptide.OriginalStackTracePlugin;
 import org.zalando.riptide.Plugin;
 import org.zalando.riptide.PluginInterceptor;
+import org.zalando.riptide.TimingWheel;
+import org.zalando.riptide.TimingWheelScheduler;
 import org.zalando.riptide.backup.BackupRequestPlugin;
 import org.zalando.riptide.failsafe.CircuitBreakerListener;
+import org.zalando.riptide.failsafe.CircuitBreakerPlugin;
+import org.zalando.riptide.failsafe.CircuitBreakerRegistry;
 import org.zalando.riptide.failsafe.FailsafePlugin;
 import org.zalando.riptide.failsafe.RetryListener;
+import org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker;
 import org.zalando.riptide.faults.FaultClassifier;
 import org.zalando.riptide.faults.TransientFaultPlugin;
 import org.zalando.riptide.httpclient.GzipHttpRequestInterceptor;
 import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
+import org.zalando.riptide.httpclient.metrics.HttpConnectionPoolMetrics;
+import org.zalando.riptide.metrics.ExecutorMetrics;
 import org.zalando.riptide.metrics.MetricsPlugin;
 import org.zalando.riptide.spring.RiptideProperties.Client;
 import org.zalando.riptide.stream.Streams;
+import org.zalando.riptide.timeout.ResponseTimeoutPlugin;
 import org.zalando.riptide.timeout.TimeoutPlugin;
 import org.zalando.stups.oauth2.httpcomponents.AccessTokensRequestInterceptor;
 import org.zalando.stups.tokens.AccessTokens;
@@ -43,16 +57,19 @@ import org.zalando.tracer.concurrent.TracingExecutors;
 
 import javax.annotation.Nullable;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toCollection;
 import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
 import static org.zalando.riptide.spring.Dependencies.ifPresent;
@@ -71,13 +88,17 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
     public void register() {
         properties.getClients().forEach((id, client) -> {
             final String factoryId = registerAsyncClientHttpRequestFactory(id, client);
-            final BeanDefinition converters = registerHttpMessageConverters(id);
+            final BeanDefinition converters = registerHttpMessageConverters(id, client);
             final String baseUrl = client.getBaseUrl();
             final List<String> plugins = registerPlugins(id, client);
 
             registerHttp(id, client, factoryId, converters, plugins);
             registerTemplate(id, RestTemplate.class, factoryId, baseUrl, converters, plugins);
             registerTemplate(id, AsyncRestTemplate.class, factoryId, baseUrl, converters, plugins);
+
+            if (client.getRecordMetrics()) {
+                registerMetrics(id, client);
+            }
         });
     }
 
@@ -88,18 +109,28 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
             final BeanDefinitionBuilder factory =
                     genericBeanDefinition(RestAsyncClientHttpRequestFactory.class);
 
-            factory.addConstructorArgReference(registerHttpClient(id, client));
-            factory.addConstructorArgValue(genericBeanDefinition(ConcurrentTaskExecutor.class)
+            final BeanDefinitionBuilder executor = genericBeanDefinition(ConcurrentTaskExecutor.class)
                     // we allow users to use their own ExecutorService, but they don't have to configure tracing
-                    .addConstructorArgValue(registerExecutor(id, client))
-                    .getBeanDefinition());
+                    .addConstructorArgValue(registerExecutor(id, client));
+
+            if (registry.isRegistered(id, TaskDecorator.class)) {
+                // e.g. to propagate context per task rather than wrapping the whole executor
+                executor.addPropertyReference("taskDecorator", generateBeanName(id, TaskDecorator.class));
+            }
+
+            factory.addConstructorArgReference(registerHttpClient(id, client));
+            factory.addConstructorArgValue(executor.getBeanDefinition());
 
             return factory;
         });
     }
 
     private BeanMetadataElement registerExecutor(final String id, final Client client) {
-        return trace(registry.registerIfAbsent(id, ExecutorService.class, () -> {
+        return trace(registerExecutorService(id, client));
+    }
+
+    private String registerExecutorService(final String id, final Client client) {
+        return registry.registerIfAbsent(id, ExecutorService.class, () -> {
             final RiptideProperties.ThreadPool threadPool = client.getThreadPool();
             return genericBeanDefinition(ThreadPoolExecutor.class)
                     .addConstructorArgValue(threadPool.getMinSize())
@@ -111,14 +142,14 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
                             new ArrayBlockingQueue<>(threadPool.getQueueSize()))
                     .addConstructorArgValue(new CustomizableThreadFactory("http-" + id + "-"))
                     .setDestroyMethodName("shutdown");
-        }));
+        });
     }
 
     private static final class HttpMessageConverters {
 
     }
 
-    private BeanDefinition registerHttpMessageConverters(final String id) {
+    private BeanDefinition registerHttpMessageConverters(final String id, final Client client) {
         // we use the wrong type here since that's the easiest way to influence the name
         // we want exampleHttpMessageConverters, rather than exampleClientHttpMessageConverters
 
@@ -132,9 +163,9 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
 
             final String objectMapperId = findObjectMapper(id);
 
-            log.debug("Client [{}]: Registering MappingJackson2HttpMessageConverter referencing [{}]", id,
+            log.debug("Client [{}]: Registering CachingJackson2HttpMessageConverter referencing [{}]", id,
                     objectMapperId);
-            list.add(genericBeanDefinition(MappingJackson2HttpMessageConverter.class)
+            list.add(genericBeanDefinition(CachingJackson2HttpMessageConverter.class)
                     .addConstructorArgReference(objectMapperId)
                     .getBeanDefinition());
 
@@ -146,6 +177,12 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
                         .getBeanDefinition());
             });
 
+            if (client.getBinaryFormats()) {
+                // registered after JSON, which stays the default for requests without content type
+                BinaryFormat.available().forEach(format ->
+                        registerBinaryConverters(id, list, format));
+            }
+
             return genericBeanDefinition(ClientHttpMessageConverters.class)
                     .addConstructorArgValue(list);
         });
@@ -155,6 +192,38 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
                 .getBeanDefinition();
     }
 
+    private void registerBinaryConverters(final String id, final List<Object> list, final BinaryFormat format) {
+        // an inner bean, i.e. no additional ObjectMapper candidate for autowiring
+        final BeanDefinition objectMapper = genericBeanDefinition(ObjectMapperFactory.class)
+                .setFactoryMethod("createObjectMapper")
+                .addConstructorArgValue(findObjectMapperBuilder())
+                .addConstructorArgValue(genericBeanDefinition(format.getFactoryClassName()).getBeanDefinition())
+                .getBeanDefinition();
+
+        // stream converters come first, since both share the same media type, but they only read streams
+        ifPresent("org.zalando.riptide.stream.Streams", () -> {
+            log.debug("Client [{}]: Registering StreamConverter for [{}]", id, format.getMediaType());
+            list.add(genericBeanDefinition(Streams.class)
+                    .setFactoryMethod(format.getStreamConverterMethod())
+                    .addConstructorArgValue(objectMapper)
+                    .getBeanDefinition());
+        });
+
+        ifPresent(format.getConverterClassName(), () -> {
+            log.debug("Client [{}]: Registering {}", id, ClassUtils.getShortName(format.getConverterClassName()));
+            list.add(genericBeanDefinition(format.getConverterClassName())
+                    .addConstructorArgValue(objectMapper)
+                    .getBeanDefinition());
+        });
+    }
+
+    private BeanMetadataElement findObjectMapperBuilder() {
+        // the builder that Spring Boot uses for the JSON mapper, including all modules and spring.jackson.* settings
+        return registry.isRegistered("jacksonObjectMapperBuilder") ?
+                ref("jacksonObjectMapperBuilder") :
+                genericBeanDefinition(Jackson2ObjectMapperBuilder.class).getBeanDefinition();
+    }
+
     private void registerHttp(final String id, final Client client, final String factoryId,
             final BeanDefinition converters, final List<String> plugins) {
         registry.registerIfAbsent(id, Http.class, () -> {
@@ -228,15 +297,35 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
                             .addConstructorArgReference(findFaultClassifier(id))));
         }
 
-        if (client.getRetry() != null || client.getCircuitBreaker() != null) {
+        if (isSlidingWindow(client.getCircuitBreaker())) {
+            checkArgument(!isScoped(client.getCircuitBreaker().getScope()),
+                    "Client [%s]: circuit-breaker.scope is not supported by sliding-window circuit breakers", id);
+
+            log.debug("Client [{}]: Registering [{}]", id, CircuitBreakerPlugin.class.getSimpleName());
+            plugins.add(registry.registerIfAbsent(id, CircuitBreakerPlugin.class, () ->
+                    genericBeanDefinition(CircuitBreakerPlugin.class)
+                            .addConstructorArgReference(registerSlidingWindowCircuitBreaker(id, client))));
+        }
+
+        if (client.getRetry() != null || isFailsafe(client.getCircuitBreaker())) {
             log.debug("Client [{}]: Registering [{}]", id, FailsafePlugin.class.getSimpleName());
-            plugins.add(registry.registerIfAbsent(id, FailsafePlugin.class, () ->
-                    genericBeanDefinition(FailsafePluginFactory.class)
-                            .setFactoryMethod("createFailsafePlugin")
+            plugins.add(registry.registerIfAbsent(id, FailsafePlugin.class, () -> {
+                if (isScoped(client.getCircuitBreaker())) {
+                    return genericBeanDefinition(FailsafePluginFactory.class)
+                            .setFactoryMethod("createScopedFailsafePlugin")
                             .addConstructorArgValue(registerScheduler(id, client))
                             .addConstructorArgValue(registerRetryPolicy(id, client))
-                            .addConstructorArgValue(registerCircuitBreaker(id, client))
-                            .addConstructorArgReference(registerRetryListener(id, client))));
+                            .addConstructorArgReference(registerCircuitBreakerRegistry(id, client))
+                            .addConstructorArgReference(registerRetryListener(id, client));
+                }
+
+                return genericBeanDefinition(FailsafePluginFactory.class)
+                        .setFactoryMethod("createFailsafePlugin")
+                        .addConstructorArgValue(registerScheduler(id, client))
+                        .addConstructorArgValue(registerRetryPolicy(id, client))
+                        .addConstructorArgValue(registerCircuitBreaker(id, client))
+                        .addConstructorArgReference(registerRetryListener(id, client));
+            }));
         }
 
         if (client.getBackupRequest() != null) {
@@ -249,6 +338,16 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
                             .addConstructorArgValue(registerExecutor(id, client))));
         }
 
+        if (client.getResponseTimeout() != null) {
+            log.debug("Client [{}]: Registering [{}]", id, ResponseTimeoutPlugin.class.getSimpleName());
+            plugins.add(registry.registerIfAbsent(id, ResponseTimeoutPlugin.class, () ->
+                    genericBeanDefinition(ResponseTimeoutPlugin.class)
+                            .addConstructorArgValue(registerScheduler(id, client))
+                            .addConstructorArgValue(client.getResponseTimeout().getAmount())
+                            .addConstructorArgValue(client.getResponseTimeout().getUnit())
+                            .addConstructorArgValue(registerExecutor(id, client))));
+        }
+
         if (client.getTimeout() != null) {
             log.debug("Client [{}]: Registering [{}]", id, TimeoutPlugin.class.getSimpleName());
             plugins.add(registry.registerIfAbsent(id, TimeoutPlugin.class, () ->
@@ -259,9 +358,23 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
                             .addConstructorArgValue(registerExecutor(id, client))));
         }
 
+        if (client.getBinaryFormats()) {
+            final List<BinaryFormat> formats = BinaryFormat.available();
+            checkArgument(!formats.isEmpty(),
+                    "Client [%s]: binary-formats requires jackson-dataformat-smile or jackson-dataformat-cbor", id);
+
+            log.debug("Client [{}]: Registering [{}]", id, DefaultAcceptPlugin.class.getSimpleName());
+            plugins.add(registry.registerIfAbsent(id, DefaultAcceptPlugin.class, () ->
+                    genericBeanDefinition(DefaultAcceptPlugin.class)
+                            .addConstructorArgValue(accept(formats))));
+        }
+
         if (client.getPreserveStackTrace()) {
             log.debug("Client [{}]: Registering [{}]", id, OriginalStackTracePlugin.class.getSimpleName());
-            plugins.add(registry.registerIfAbsent(id, OriginalStackTracePlugin.class));
+            plugins.add(registry.registerIfAbsent(id, OriginalStackTracePlugin.class, () ->
+                    genericBeanDefinition(PluginFactory.class)
+                            .setFactoryMethod("createOriginalStackTracePlugin")
+                            .addConstructorArgValue(client.getPreserveStackTraceSampleRate())));
         }
 
         if (registry.isRegistered(id, Plugin.class)) {
@@ -273,6 +386,64 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
         return plugins;
     }
 
+    private static List<MediaType> accept(final List<BinaryFormat> formats) {
+        // binary formats in order of preference, JSON and anything else only as a fallback
+        final List<MediaType> mediaTypes = new ArrayList<>();
+        formats.forEach(format -> mediaTypes.add(format.getMediaType()));
+        mediaTypes.add(new MediaType(MediaType.APPLICATION_JSON, singletonMap("q", "0.5")));
+        mediaTypes.add(new MediaType(MediaType.ALL, singletonMap("q", "0.1")));
+        return mediaTypes;
+    }
+
+    private static final class SchedulerMetrics {
+
+    }
+
+    private void registerMetrics(final String id, final Client client) {
+        // gauges and filters are applied to the meter registry by Spring Boot, like any other MeterBinder/MeterFilter
+        final ImmutableList<Tag> tags = ImmutableList.of(clientId(id));
+
+        if (client.getMetrics() != null) {
+            log.debug("Client [{}]: Registering [{}]", id, MeterFilter.class.getSimpleName());
+            registry.registerIfAbsent(id, MeterFilter.class, () ->
+                    genericBeanDefinition(MetricsPluginFactory.class)
+                            .setFactoryMethod("createMeterFilter")
+                            .addConstructorArgValue(id)
+                            .addConstructorArgValue(client.getMetrics()));
+        }
+
+        if (registry.isRegistered(id, HttpClientConnectionManager.class)) {
+            log.debug("Client [{}]: Registering [{}]", id, HttpConnectionPoolMetrics.class.getSimpleName());
+            registry.registerIfAbsent(id, HttpConnectionPoolMetrics.class, () ->
+                    genericBeanDefinition(MetricsPluginFactory.class)
+                            .setFactoryMethod("createConnectionPoolMetrics")
+                            .addConstructorArgReference(generateBeanName(id, HttpClientConnectionManager.class))
+                            .addConstructorArgValue(client.getBaseUrl())
+                            .addConstructorArgValue(tags));
+        }
+
+        if (registry.isRegistered(id, ExecutorService.class)) {
+            log.debug("Client [{}]: Registering [{}]", id, ExecutorMetrics.class.getSimpleName());
+            registry.registerIfAbsent(id, ExecutorMetrics.class, () ->
+                    genericBeanDefinition(MetricsPluginFactory.class)
+                            .setFactoryMethod("createExecutorMetrics")
+                            .addConstructorArgReference(generateBeanName(id, ExecutorService.class))
+                            .addConstructorArgValue("http.client.executor")
+                            .addConstructorArgValue(tags));
+        }
+
+        if (registry.isRegistered(id, ScheduledExecutorService.class)) {
+            // we want exampleSchedulerMetrics, rather than a second exampleExecutorMetrics
+            log.debug("Client [{}]: Registering [{}]", id, SchedulerMetrics.class.getSimpleName());
+            registry.registerIfAbsent(id, SchedulerMetrics.class, () ->
+                    genericBeanDefinition(MetricsPluginFactory.class)
+                            .setFactoryMethod("createExecutorMetrics")
+                            .addConstructorArgReference(generateBeanName(id, ScheduledExecutorService.class))
+                            .addConstructorArgValue("http.client.scheduler")
+                            .addConstructorArgValue(tags));
+        }
+    }
+
     private String findFaultClassifier(final String id) {
         if (registry.isRegistered(id, FaultClassifier.class)) {
             return generateBeanName(id, FaultClassifier.class);
@@ -295,17 +466,42 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
 
     private BeanMetadataElement registerScheduler(final String id, final Client client) {
         // we allow users to use their own ScheduledExecutorService, but they don't have to configure tracing
-        return trace(registry.registerIfAbsent(id, ScheduledExecutorService.class, () -> {
-            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
-                    "http-" + id + "-scheduler-");
+        return trace(registry.registerIfAbsent(id, ScheduledExecutorService.class, () ->
+                genericBeanDefinition(TimingWheelScheduler.class)
+                        .addConstructorArgReference(registerTimingWheel())
+                        .addConstructorArgReference(registerTimerExecutorService())
+                        .setDestroyMethodName("shutdown")));
+    }
+
+    private String registerTimerExecutorService() {
+        // expired timeouts and delays must never be rejected, unlike requests on a client's bounded thread pool,
+        // but they only hand work over to the client's executor, i.e. a few threads are enough and the wheel's own
+        // thread runs them if all of those are busy
+        return registry.registerIfAbsent("timerExecutorService", () ->
+                genericBeanDefinition(ThreadPoolExecutor.class)
+                        .addConstructorArgValue(0)
+                        .addConstructorArgValue(Runtime.getRuntime().availableProcessors())
+                        .addConstructorArgValue(1)
+                        .addConstructorArgValue(TimeUnit.MINUTES)
+                        .addConstructorArgValue(new SynchronousQueue<>())
+                        .addConstructorArgValue(new CustomizableThreadFactory("http-timer-task-"))
+                        .addConstructorArgValue(new ThreadPoolExecutor.CallerRunsPolicy())
+                        .setDestroyMethodName("shutdown"));
+    }
+
+    private String registerTimingWheel() {
+        // one wheel with a single thread is shared by all clients
+        return registry.registerIfAbsent(TimingWheel.class, () -> {
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("http-timer-");
             threadFactory.setDaemon(true);
 
-            return genericBeanDefinition(ScheduledThreadPoolExecutor.class)
-                    .addConstructorArgValue(client.getThreadPool().getMaxSize())
+            return genericBeanDefinition(TimingWheel.class)
+                    .addConstructorArgValue(10)
+                    .addConstructorArgValue(TimeUnit.MILLISECONDS)
+                    .addConstructorArgValue(512)
                     .addConstructorArgValue(threadFactory)
-                    .addPropertyValue("removeOnCancelPolicy", true)
-                    .setDestroyMethodName("shutdown");
-        }));
+                    .setDestroyMethodName("close");
+        });
     }
 
     private BeanMetadataElement registerRetryPolicy(final String id, final Client client) {
@@ -320,7 +516,7 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
     }
 
     private BeanMetadataElement registerCircuitBreaker(final String id, final Client client) {
-        if (client.getCircuitBreaker() != null) {
+        if (isFailsafe(client.getCircuitBreaker())) {
             return ref(registry.registerIfAbsent(id, CircuitBreaker.class, () ->
                     genericBeanDefinition(FailsafePluginFactory.class)
                             .setFactoryMethod("createCircuitBreaker")
@@ -331,6 +527,39 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
 
     }
 
+    private boolean isFailsafe(@Nullable final RiptideProperties.CircuitBreaker circuitBreaker) {
+        return circuitBreaker != null && !isSlidingWindow(circuitBreaker);
+    }
+
+    private boolean isSlidingWindow(@Nullable final RiptideProperties.CircuitBreaker circuitBreaker) {
+        return circuitBreaker != null &&
+                circuitBreaker.getType() == RiptideProperties.CircuitBreaker.Type.SLIDING_WINDOW;
+    }
+
+    private boolean isScoped(@Nullable final RiptideProperties.CircuitBreaker circuitBreaker) {
+        return isFailsafe(circuitBreaker) && isScoped(circuitBreaker.getScope());
+    }
+
+    private boolean isScoped(@Nullable final RiptideProperties.CircuitBreaker.Scope scope) {
+        return scope != null && scope != RiptideProperties.CircuitBreaker.Scope.CLIENT;
+    }
+
+    private String registerSlidingWindowCircuitBreaker(final String id, final Client client) {
+        return registry.registerIfAbsent(id, SlidingWindowCircuitBreaker.class, () ->
+                genericBeanDefinition(FailsafePluginFactory.class)
+                        .setFactoryMethod("createSlidingWindowCircuitBreaker")
+                        .addConstructorArgValue(client)
+                        .addConstructorArgReference(registerCircuitBreakerListener(id, client)));
+    }
+
+    private String registerCircuitBreakerRegistry(final String id, final Client client) {
+        return registry.registerIfAbsent(id, CircuitBreakerRegistry.class, () ->
+                genericBeanDefinition(FailsafePluginFactory.class)
+                        .setFactoryMethod("createCircuitBreakerRegistry")
+                        .addConstructorArgValue(client)
+                        .addConstructorArgReference(registerCircuitBreakerListener(id, client)));
+    }
+
     private String registerRetryListener(final String id, final Client client) {
         return registry.registerIfAbsent(id, RetryListener.class, () -> {
             if (client.getRecordMetrics()) {
@@ -392,6 +621,7 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
             return genericBeanDefinition(HttpClientFactory.class)
                     .setFactoryMethod("createHttpClient")
                     .addConstructorArgValue(client)
+                    .addConstructorArgReference(registerConnectionManager(id, client))
                     .addConstructorArgValue(configureFirstRequestInterceptors(id, client))
                     .addConstructorArgValue(configureLastRequestInterceptors(id, client))
                     .addConstructorArgValue(configureLastResponseInterceptors(id))
@@ -401,6 +631,17 @@ final class DefaultRiptideRegistrar implements RiptideRegistrar {
         });
     }
 
+    private String registerConnectionManager(final String id, final Client client) {
+        return registry.registerIfAbsent(id, HttpClientConnectionManager.class, () -> {
+            log.debug("Client [{}]: Registering HttpClientConnectionManager", id);
+
+            return genericBeanDefinition(HttpClientFactory.class)
+                    .setFactoryMethod("createConnectionManager")
+                    .addConstructorArgValue(client)
+                    .setDestroyMethodName("shutdown");
+        });
+    }
+
     private List<BeanMetadataElement> configureFirstRequestInterceptors(final String id, final Client client) {
         final List<BeanMetadataElement> interceptors = list();
 
@@ -6,6 +6,7 @@ import org.zalando.riptide.spring.RiptideProperties.BackupRequest;
 import org.zalando.riptide.spring.RiptideProperties.Client;
 import org.zalando.riptide.spring.RiptideProperties.Defaults;
 import org.zalando.riptide.spring.RiptideProperties.GlobalOAuth;
+import org.zalando.riptide.spring.RiptideProperties.Metrics;
 import org.zalando.riptide.spring.RiptideProperties.Retry.Backoff;
 import org.zalando.riptide.spring.RiptideProperties.ThreadPool;
 
@@ -41,6 +42,8 @@ final class Defaulting {
                 either(defaults.getUrlResolution(), UrlResolution.RFC),
                 either(defaults.getConnectTimeout(), TimeSpan.of(5, SECONDS)),
                 either(defaults.getSocketTimeout(), TimeSpan.of(5, SECONDS)),
+                either(defaults.getConnectionRequestTimeout(), TimeSpan.of(5, SECONDS)),
+                defaults.getTlsHandshakeTimeout(),
                 either(defaults.getConnectionTimeToLive(), TimeSpan.of(30, SECONDS)),
                 maxConnectionsPerRoute,
                 maxConnectionsTotal,
@@ -51,10 +54,14 @@ final class Defaulting {
                         Defaulting::merge),
                 either(defaults.getDetectTransientFaults(), false),
                 either(defaults.getPreserveStackTrace(), true),
+                either(defaults.getPreserveStackTraceSampleRate(), 1),
                 either(defaults.getRecordMetrics(), false),
+                either(defaults.getBinaryFormats(), false),
+                defaults.getMetrics(),
                 defaults.getRetry(),
                 defaults.getCircuitBreaker(),
                 defaults.getBackupRequest(),
+                defaults.getResponseTimeout(),
                 defaults.getTimeout()
         );
     }
@@ -90,6 +97,8 @@ final class Defaulting {
                 either(base.getUrlResolution(), defaults.getUrlResolution()),
                 either(base.getConnectTimeout(), defaults.getConnectTimeout()),
                 either(base.getSocketTimeout(), defaults.getSocketTimeout()),
+                either(base.getConnectionRequestTimeout(), defaults.getConnectionRequestTimeout()),
+                either(base.getTlsHandshakeTimeout(), defaults.getTlsHandshakeTimeout()),
                 either(base.getConnectionTimeToLive(), defaults.getConnectionTimeToLive()),
                 maxConnectionsPerRoute,
                 maxConnectionsTotal,
@@ -99,10 +108,14 @@ final class Defaulting {
                 base.getOauth(),
                 either(base.getDetectTransientFaults(), defaults.getDetectTransientFaults()),
                 either(base.getPreserveStackTrace(), defaults.getPreserveStackTrace()),
+                either(base.getPreserveStackTraceSampleRate(), defaults.getPreserveStackTraceSampleRate()),
                 either(base.getRecordMetrics(), defaults.getRecordMetrics()),
+                either(base.getBinaryFormats(), defaults.getBinaryFormats()),
+                merge(base.getMetrics(), defaults.getMetrics(), Defaulting::merge),
                 merge(base.getRetry(), defaults.getRetry(), Defaulting::merge),
                 merge(base.getCircuitBreaker(), defaults.getCircuitBreaker(), Defaulting::merge),
                 merge(base.getBackupRequest(), defaults.getBackupRequest(), Defaulting::merge),
+                either(base.getResponseTimeout(), defaults.getResponseTimeout()),
                 either(base.getTimeout(), defaults.getTimeout()),
                 base.isCompressRequest(),
                 base.getKeystore()
@@ -118,6 +131,15 @@ final class Defaulting {
         );
     }
 
+    private static Metrics merge(final Metrics base, final Metrics defaults) {
+        return new Metrics(
+                either(base.getPercentiles(), defaults.getPercentiles()),
+                either(base.getSlo(), defaults.getSlo()),
+                either(base.getHistogram(), defaults.getHistogram()),
+                either(base.getExpiry(), defaults.getExpiry())
+        );
+    }
+
     private static Retry merge(final Retry base, final Retry defaults) {
         return new Retry(
                 either(base.getFixedDelay(), defaults.getFixedDelay()),
@@ -141,7 +163,14 @@ final class Defaulting {
         return new CircuitBreaker(
                 either(base.getFailureThreshold(), defaults.getFailureThreshold()),
                 either(base.getDelay(), defaults.getDelay()),
-                either(base.getSuccessThreshold(), defaults.getSuccessThreshold())
+                either(base.getSuccessThreshold(), defaults.getSuccessThreshold()),
+                either(base.getScope(), defaults.getScope()),
+                either(base.getMaxSize(), defaults.getMaxSize()),
+                either(base.getIdleTimeout(), defaults.getIdleTimeout()),
+                either(base.getType(), defaults.getType()),
+                either(base.getWindow(), defaults.getWindow()),
+                either(base.getSlowCallThreshold(), defaults.getSlowCallThreshold()),
+                either(base.getSlowCallDuration(), defaults.getSlowCallDuration())
         );
     }
 
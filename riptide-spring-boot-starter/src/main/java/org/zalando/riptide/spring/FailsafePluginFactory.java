@@ -3,10 +3,12 @@ package org.zalando.riptide.spring;
 import net.jodah.failsafe.CircuitBreaker;
 import net.jodah.failsafe.RetryPolicy;
 import org.zalando.riptide.failsafe.CircuitBreakerListener;
+import org.zalando.riptide.failsafe.CircuitBreakerRegistry;
 import org.zalando.riptide.failsafe.FailsafePlugin;
 import org.zalando.riptide.failsafe.RetryAfterDelayFunction;
 import org.zalando.riptide.failsafe.RetryException;
 import org.zalando.riptide.failsafe.RetryListener;
+import org.zalando.riptide.failsafe.SlidingWindowCircuitBreaker;
 import org.zalando.riptide.faults.TransientFaultException;
 
 import javax.annotation.Nullable;
@@ -33,6 +35,15 @@ final class FailsafePluginFactory {
                 .withListener(listener);
     }
 
+    public static FailsafePlugin createScopedFailsafePlugin(final ScheduledExecutorService scheduler,
+            @Nullable final RetryPolicy retryPolicy, final CircuitBreakerRegistry circuitBreakers,
+            final RetryListener listener) {
+        return new FailsafePlugin(scheduler)
+                .withRetryPolicy(retryPolicy)
+                .withCircuitBreakers(circuitBreakers)
+                .withListener(listener);
+    }
+
     public static RetryPolicy createRetryPolicy(final RiptideProperties.Retry config) {
         final RetryPolicy policy = new RetryPolicy();
 
@@ -97,4 +108,71 @@ final class FailsafePluginFactory {
         return breaker;
     }
 
+    public static SlidingWindowCircuitBreaker createSlidingWindowCircuitBreaker(
+            final RiptideProperties.Client client, final CircuitBreakerListener listener) {
+        final RiptideProperties.CircuitBreaker config = client.getCircuitBreaker();
+
+        SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker().withListener(listener);
+
+        if (config.getFailureThreshold() != null) {
+            final Ratio threshold = config.getFailureThreshold();
+            breaker = breaker.withFailureRateThreshold(
+                    (double) threshold.getAmount() / threshold.getTotal(), threshold.getTotal());
+        }
+
+        @Nullable final TimeSpan slowCallDuration =
+                Optional.ofNullable(config.getSlowCallDuration()).orElse(client.getTimeout());
+
+        if (config.getSlowCallThreshold() != null && slowCallDuration != null) {
+            final Ratio threshold = config.getSlowCallThreshold();
+            breaker = breaker.withSlowCallRateThreshold((double) threshold.getAmount() / threshold.getTotal(),
+                    slowCallDuration.getAmount(), slowCallDuration.getUnit());
+        }
+
+        if (config.getSuccessThreshold() != null) {
+            final Ratio threshold = config.getSuccessThreshold();
+            breaker = breaker.withSuccessThreshold(threshold.getAmount(), threshold.getTotal());
+        }
+
+        if (config.getDelay() != null) {
+            breaker = breaker.withDelay(config.getDelay().getAmount(), config.getDelay().getUnit());
+        }
+
+        if (config.getWindow() != null) {
+            breaker = breaker.withWindow(config.getWindow().getAmount(), config.getWindow().getUnit());
+        }
+
+        return breaker;
+    }
+
+    public static CircuitBreakerRegistry createCircuitBreakerRegistry(final RiptideProperties.Client client,
+            final CircuitBreakerListener listener) {
+        final RiptideProperties.CircuitBreaker config = client.getCircuitBreaker();
+
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(key ->
+                createCircuitBreaker(client, listener.forKey(key)));
+
+        switch (config.getScope()) {
+            case HOST:
+                registry = registry.withKeyFunction(CircuitBreakerRegistry.host());
+                break;
+            case URI_TEMPLATE:
+                registry = registry.withKeyFunction(CircuitBreakerRegistry.uriTemplate());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported circuit breaker scope: " + config.getScope());
+        }
+
+        if (config.getMaxSize() != null) {
+            registry = registry.withMaximumSize(config.getMaxSize());
+        }
+
+        if (config.getIdleTimeout() != null) {
+            registry = registry.withIdleTimeout(
+                    config.getIdleTimeout().getAmount(), config.getIdleTimeout().getUnit());
+        }
+
+        return registry;
+    }
+
 }
@@ -5,6 +5,13 @@ import org.apiguardian.api.API;
 
 import static org.apiguardian.api.API.Status.STABLE;
 
+/**
+ * Customizes the {@link HttpClientBuilder} of a client. The builder already uses the client's connection manager, i.e.
+ * connection pool and SSL settings, e.g. {@link HttpClientBuilder#setMaxConnTotal(int) max connections} or a
+ * {@link HttpClientBuilder#setSSLSocketFactory SSL socket factory}, have no effect. Either configure them using
+ * properties, override the connection manager bean or {@link HttpClientBuilder#setConnectionManager replace} the
+ * connection manager.
+ */
 @API(status = STABLE)
 public interface HttpClientCustomizer {
 
@@ -1,17 +1,33 @@
 package org.zalando.riptide.spring;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.ConnectionReuseStrategy;
 import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.AuthenticationStrategy;
+import org.apache.http.client.UserTokenHandler;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.execchain.ClientExecChain;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.HttpRequestExecutor;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.SSLContexts;
+import org.zalando.riptide.httpclient.HandshakeTimeoutSSLConnectionSocketFactory;
+import org.zalando.riptide.httpclient.TimingClientConnectionManager;
 import org.zalando.riptide.spring.RiptideProperties.Client;
 
 import javax.annotation.Nullable;
+import javax.net.ssl.SSLContext;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
@@ -33,12 +49,13 @@ final class HttpClientFactory {
     }
 
     public static CloseableHttpClient createHttpClient(final Client client,
+            final HttpClientConnectionManager connectionManager,
             final List<HttpRequestInterceptor> firstRequestInterceptors,
             final List<HttpRequestInterceptor> lastRequestInterceptors,
             final List<HttpResponseInterceptor> lastResponseInterceptors,
-            @Nullable final HttpClientCustomizer customizer) throws GeneralSecurityException, IOException {
+            @Nullable final HttpClientCustomizer customizer) {
 
-        final HttpClientBuilder builder = HttpClientBuilder.create();
+        final HttpClientBuilder builder = new TimingHttpClientBuilder(connectionManager);
         final RequestConfig.Builder config = RequestConfig.custom();
 
         firstRequestInterceptors.forEach(builder::addInterceptorFirst);
@@ -47,15 +64,9 @@ final class HttpClientFactory {
 
         config.setConnectTimeout((int) client.getConnectTimeout().to(TimeUnit.MILLISECONDS));
         config.setSocketTimeout((int) client.getSocketTimeout().to(TimeUnit.MILLISECONDS));
-        builder.setConnectionTimeToLive(
-                client.getConnectionTimeToLive().getAmount(),
-                client.getConnectionTimeToLive().getUnit());
-        builder.setMaxConnPerRoute(client.getMaxConnectionsPerRoute());
-        builder.setMaxConnTotal(client.getMaxConnectionsTotal());
-
-        if (client.getKeystore() != null) {
-            builder.setSSLSocketFactory(createSSLConnectionFactory(client));
-        }
+        config.setConnectionRequestTimeout((int) client.getConnectionRequestTimeout().to(TimeUnit.MILLISECONDS));
+        // customizers may still replace it, pool and SSL settings on the builder are ignored by Apache in any case
+        builder.setConnectionManager(connectionManager);
 
         builder.setDefaultRequestConfig(config.build());
         Optional.ofNullable(customizer).ifPresent(customize(builder));
@@ -63,10 +74,38 @@ final class HttpClientFactory {
         return builder.build();
     }
 
+    public static PoolingHttpClientConnectionManager createConnectionManager(final Client client)
+            throws GeneralSecurityException, IOException {
+
+        final SSLConnectionSocketFactory ssl = client.getKeystore() != null || client.getTlsHandshakeTimeout() != null ?
+                createSSLConnectionFactory(client) :
+                SSLConnectionSocketFactory.getSocketFactory();
+
+        final Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", ssl)
+                .build();
+
+        // the builder ignores its pool settings as soon as a custom connection manager is used
+        final PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(registry,
+                null, null, null,
+                client.getConnectionTimeToLive().getAmount(),
+                client.getConnectionTimeToLive().getUnit());
+
+        manager.setDefaultMaxPerRoute(client.getMaxConnectionsPerRoute());
+        manager.setMaxTotal(client.getMaxConnectionsTotal());
+
+        return manager;
+    }
+
     private static SSLConnectionSocketFactory createSSLConnectionFactory(final Client client)
             throws GeneralSecurityException, IOException {
         final Client.Keystore keystore = client.getKeystore();
 
+        if (keystore == null) {
+            return createSSLConnectionFactory(client, SSLContexts.createDefault());
+        }
+
         final SSLContextBuilder ssl = SSLContexts.custom();
 
         final String path = keystore.getPath();
@@ -80,7 +119,7 @@ final class HttpClientFactory {
 
         try {
             ssl.loadTrustMaterial(resource, password == null ? null : password.toCharArray());
-            return new SSLConnectionSocketFactory(ssl.build(), getDefaultHostnameVerifier());
+            return createSSLConnectionFactory(client, ssl.build());
         } catch (final Exception e) {
             log.error("Error loading keystore [{}]:", path,
                     e); // log full exception, bean initialization code swallows it
@@ -88,8 +127,49 @@ final class HttpClientFactory {
         }
     }
 
+    private static SSLConnectionSocketFactory createSSLConnectionFactory(final Client client,
+            final SSLContext context) {
+        @Nullable final TimeSpan handshakeTimeout = client.getTlsHandshakeTimeout();
+
+        if (handshakeTimeout == null) {
+            return new SSLConnectionSocketFactory(context, getDefaultHostnameVerifier());
+        }
+
+        return new HandshakeTimeoutSSLConnectionSocketFactory(context, getDefaultHostnameVerifier(),
+                (int) handshakeTimeout.to(TimeUnit.MILLISECONDS));
+    }
+
     private static Consumer<HttpClientCustomizer> customize(final HttpClientBuilder builder) {
         return customizer -> customizer.customize(builder);
     }
 
+    /**
+     * Times whatever connection manager ends up being used, i.e. also one that was set by a customizer.
+     */
+    private static final class TimingHttpClientBuilder extends HttpClientBuilder {
+
+        private final HttpClientConnectionManager managed;
+
+        private TimingHttpClientBuilder(final HttpClientConnectionManager managed) {
+            this.managed = managed;
+        }
+
+        @Override
+        protected ClientExecChain createMainExec(final HttpRequestExecutor requestExec,
+                final HttpClientConnectionManager connManager, final ConnectionReuseStrategy reuseStrategy,
+                final ConnectionKeepAliveStrategy keepAliveStrategy, final HttpProcessor proxyHttpProcessor,
+                final AuthenticationStrategy targetAuthStrategy, final AuthenticationStrategy proxyAuthStrategy,
+                final UserTokenHandler userTokenHandler) {
+
+            if (connManager != managed) {
+                log.warn("Connection manager was replaced by an HttpClientCustomizer, connection pool " +
+                        "properties and connection pool metrics don't apply to it");
+            }
+
+            return super.createMainExec(requestExec, new TimingClientConnectionManager(connManager), reuseStrategy,
+                    keepAliveStrategy, proxyHttpProcessor, targetAuthStrategy, proxyAuthStrategy, userTokenHandler);
+        }
+
+    }
+
 }
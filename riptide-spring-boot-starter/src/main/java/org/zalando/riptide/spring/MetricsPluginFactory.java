@@ -3,6 +3,12 @@ package org.zalando.riptide.spring;
 import com.google.common.collect.ImmutableList;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.zalando.riptide.Plugin;
 import org.zalando.riptide.failsafe.CircuitBreakerListener;
 import org.zalando.riptide.failsafe.CompoundRetryListener;
@@ -10,8 +16,18 @@ import org.zalando.riptide.failsafe.LoggingRetryListener;
 import org.zalando.riptide.failsafe.RetryListener;
 import org.zalando.riptide.failsafe.metrics.MetricsCircuitBreakerListener;
 import org.zalando.riptide.failsafe.metrics.MetricsRetryListener;
+import org.zalando.riptide.httpclient.metrics.HttpConnectionPoolMetrics;
+import org.zalando.riptide.metrics.ExecutorMetrics;
 import org.zalando.riptide.metrics.MetricsPlugin;
 
+import javax.annotation.Nullable;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 final class MetricsPluginFactory {
 
     private MetricsPluginFactory() {
@@ -23,6 +39,38 @@ final class MetricsPluginFactory {
         return new MetricsPlugin(registry).withDefaultTags(tags);
     }
 
+    @Nullable
+    public static MeterBinder createConnectionPoolMetrics(final HttpClientConnectionManager manager,
+            @Nullable final String baseUrl, final ImmutableList<Tag> tags) {
+        // only the default pool exposes its statistics
+        return manager instanceof PoolingHttpClientConnectionManager ?
+                new HttpConnectionPoolMetrics((PoolingHttpClientConnectionManager) manager)
+                        .withDefaultTags(tags)
+                        .withRoutes(routesOf(baseUrl)) :
+                null;
+    }
+
+    private static List<HttpRoute> routesOf(@Nullable final String baseUrl) {
+        if (baseUrl == null) {
+            return emptyList();
+        }
+
+        // the same route that the default route planner will use
+        final URI uri = URI.create(baseUrl);
+        final boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        final int port = uri.getPort() > 0 ? uri.getPort() : secure ? 443 : 80;
+        return singletonList(new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure));
+    }
+
+    public static MeterBinder createExecutorMetrics(final ExecutorService executor, final String metricName,
+            final ImmutableList<Tag> tags) {
+        return new ExecutorMetrics(executor).withMetricName(metricName).withDefaultTags(tags);
+    }
+
+    public static MeterFilter createMeterFilter(final String clientId, final RiptideProperties.Metrics metrics) {
+        return new ClientMeterFilter(clientId, metrics);
+    }
+
     public static CircuitBreakerListener createCircuitBreakerListener(final MeterRegistry registry,
             final ImmutableList<Tag> defaultTags) {
         return new MetricsCircuitBreakerListener(registry).withDefaultTags(defaultTags);
@@ -0,0 +1,26 @@
+package org.zalando.riptide.spring;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@SuppressWarnings("unused")
+final class ObjectMapperFactory {
+
+    private ObjectMapperFactory() {
+
+    }
+
+    /**
+     * Applies the builder to a new mapper, i.e. the mapper gets the same modules and settings as the JSON mapper
+     * that was created by the same builder, but reads and writes the format of the given factory. The builder itself
+     * is not modified.
+     */
+    public static ObjectMapper createObjectMapper(final Jackson2ObjectMapperBuilder builder,
+            final JsonFactory factory) {
+        final ObjectMapper mapper = new ObjectMapper(factory);
+        builder.configure(mapper);
+        return mapper;
+    }
+
+}
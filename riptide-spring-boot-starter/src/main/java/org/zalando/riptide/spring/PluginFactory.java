@@ -0,0 +1,16 @@
+package org.zalando.riptide.spring;
+
+import org.zalando.riptide.OriginalStackTracePlugin;
+
+@SuppressWarnings("unused")
+final class PluginFactory {
+
+    private PluginFactory() {
+
+    }
+
+    public static OriginalStackTracePlugin createOriginalStackTracePlugin(final int sampleRate) {
+        return new OriginalStackTracePlugin().withSampleRate(sampleRate);
+    }
+
+}
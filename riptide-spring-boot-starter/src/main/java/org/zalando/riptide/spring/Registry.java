@@ -43,8 +43,10 @@ final class Registry {
     }
 
     public <T> String registerIfAbsent(final Class<T> type, final Supplier<BeanDefinitionBuilder> factory) {
-        final String name = generateBeanName(type);
+        return registerIfAbsent(generateBeanName(type), factory);
+    }
 
+    public String registerIfAbsent(final String name, final Supplier<BeanDefinitionBuilder> factory) {
         if (isRegistered(name)) {
             LOG.debug("Bean [{}] is already registered, skipping it.", name);
             return name;
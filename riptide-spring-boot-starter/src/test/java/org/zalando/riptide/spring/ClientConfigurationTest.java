@@ -1,5 +1,6 @@
 package org.zalando.riptide.spring;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.Configurable;
@@ -14,6 +15,8 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.web.client.AsyncRestTemplate;
 import org.springframework.web.client.RestTemplate;
 import org.zalando.riptide.Http;
+import org.zalando.riptide.failsafe.CircuitBreakerRegistry;
+import org.zalando.riptide.timeout.ResponseTimeoutPlugin;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -30,6 +33,7 @@ import static org.junit.Assert.assertThat;
     "riptide.defaults.max-connections-total: 12",
     "riptide.clients.example.connect-timeout: 12 minutes",
     "riptide.clients.example.socket-timeout: 34 hours",
+    "riptide.clients.example.connection-request-timeout: 56 seconds",
     "riptide.clients.example.connection-time-to-live: 1 day",
     "riptide.clients.example.max-connections-per-route: 24",
     "riptide.clients.example.max-connections-total: 24",
@@ -57,6 +61,17 @@ public final class ClientConfigurationTest {
     @Qualifier("example")
     private HttpClient exampleHttpClient;
 
+    @Autowired
+    @Qualifier("qux")
+    private CircuitBreakerRegistry quxCircuitBreakerRegistry;
+
+    @Autowired
+    @Qualifier("ecb")
+    private ResponseTimeoutPlugin ecbResponseTimeoutPlugin;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
     @Test
     public void shouldWireOAuthCorrectly() {
         assertThat(exampleRest, is(notNullValue()));
@@ -77,6 +92,27 @@ public final class ClientConfigurationTest {
 
         assertThat(config.getSocketTimeout(), is(34 * 60 * 60 * 1000));
         assertThat(config.getConnectTimeout(), is(12 * 60 * 1000));
+        assertThat(config.getConnectionRequestTimeout(), is(56 * 1000));
+    }
+
+    @Test
+    public void shouldWireResponseTimeout() {
+        assertThat(ecbResponseTimeoutPlugin, is(notNullValue()));
+    }
+
+    @Test
+    public void shouldRegisterGauges() {
+        assertThat(meterRegistry.find("http.client.connections.leased").tag("clientId", "example").gauge(),
+                is(notNullValue()));
+        assertThat(meterRegistry.find("http.client.executor.active").tag("clientId", "example").gauge(),
+                is(notNullValue()));
+        assertThat(meterRegistry.find("http.client.scheduler.queued").tag("clientId", "ecb").gauge(),
+                is(notNullValue()));
+    }
+
+    @Test
+    public void shouldWireScopedCircuitBreakers() {
+        assertThat(quxCircuitBreakerRegistry, is(notNullValue()));
     }
 
 }
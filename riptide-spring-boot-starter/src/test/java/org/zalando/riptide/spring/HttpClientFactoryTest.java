@@ -1,6 +1,8 @@
 package org.zalando.riptide.spring;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -12,6 +14,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 
 import static java.util.Collections.emptyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class HttpClientFactoryTest {
 
@@ -29,7 +34,7 @@ public class HttpClientFactoryTest {
         final RiptideProperties.Client client = new RiptideProperties.Client();
         client.setKeystore(nonExistingKeystore);
 
-        HttpClientFactory.createHttpClient(withDefaults(client), emptyList(), emptyList(),emptyList(), null);
+        HttpClientFactory.createConnectionManager(withDefaults(client));
     }
 
     @Test
@@ -43,7 +48,32 @@ public class HttpClientFactoryTest {
         final RiptideProperties.Client client = new RiptideProperties.Client();
         client.setKeystore(invalidKeystore);
 
-        HttpClientFactory.createHttpClient(withDefaults(client), emptyList(), emptyList(),emptyList(), null);
+        HttpClientFactory.createConnectionManager(withDefaults(client));
+    }
+
+    @Test
+    public void shouldUseManagedConnectionManager() throws IOException {
+        final HttpClientConnectionManager managed = mock(HttpClientConnectionManager.class);
+
+        final CloseableHttpClient client = HttpClientFactory.createHttpClient(
+                withDefaults(new RiptideProperties.Client()), managed, emptyList(), emptyList(), emptyList(), null);
+        client.close();
+
+        verify(managed).shutdown();
+    }
+
+    @Test
+    public void shouldUseConnectionManagerOfCustomizer() throws IOException {
+        final HttpClientConnectionManager managed = mock(HttpClientConnectionManager.class);
+        final HttpClientConnectionManager custom = mock(HttpClientConnectionManager.class);
+
+        final CloseableHttpClient client = HttpClientFactory.createHttpClient(
+                withDefaults(new RiptideProperties.Client()), managed, emptyList(), emptyList(), emptyList(),
+                builder -> builder.setConnectionManager(custom));
+        client.close();
+
+        verify(custom).shutdown();
+        verify(managed, never()).shutdown();
     }
 
     private RiptideProperties.Client withDefaults(final RiptideProperties.Client client) {
@@ -0,0 +1,42 @@
+package org.zalando.riptide.spring;
+
+import com.google.common.base.Throwables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Configuration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hobsoft.hamcrest.compose.ComposeMatchers.hasFeature;
+
+public final class SlidingWindowScopeTest {
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+
+    }
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldRejectScopedSlidingWindowCircuitBreaker() {
+        exception.expect(hasFeature(Throwables::getRootCause,
+                hasFeature("message", Throwable::getMessage,
+                        containsString("circuit-breaker.scope is not supported by sliding-window"))));
+
+        new SpringApplicationBuilder(TestConfiguration.class)
+                .profiles("none")
+                .properties(
+                        "riptide.clients.example.base-url=https://example.com",
+                        "riptide.clients.example.circuit-breaker.type=sliding-window",
+                        "riptide.clients.example.circuit-breaker.failure-threshold=5",
+                        "riptide.clients.example.circuit-breaker.scope=host")
+                .build()
+                .run();
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.zalando.riptide.spring;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = DefaultTestConfiguration.class)
+@Component
+public final class TimerExecutorServiceTest {
+
+    @Autowired
+    @Qualifier("timerExecutorService")
+    private ExecutorService unit;
+
+    @Test
+    public void shouldBoundThreadsAndRunOverflowOnCaller() {
+        assertThat(unit, is(instanceOf(ThreadPoolExecutor.class)));
+
+        final ThreadPoolExecutor executor = (ThreadPoolExecutor) unit;
+
+        assertThat(executor.getMaximumPoolSize(), is(Runtime.getRuntime().availableProcessors()));
+        assertThat(executor.getRejectedExecutionHandler(), is(instanceOf(CallerRunsPolicy.class)));
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.zalando.riptide.spring.binary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.zalando.logbook.spring.LogbookAutoConfiguration;
+import org.zalando.riptide.Http;
+import org.zalando.riptide.spring.ClientHttpMessageConverters;
+import org.zalando.riptide.spring.MetricsTestAutoConfiguration;
+import org.zalando.riptide.spring.RiptideClientTest;
+import org.zalando.tracer.spring.TracerAutoConfiguration;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.springframework.http.HttpStatus.Series.SUCCESSFUL;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.zalando.riptide.Bindings.on;
+import static org.zalando.riptide.Navigators.series;
+import static org.zalando.riptide.PassRoute.pass;
+import static org.zalando.riptide.stream.Streams.APPLICATION_X_JACKSON_SMILE;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@RiptideClientTest
+@ActiveProfiles("default")
+@TestPropertySource(properties = "riptide.clients.example.binary-formats: true")
+public class BinaryFormatsTest {
+
+    @Configuration
+    @ImportAutoConfiguration({
+            JacksonAutoConfiguration.class,
+            LogbookAutoConfiguration.class,
+            TracerAutoConfiguration.class,
+            MetricsTestAutoConfiguration.class,
+    })
+    @ActiveProfiles("default")
+    static class ContextConfiguration {
+
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @Autowired
+    @Qualifier("example")
+    private ClientHttpMessageConverters converters;
+
+    @Autowired
+    @Qualifier("example")
+    private Http unit;
+
+    @Test
+    public void shouldRegisterBinaryConverters() {
+        final List<HttpMessageConverter<?>> list = converters.getConverters();
+
+        assertThat(list, hasItem(instanceOf(MappingJackson2SmileHttpMessageConverter.class)));
+        assertThat(list, hasItem(instanceOf(MappingJackson2CborHttpMessageConverter.class)));
+        assertThat(list, hasItem(hasToString(containsString("StreamConverter"))));
+    }
+
+    @Test
+    public void shouldNotRegisterAdditionalObjectMappers() {
+        assertThat(context.getBeansOfType(ObjectMapper.class).keySet(), contains("jacksonObjectMapper"));
+    }
+
+    @Test
+    public void shouldReuseModulesOfJsonMapper() {
+        final MappingJackson2SmileHttpMessageConverter converter = converters.getConverters().stream()
+                .filter(MappingJackson2SmileHttpMessageConverter.class::isInstance)
+                .map(MappingJackson2SmileHttpMessageConverter.class::cast)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+
+        assertThat(converter.getObjectMapper().getRegisteredModuleIds(), is(mapper.getRegisteredModuleIds()));
+    }
+
+    @Test
+    public void shouldPreferBinaryFormats() throws IOException {
+        final byte[] body = new ObjectMapper(new SmileFactory()).writeValueAsBytes(singletonMap("happy", true));
+
+        server.expect(requestTo("https://example.com/foo/bar"))
+                .andExpect(header("Accept", startsWith("application/x-jackson-smile, application/cbor")))
+                .andRespond(withSuccess(body, APPLICATION_X_JACKSON_SMILE));
+
+        final AtomicReference<Map> result = new AtomicReference<>();
+
+        unit.get("/bar")
+                .dispatch(series(),
+                        on(SUCCESSFUL).call(Map.class, result::set))
+                .join();
+
+        server.verify();
+        assertThat(result.get(), is(singletonMap("happy", true)));
+    }
+
+    @Test
+    public void shouldRespectExplicitAccept() {
+        server.expect(requestTo("https://example.com/foo/bar"))
+                .andExpect(header("Accept", APPLICATION_JSON_VALUE))
+                .andRespond(withSuccess());
+
+        unit.get("/bar")
+                .accept(APPLICATION_JSON)
+                .call(pass())
+                .join();
+
+        server.verify();
+    }
+
+}
@@ -2,6 +2,7 @@ package org.zalando.riptide.spring.metrics;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,12 +22,14 @@ import org.zalando.riptide.spring.MetricsTestAutoConfiguration;
 import org.zalando.riptide.spring.RiptideClientTest;
 import org.zalando.tracer.spring.TracerAutoConfiguration;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.Ordering.from;
 import static java.util.Comparator.comparing;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -90,6 +93,33 @@ public class MetricsTest {
         assertEquals("foo", second.getId().getTag("clientId"));
     }
 
+    @Test
+    public void shouldPublishConfiguredPercentilesAndSlos() {
+        server.expect(requestTo("http://foo")).andRespond(withSuccess());
+        server.expect(requestTo("http://bar")).andRespond(withSuccess());
+
+        foo.get().call(pass()).join();
+        bar.get().call(pass()).join();
+
+        final Collection<Timer> foos = registry.find("http.client.requests").tag("clientId", "foo").timers();
+        final Collection<Timer> bars = registry.find("http.client.requests").tag("clientId", "bar").timers();
+
+        assertFalse(foos.isEmpty());
+        assertFalse(bars.isEmpty());
+
+        for (final Timer timer : foos) {
+            final HistogramSnapshot snapshot = timer.takeSnapshot(false);
+            assertEquals(2, snapshot.percentileValues().length);
+            assertEquals(2, snapshot.histogramCounts().length);
+        }
+
+        for (final Timer timer : bars) {
+            final HistogramSnapshot snapshot = timer.takeSnapshot(false);
+            assertEquals(0, snapshot.percentileValues().length);
+            assertEquals(0, snapshot.histogramCounts().length);
+        }
+    }
+
     @Test
     public void shouldRecordRetries() {
         server.expect(requestTo("http://foo")).andRespond(withStatus(SERVICE_UNAVAILABLE));
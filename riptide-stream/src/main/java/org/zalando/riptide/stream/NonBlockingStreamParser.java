@@ -0,0 +1,187 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Parses a stream of elements incrementally from chunks of bytes, as they arrive from a non-blocking HTTP client.
+ * Every element is passed to the consumer as soon as its last byte was fed, i.e. no thread ever blocks while waiting
+ * for more input. Supports the same formats as the {@link StreamConverter stream converter}:
+ *
+ * <pre>{@code
+ * NonBlockingStreamParser<Event> parser = Streams.nonBlockingParser(mapper, Event.class, contentType, this::process);
+ *
+ * // for every chunk
+ * parser.feed(chunk);
+ *
+ * // at the end of the response
+ * parser.end();
+ * }</pre>
+ *
+ * A parser is not thread-safe, chunks have to be fed in order and one at a time.
+ *
+ * @param <T> generic stream element type
+ */
+@API(status = EXPERIMENTAL)
+public final class NonBlockingStreamParser<T> implements AutoCloseable {
+
+    private static final byte JSON_SEQUENCE_RECORD_SEPARATOR = 30;
+
+    private final ObjectMapper mapper;
+    private final ObjectReader reader;
+    private final boolean isNotStreamOfArrays;
+    private final boolean sequence;
+    private final Consumer<? super T> consumer;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    @Nullable
+    private TokenBuffer element;
+    private int depth;
+    private boolean unwrapped;
+
+    NonBlockingStreamParser(final ObjectMapper mapper, final JavaType type, final boolean sequence,
+            final Consumer<? super T> consumer) throws IOException {
+        this.mapper = mapper;
+        this.reader = mapper.readerFor(type);
+        this.isNotStreamOfArrays = !type.isArrayType() && !type.isCollectionLikeType();
+        this.sequence = sequence;
+        this.consumer = consumer;
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Feeds the given bytes and passes all elements that are complete afterwards to the consumer. The array is not
+     * retained, i.e. it can be reused as soon as this method returns.
+     *
+     * @param bytes the chunk
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the input is not valid
+     */
+    public void feed(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (sequence && contains(bytes, offset, length, JSON_SEQUENCE_RECORD_SEPARATOR)) {
+            feeder.feedInput(withoutRecordSeparators(bytes, offset, length), 0, length);
+        } else {
+            feeder.feedInput(bytes, offset, offset + length);
+        }
+
+        drain();
+    }
+
+    /**
+     * Feeds the remaining bytes of the given buffer.
+     *
+     * @param buffer the chunk
+     * @throws IOException if the input is not valid
+     * @see #feed(byte[], int, int)
+     */
+    public void feed(final ByteBuffer buffer) throws IOException {
+        final int length = buffer.remaining();
+
+        if (buffer.hasArray()) {
+            feed(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.limit());
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            feed(bytes, 0, length);
+        }
+    }
+
+    /**
+     * Signals the end of the response.
+     *
+     * @throws IOException if the last element is incomplete
+     */
+    public void end() throws IOException {
+        feeder.endOfInput();
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            process(token);
+        }
+    }
+
+    private void process(final JsonToken token) throws IOException {
+        if (element == null) {
+            if (isNotStreamOfArrays && !unwrapped && token == JsonToken.START_ARRAY) {
+                unwrapped = true;
+                return;
+            }
+
+            if (unwrapped && token == JsonToken.END_ARRAY) {
+                unwrapped = false;
+                return;
+            }
+
+            element = new TokenBuffer(mapper, false);
+        }
+
+        element.copyCurrentEvent(parser);
+
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+
+        if (depth == 0) {
+            final TokenBuffer complete = element;
+            element = null;
+            consumer.accept(read(complete));
+        }
+    }
+
+    private T read(final TokenBuffer buffer) throws IOException {
+        try (final JsonParser tokens = buffer.asParser(mapper)) {
+            return reader.readValue(tokens);
+        }
+    }
+
+    private static boolean contains(final byte[] bytes, final int offset, final int length, final byte value) {
+        for (int index = offset; index < offset + length; index++) {
+            if (bytes[index] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] withoutRecordSeparators(final byte[] bytes, final int offset, final int length) {
+        final byte[] copy = new byte[length];
+
+        for (int index = 0; index < length; index++) {
+            final byte current = bytes[offset + index];
+            // whitespace keeps the length and is ignored by the parser
+            copy[index] = current == JSON_SEQUENCE_RECORD_SEPARATOR ? (byte) ' ' : current;
+        }
+
+        return copy;
+    }
+
+}
@@ -0,0 +1,211 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Splits a stream of delimited elements into records, i.e. lines or JSON text sequences, and parses them in parallel.
+ * Records are copied into a fixed pool of reusable slices, i.e. at most {@code maxInFlight} elements are read ahead of
+ * the consumer.
+ *
+ * @param <T> generic stream element type
+ */
+final class ParallelRecordSpliterator<T> implements Spliterator<T> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ObjectReader reader;
+    private final InputStream stream;
+    private final byte delimiter;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final boolean ordered;
+
+    private final BlockingQueue<Slice> slices;
+    private final Queue<CompletableFuture<T>> pending;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean end;
+    private int inFlight;
+
+    ParallelRecordSpliterator(final ObjectReader reader, final InputStream stream, final byte delimiter,
+            final Executor executor, final int maxInFlight, final boolean ordered) {
+        this.reader = reader;
+        this.stream = stream;
+        this.delimiter = delimiter;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.ordered = ordered;
+        this.slices = new ArrayBlockingQueue<>(maxInFlight);
+        // unordered elements are queued as soon as they are parsed, ordered ones as soon as they are submitted
+        this.pending = ordered ? new ArrayDeque<>(maxInFlight) : new LinkedBlockingQueue<>();
+
+        for (int i = 0; i < maxInFlight; i++) {
+            slices.add(new Slice());
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        try {
+            submit();
+
+            if (inFlight == 0) {
+                return false;
+            }
+
+            final CompletableFuture<T> next = ordered ?
+                    pending.remove() : ((BlockingQueue<CompletableFuture<T>>) pending).take();
+            inFlight--;
+
+            action.accept(join(next));
+            return true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException(e.getMessage()));
+        }
+    }
+
+    private void submit() throws IOException, InterruptedException {
+        while (!end && inFlight < maxInFlight) {
+            // never blocks, every slice that is not in the pool belongs to an element in flight
+            final Slice slice = slices.take();
+
+            if (readRecord(slice) && !slice.isBlank()) {
+                final CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> parse(slice), executor);
+                inFlight++;
+
+                if (ordered) {
+                    pending.add(future);
+                } else {
+                    future.whenComplete((element, throwable) -> pending.add(future));
+                }
+            } else {
+                slices.add(slice);
+            }
+        }
+    }
+
+    private boolean readRecord(final Slice slice) throws IOException {
+        slice.length = 0;
+
+        while (true) {
+            if (position == limit) {
+                final int read = stream.read(buffer);
+
+                if (read == -1) {
+                    end = true;
+                    return slice.length > 0;
+                }
+
+                position = 0;
+                limit = read;
+            }
+
+            final int index = indexOfDelimiter();
+
+            if (index == -1) {
+                slice.append(buffer, position, limit - position);
+                position = limit;
+            } else {
+                slice.append(buffer, position, index - position);
+                position = index + 1;
+                return true;
+            }
+        }
+    }
+
+    private int indexOfDelimiter() {
+        for (int index = position; index < limit; index++) {
+            if (buffer[index] == delimiter) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private T parse(final Slice slice) {
+        try {
+            return reader.readValue(slice.bytes, 0, slice.length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            slices.add(slice);
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        // elements are already parsed in parallel
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ordered ? ORDERED : 0;
+    }
+
+    private static final class Slice {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void append(final byte[] source, final int offset, final int count) {
+            if (length + count > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+            }
+
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+        }
+
+        boolean isBlank() {
+            for (int index = 0; index < length; index++) {
+                final byte current = bytes[index];
+                if (current != ' ' && current != '\t' && current != '\r' && current != '\n') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.zalando.riptide.stream;
+
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+final class PublisherConverter<T> implements GenericHttpMessageConverter<Publisher<T>> {
+
+    private final StreamConverter<T> converter;
+    private final Executor executor;
+
+    PublisherConverter(final StreamConverter<T> converter) {
+        this(converter, StreamPublisher.DEFAULT_EXECUTOR);
+    }
+
+    PublisherConverter(final StreamConverter<T> converter, final Executor executor) {
+        this.converter = converter;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        // we only support generics
+        return false;
+    }
+
+    @Override
+    public boolean canRead(final Type type, @Nullable final Class<?> contextClass, final MediaType mediaType) {
+        return converter.canRead(Publisher.class, type, contextClass, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return converter.getSupportedMediaTypes();
+    }
+
+    @Override
+    public Publisher<T> read(final Class<? extends Publisher<T>> clazz, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        // we only support generics
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Publisher<T> read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        final Stream<T> stream = converter.read(type, contextClass, inputMessage);
+        return new StreamPublisher<>(stream.spliterator(), stream::close, executor);
+    }
+
+    @Override
+    public boolean canWrite(final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public void write(final Publisher<T> t, final MediaType mediaType, final HttpOutputMessage message) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void write(final Publisher<T> t, final Type type, final MediaType mediaType,
+            final HttpOutputMessage message) {
+        throw new UnsupportedOperationException();
+    }
+
+}
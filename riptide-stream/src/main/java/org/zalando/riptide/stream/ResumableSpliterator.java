@@ -0,0 +1,230 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.zalando.fauxpas.ThrowingFunction;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+final class ResumableSpliterator<T, C> implements Spliterator<T>, AutoCloseable {
+
+    private final ThrowingFunction<C, Stream<T>, IOException> open;
+    private final Function<? super T, ? extends C> cursorOf;
+    private final int maxRetries;
+    private final long maxDelay;
+    private final boolean reconnect;
+    private final Function<? super T, Duration> delayOf;
+
+    private long delay;
+
+    @Nullable
+    private C cursor;
+
+    @Nullable
+    private Stream<T> stream;
+
+    @Nullable
+    private Spliterator<T> current;
+
+    private int failures;
+
+    /**
+     * Whether the current stream delivered any element.
+     */
+    private boolean received;
+
+    private boolean ended;
+
+    /**
+     * @param reconnect whether the stream is re-opened after it ended regularly, rather than ending as well
+     * @param delayOf function that extracts a new delay from an element, if the element changes it
+     */
+    ResumableSpliterator(final ThrowingFunction<C, Stream<T>, IOException> open,
+            final Function<? super T, ? extends C> cursorOf, final int maxRetries, final Duration delay,
+            final Duration maxDelay, final boolean reconnect, final Function<? super T, Duration> delayOf) {
+        this.open = open;
+        this.cursorOf = cursorOf;
+        this.maxRetries = maxRetries;
+        this.delay = delay.toMillis();
+        this.maxDelay = maxDelay.toMillis();
+        this.reconnect = reconnect;
+        this.delayOf = delayOf;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        final Resumption resumption = new Resumption(action);
+
+        while (!ended) {
+            try {
+                if (current == null) {
+                    @Nullable final Stream<T> next = open.tryApply(cursor);
+
+                    if (next == null) {
+                        // nothing to resume, e.g. the server asked not to reconnect
+                        ended = true;
+                        break;
+                    }
+
+                    stream = next;
+                    current = next.spliterator();
+                    received = false;
+                }
+
+                if (current.tryAdvance(resumption)) {
+                    return true;
+                }
+            } catch (final IOException | RuntimeException e) {
+                if (resumption.delivered || !isNetworkFailure(e)) {
+                    // failures of the consumer or the cursor function must not be retried
+                    throw propagate(e);
+                }
+
+                closeQuietly(e);
+                backoff(e);
+                continue;
+            }
+
+            if (!reconnect) {
+                return false;
+            }
+
+            close();
+            ended = !reconnect();
+        }
+
+        return false;
+    }
+
+    /**
+     * Waits before re-opening a stream that ended regularly. Streams that ended without a single element count as
+     * failures, i.e. they are re-opened with backoff and at most {@code maxRetries} consecutive times.
+     *
+     * @return whether the stream should be re-opened
+     */
+    private boolean reconnect() {
+        if (!received && failures++ >= maxRetries) {
+            return false;
+        }
+
+        try {
+            Thread.sleep(received ? delay : backoffDelay());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void backoff(final Exception failure) {
+        if (failures++ >= maxRetries) {
+            throw propagate(failure);
+        }
+
+        try {
+            Thread.sleep(backoffDelay());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(e);
+            throw propagate(failure);
+        }
+    }
+
+    private long backoffDelay() {
+        // never shorter than the current delay, e.g. one that was set by an element
+        return Math.max(delay, Math.min(maxDelay, delay << Math.min(failures - 1, 30)));
+    }
+
+    private void closeQuietly(final Exception failure) {
+        try {
+            close();
+        } catch (final RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    @Override
+    public void close() {
+        final Stream<T> stream = this.stream;
+        this.stream = null;
+        this.current = null;
+
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Malformed elements are reported as {@link IOException IOExceptions} as well, but reconnecting won't fix them.
+     */
+    private static boolean isNetworkFailure(final Throwable throwable) {
+        @Nullable Throwable cause = throwable;
+
+        while (cause != null) {
+            if (cause instanceof JsonProcessingException || cause instanceof HttpMessageNotReadableException) {
+                return false;
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+    private static RuntimeException propagate(final Exception e) {
+        return e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+    }
+
+    private final class Resumption implements Consumer<T> {
+
+        private final Consumer<? super T> action;
+        private boolean delivered;
+
+        private Resumption(final Consumer<? super T> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void accept(final T element) {
+            delivered = true;
+            received = true;
+            cursor = cursorOf.apply(element);
+            failures = 0;
+
+            @Nullable final Duration next = delayOf.apply(element);
+
+            if (next != null) {
+                delay = next.toMillis();
+            }
+
+            action.accept(element);
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.zalando.riptide.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A single event of a <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">server-sent event</a>
+ * stream.
+ *
+ * @param <T> generic data type
+ */
+@API(status = EXPERIMENTAL)
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ServerSentEvent<T> {
+
+    /**
+     * The last event id that was sent by the server, if any. It should be sent as {@code Last-Event-ID} header when
+     * reconnecting.
+     */
+    @Nullable
+    private final String id;
+
+    /**
+     * The event type, {@code message} by default.
+     */
+    private final String event;
+
+    /**
+     * The deserialized data.
+     */
+    @Nullable
+    private final T data;
+
+    /**
+     * The reconnection time, if the event changed it.
+     */
+    @Nullable
+    private final Duration retry;
+
+}
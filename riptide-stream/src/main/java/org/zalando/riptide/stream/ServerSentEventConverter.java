@@ -0,0 +1,128 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Collections.singletonList;
+import static org.zalando.fauxpas.FauxPas.throwingRunnable;
+import static org.zalando.riptide.stream.Streams.TEXT_EVENT_STREAM;
+
+/**
+ * Reads {@code text/event-stream} responses as either a {@link Stream stream} or a
+ * {@link Publisher publisher} of {@link ServerSentEvent server-sent events}.
+ */
+final class ServerSentEventConverter implements GenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    ServerSentEventConverter(final ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean canRead(final Class<?> clazz, @Nullable final MediaType mediaType) {
+        // we only support generics
+        return false;
+    }
+
+    @Override
+    public boolean canRead(final Type type, @Nullable final Class<?> contextClass,
+            @Nullable final MediaType mediaType) {
+        if (mediaType != null && !TEXT_EVENT_STREAM.includes(mediaType)) {
+            return false;
+        }
+
+        final JavaType javaType = getJavaType(type, contextClass);
+
+        if (!Stream.class.isAssignableFrom(javaType.getRawClass()) &&
+                !Publisher.class.isAssignableFrom(javaType.getRawClass())) {
+            return false;
+        }
+
+        @Nullable final JavaType eventType = javaType.containedType(0);
+
+        if (eventType == null || !eventType.hasRawClass(ServerSentEvent.class)) {
+            return false;
+        }
+
+        @Nullable final JavaType dataType = eventType.containedType(0);
+        return dataType != null && (dataType.hasRawClass(String.class) || mapper.canDeserialize(dataType));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return singletonList(TEXT_EVENT_STREAM);
+    }
+
+    @Override
+    public Object read(final Class<?> clazz, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        // we only support generics
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object read(final Type type, @Nullable final Class<?> contextClass, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        final JavaType javaType = getJavaType(type, contextClass);
+        final JavaType dataType = javaType.containedType(0).containedType(0);
+        @Nullable final ObjectReader reader = dataType.hasRawClass(String.class) ? null :
+                readers.computeIfAbsent(dataType, mapper::readerFor);
+
+        final InputStream body = inputMessage.getBody();
+        final ServerSentEventSpliterator<Object> split = new ServerSentEventSpliterator<>(reader, body);
+
+        if (Publisher.class.isAssignableFrom(javaType.getRawClass())) {
+            return new StreamPublisher<>(split, body);
+        }
+
+        return StreamSupport.stream(split, false).onClose(throwingRunnable(body::close));
+    }
+
+    @SuppressWarnings("deprecation")
+    private JavaType getJavaType(final Type type, @Nullable final Class<?> contextClass) {
+        final TypeFactory factory = mapper.getTypeFactory();
+        return contextClass == null ? factory.constructType(type) : factory.constructType(type, contextClass);
+    }
+
+    @Override
+    public boolean canWrite(final Class<?> clazz, @Nullable final MediaType mediaType) {
+        return false;
+    }
+
+    // @Override since 4.2
+    public boolean canWrite(@Nullable final Type type, final Class<?> clazz, @Nullable final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public void write(final Object t, @Nullable final MediaType contentType, final HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException();
+    }
+
+    // @Override since 4.2
+    public void write(final Object t, @Nullable final Type type, @Nullable final MediaType contentType,
+            final HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException();
+    }
+
+}
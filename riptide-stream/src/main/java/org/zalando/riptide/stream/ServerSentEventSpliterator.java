@@ -0,0 +1,284 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Parses a <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html#parsing-an-event-stream">server-sent
+ * event stream</a> one line at a time. Lines are read into a reusable buffer and data lines are copied once into
+ * another reusable buffer, which is passed to Jackson as is.
+ *
+ * @param <T> generic data type
+ */
+final class ServerSentEventSpliterator<T> implements Spliterator<ServerSentEvent<T>> {
+
+    private static final String DEFAULT_EVENT = "message";
+
+    private static final byte[] DATA = "data".getBytes(UTF_8);
+    private static final byte[] EVENT = "event".getBytes(UTF_8);
+    private static final byte[] ID = "id".getBytes(UTF_8);
+    private static final byte[] RETRY = "retry".getBytes(UTF_8);
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte COLON = ':';
+    private static final byte SPACE = ' ';
+
+    /**
+     * Reads the data, {@code null} if the data is passed on as a string.
+     */
+    @Nullable
+    private final ObjectReader reader;
+    private final InputStream stream;
+
+    private final byte[] buffer = new byte[8192];
+    private int position;
+    private int limit;
+    private boolean afterCarriageReturn;
+    private boolean started;
+
+    private final Buffer line = new Buffer();
+    private final Buffer data = new Buffer();
+
+    @Nullable
+    private String lastEventId;
+    @Nullable
+    private String event;
+    @Nullable
+    private Duration retry;
+
+    ServerSentEventSpliterator(@Nullable final ObjectReader reader, final InputStream stream) {
+        this.reader = reader;
+        this.stream = stream;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ServerSentEvent<T>> action) {
+        try {
+            while (readLine()) {
+                if (line.length == 0) {
+                    @Nullable final ServerSentEvent<T> next = dispatch();
+
+                    if (next != null) {
+                        action.accept(next);
+                        return true;
+                    }
+                } else {
+                    process();
+                }
+            }
+
+            // an incomplete event at the end of the stream is discarded
+            return false;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean readLine() throws IOException {
+        line.length = 0;
+
+        while (true) {
+            if (position == limit && !fill()) {
+                return false;
+            }
+
+            final byte current = buffer[position++];
+
+            if (afterCarriageReturn) {
+                afterCarriageReturn = false;
+
+                if (current == LINE_FEED) {
+                    // second half of CRLF
+                    continue;
+                }
+            }
+
+            if (current == LINE_FEED) {
+                return true;
+            } else if (current == CARRIAGE_RETURN) {
+                afterCarriageReturn = true;
+                return true;
+            }
+
+            line.append(current);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        final int read = stream.read(buffer);
+
+        if (read == -1) {
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+
+        if (!started) {
+            started = true;
+            skipByteOrderMark();
+        }
+
+        return true;
+    }
+
+    private void skipByteOrderMark() {
+        if (limit >= BYTE_ORDER_MARK.length &&
+                buffer[0] == BYTE_ORDER_MARK[0] && buffer[1] == BYTE_ORDER_MARK[1] && buffer[2] == BYTE_ORDER_MARK[2]) {
+            position = BYTE_ORDER_MARK.length;
+        }
+    }
+
+    private void process() {
+        if (line.bytes[0] == COLON) {
+            // comment
+            return;
+        }
+
+        final int colon = line.indexOf(COLON);
+        final int nameLength = colon == -1 ? line.length : colon;
+        int offset = colon == -1 ? line.length : colon + 1;
+
+        if (offset < line.length && line.bytes[offset] == SPACE) {
+            offset++;
+        }
+
+        final int valueLength = line.length - offset;
+
+        if (line.isField(DATA, nameLength)) {
+            data.append(line.bytes, offset, valueLength);
+            data.append(LINE_FEED);
+        } else if (line.isField(EVENT, nameLength)) {
+            event = line.toString(offset, valueLength);
+        } else if (line.isField(ID, nameLength)) {
+            if (line.indexOf((byte) 0) == -1) {
+                lastEventId = valueLength == 0 ? null : line.toString(offset, valueLength);
+            }
+        } else if (line.isField(RETRY, nameLength)) {
+            if (valueLength > 0 && valueLength < 19 && line.isDigits(offset, valueLength)) {
+                retry = Duration.ofMillis(Long.parseLong(line.toString(offset, valueLength)));
+            }
+        }
+        // other fields are ignored
+    }
+
+    @Nullable
+    private ServerSentEvent<T> dispatch() throws IOException {
+        if (data.length == 0) {
+            event = null;
+            return null;
+        }
+
+        // the last line feed is not part of the data
+        data.length--;
+
+        final ServerSentEvent<T> next = new ServerSentEvent<>(lastEventId,
+                event == null || event.isEmpty() ? DEFAULT_EVENT : event, read(), retry);
+
+        data.length = 0;
+        event = null;
+        retry = null;
+
+        return next;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private T read() throws IOException {
+        if (reader == null) {
+            return (T) data.toString(0, data.length);
+        } else if (data.length == 0) {
+            // an empty data field is valid, but not valid JSON
+            return null;
+        }
+        return reader.readValue(data.bytes, 0, data.length);
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<ServerSentEvent<T>> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private static final class Buffer {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void append(final byte value) {
+            ensureCapacity(1);
+            bytes[length++] = value;
+        }
+
+        void append(final byte[] source, final int offset, final int count) {
+            ensureCapacity(count);
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+        }
+
+        private void ensureCapacity(final int count) {
+            if (length + count > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+            }
+        }
+
+        int indexOf(final byte value) {
+            for (int index = 0; index < length; index++) {
+                if (bytes[index] == value) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        boolean isField(final byte[] name, final int nameLength) {
+            if (name.length != nameLength) {
+                return false;
+            }
+
+            for (int index = 0; index < nameLength; index++) {
+                if (bytes[index] != name[index]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isDigits(final int offset, final int count) {
+            for (int index = offset; index < offset + count; index++) {
+                if (bytes[index] < '0' || bytes[index] > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        String toString(final int offset, final int count) {
+            return new String(bytes, offset, count, UTF_8);
+        }
+
+    }
+
+}
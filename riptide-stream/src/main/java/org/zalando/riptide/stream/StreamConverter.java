@@ -1,35 +1,83 @@
 package org.zalando.riptide.stream;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.converter.GenericHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.zalando.fauxpas.FauxPas.throwingRunnable;
 import static org.zalando.riptide.stream.Streams.APPLICATION_JSON_SEQ;
+import static org.zalando.riptide.stream.Streams.APPLICATION_STREAM_JSON;
+import static org.zalando.riptide.stream.Streams.APPLICATION_X_JSON_STREAM;
 
 final class StreamConverter<T> implements GenericHttpMessageConverter<Stream<T>> {
 
+    private static final char JSON_SEQUENCE_RECORD_SEPARATOR = 30;
+    private static final char LINE_FEED = '\n';
+
     private final ObjectMapper mapper;
     private final List<MediaType> supportedMediaTypes;
+    private final int batchSize;
+
+    @Nullable
+    private final Executor executor;
+    private final int maxInFlight;
+    private final boolean ordered;
+
+    /**
+     * Readers are bound to an element type and immutable, i.e. they can be shared by all responses.
+     */
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    @Nullable
+    private volatile ObjectWriter writer;
 
     StreamConverter(final ObjectMapper mapper, final List<MediaType> supportedMediaTypes) {
+        this(mapper, supportedMediaTypes, StreamSpliterator.DEFAULT_BATCH_SIZE);
+    }
+
+    StreamConverter(final ObjectMapper mapper, final List<MediaType> supportedMediaTypes, final int batchSize) {
+        this(mapper, supportedMediaTypes, batchSize, null, 0, true);
+    }
+
+    StreamConverter(final ObjectMapper mapper, final List<MediaType> supportedMediaTypes, final Executor executor,
+            final int maxInFlight, final boolean ordered) {
+        this(mapper, supportedMediaTypes, StreamSpliterator.DEFAULT_BATCH_SIZE, executor, maxInFlight, ordered);
+    }
+
+    private StreamConverter(final ObjectMapper mapper, final List<MediaType> supportedMediaTypes,
+            final int batchSize, @Nullable final Executor executor, final int maxInFlight, final boolean ordered) {
         this.mapper = mapper;
         this.supportedMediaTypes = supportedMediaTypes;
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.ordered = ordered;
     }
 
     @Override
@@ -40,9 +88,14 @@ final class StreamConverter<T> implements GenericHttpMessageConverter<Stream<T>>
 
     @Override
     public boolean canRead(final Type type, @Nullable final Class<?> contextClass, final MediaType mediaType) {
+        return canRead(Stream.class, type, contextClass, mediaType);
+    }
+
+    boolean canRead(final Class<?> container, final Type type, @Nullable final Class<?> contextClass,
+            @Nullable final MediaType mediaType) {
         final JavaType javaType = getJavaType(type, contextClass);
 
-        if (Stream.class.isAssignableFrom(javaType.getRawClass())) {
+        if (container.isAssignableFrom(javaType.getRawClass())) {
             final JavaType containedType = javaType.containedType(0);
             return mapper.canDeserialize(containedType) && canRead(mediaType);
         }
@@ -84,8 +137,15 @@ final class StreamConverter<T> implements GenericHttpMessageConverter<Stream<T>>
     private Stream<T> read(final JavaType javaType, final HttpInputMessage inputMessage) {
         try {
             final JavaType elementType = javaType.containedType(0);
+            final MediaType contentType = inputMessage.getHeaders().getContentType();
+
+            if (executor != null && isDelimited(contentType)) {
+                return parallel(elementType, inputMessage.getBody(), getDelimiter(contentType), executor);
+            }
+
             final InputStream body = extractBody(inputMessage);
-            return stream(elementType, body);
+            final long contentLength = inputMessage.getHeaders().getContentLength();
+            return stream(elementType, body, contentLength);
         } catch (final IOException ex) {
             throw new HttpMessageNotReadableException("Could not read document: " + ex.getMessage(), ex);
         }
@@ -97,30 +157,131 @@ final class StreamConverter<T> implements GenericHttpMessageConverter<Stream<T>>
         return sequence ? new StreamFilter(message.getBody()) : message.getBody();
     }
 
-    private Stream<T> stream(final JavaType elementType, final InputStream stream) throws IOException {
+    private Stream<T> stream(final JavaType elementType, final InputStream stream, final long contentLength)
+            throws IOException {
         final JsonParser parser = mapper.getFactory().createParser(stream);
-        final StreamSpliterator<T> split = new StreamSpliterator<>(elementType, parser);
+        final StreamSpliterator<T> split = new StreamSpliterator<>(elementType, getReader(elementType), parser,
+                contentLength, batchSize);
         return StreamSupport.stream(split, false).onClose(throwingRunnable(parser::close));
     }
 
+    private static boolean isDelimited(@Nullable final MediaType contentType) {
+        return contentType != null && (APPLICATION_X_JSON_STREAM.includes(contentType) ||
+                APPLICATION_STREAM_JSON.includes(contentType) || APPLICATION_JSON_SEQ.includes(contentType));
+    }
+
+    private static byte getDelimiter(final MediaType contentType) {
+        // sequence records may span multiple lines, but are always prefixed by a record separator
+        return (byte) (APPLICATION_JSON_SEQ.includes(contentType) ? JSON_SEQUENCE_RECORD_SEPARATOR : LINE_FEED);
+    }
+
+    private Stream<T> parallel(final JavaType elementType, final InputStream stream, final byte delimiter,
+            final Executor executor) {
+        final ParallelRecordSpliterator<T> split = new ParallelRecordSpliterator<>(
+                getReader(elementType), stream, delimiter, executor, maxInFlight, ordered);
+        return StreamSupport.stream(split, false).onClose(throwingRunnable(stream::close));
+    }
+
+    private ObjectReader getReader(final JavaType elementType) {
+        return readers.computeIfAbsent(elementType, mapper::readerFor);
+    }
+
     @Override
-    public boolean canWrite(final Class<?> clazz, final MediaType mediaType) {
-        return false;
+    public boolean canWrite(final Class<?> clazz, @Nullable final MediaType mediaType) {
+        return Stream.class.isAssignableFrom(clazz) && canWrite(mediaType);
     }
 
     // @Override since 4.2
-    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
-        return false;
+    public boolean canWrite(@Nullable final Type type, @Nullable final Class<?> clazz,
+            @Nullable final MediaType mediaType) {
+        if (clazz != null) {
+            return canWrite(clazz, mediaType);
+        }
+        return type != null && canWrite(getJavaType(type, null).getRawClass(), mediaType);
+    }
+
+    private boolean canWrite(@Nullable final MediaType mediaType) {
+        return mediaType == null || getSupportedMediaTypes().stream().anyMatch(mediaType::isCompatibleWith);
     }
 
     @Override
-    public void write(final Stream<T> t, final MediaType mediaType, final HttpOutputMessage message)  {
-        throw new UnsupportedOperationException();
+    public void write(final Stream<T> stream, @Nullable final MediaType mediaType, final HttpOutputMessage message)
+            throws IOException {
+        final MediaType contentType = getContentType(mediaType);
+        final boolean sequence = APPLICATION_JSON_SEQ.includes(contentType);
+
+        if (message.getHeaders().getContentType() == null) {
+            message.getHeaders().setContentType(contentType);
+        }
+
+        if (message instanceof StreamingHttpOutputMessage) {
+            StreamingHttpOutputMessage.class.cast(message).setBody(body -> write(stream, sequence, body));
+        } else {
+            write(stream, sequence, message.getBody());
+        }
     }
 
     // @Override since 4.2
-    public void write(final Stream<T> t, final Type type, final MediaType mediaType, final HttpOutputMessage message)  {
-        throw new UnsupportedOperationException();
+    public void write(final Stream<T> stream, @Nullable final Type type, @Nullable final MediaType mediaType,
+            final HttpOutputMessage message) throws IOException {
+        write(stream, mediaType, message);
+    }
+
+    private MediaType getContentType(@Nullable final MediaType mediaType) {
+        if (mediaType == null || mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+            return supportedMediaTypes.get(0);
+        }
+        return mediaType;
+    }
+
+    /**
+     * Writes one element at a time, i.e. neither the stream nor the whole body are ever held in memory. Binary
+     * formats, e.g. Smile and CBOR, are self-delimiting and are written without separators.
+     */
+    private void write(final Stream<T> stream, final boolean sequence, final OutputStream body) throws IOException {
+        final boolean textual = JsonFactory.FORMAT_NAME_JSON.equals(mapper.getFactory().getFormatName());
+        final ObjectWriter writer = getWriter();
+
+        try (final Stream<T> elements = stream;
+             final JsonGenerator generator = mapper.getFactory().createGenerator(body)) {
+
+            // the body is owned by the request
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            final Iterator<T> iterator = elements.iterator();
+
+            while (iterator.hasNext()) {
+                if (textual && sequence) {
+                    generator.writeRaw(JSON_SEQUENCE_RECORD_SEPARATOR);
+                }
+
+                writer.writeValue(generator, iterator.next());
+
+                if (textual) {
+                    generator.writeRaw(LINE_FEED);
+                }
+            }
+
+            generator.flush();
+        }
+    }
+
+    /**
+     * Created lazily and shared by all requests. Racing threads may create more than one, which is harmless.
+     */
+    private ObjectWriter getWriter() {
+        @Nullable ObjectWriter current = writer;
+
+        if (current == null) {
+            current = mapper.writer()
+                    // elements are separated explicitly
+                    .withRootValueSeparator((String) null)
+                    // flushing after every element would defeat the generator's buffer
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            writer = current;
+        }
+
+        return current;
     }
 
 }
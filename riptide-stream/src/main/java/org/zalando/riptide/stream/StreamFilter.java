@@ -4,73 +4,38 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+/**
+ * Replaces the record separators of JSON text sequences with whitespace, which is ignored by the parser. Bytes are
+ * replaced in place, i.e. the stream neither moves nor copies any bytes and has the same length as the original one.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc7464">RFC 7464: JavaScript Object Notation (JSON) Text Sequences</a>
+ */
 final class StreamFilter extends FilterInputStream {
 
     private static final int JSON_SEQUENCE_RECORD_SEPARATOR = 30;
+    private static final byte WHITESPACE = ' ';
 
-    final int size;
-
-    protected StreamFilter(final InputStream in) {
-        this(in, 8192);
-    }
-
-    protected StreamFilter(final InputStream in, final int size) {
+    StreamFilter(final InputStream in) {
         super(in);
-        this.size = size;
-    }
-
-    private boolean filtered(final byte read) {
-        return read == JSON_SEQUENCE_RECORD_SEPARATOR;
     }
 
     @Override
     public int read() throws IOException {
-        while (true) {
-            final int read = super.read();
-            if (read == -1) {
-                return -1;
-            } else if (!filtered((byte) read)) {
-                return read;
-            }
-        }
+        final int read = super.read();
+        return read == JSON_SEQUENCE_RECORD_SEPARATOR ? WHITESPACE : read;
     }
 
     @Override
     public int read(final byte[] b, final int off, final int len) throws IOException {
         final int read = super.read(b, off, len);
-        if (read == -1) {
-            return -1;
-        }
-        final int until = off + read;
-        int last = off;
-        for (int index = off; index < until; index++) {
-            if (!filtered(b[index])) {
-                if (index != last) {
-                    b[last] = b[index];
-                }
-                last++;
-            }
-        }
-        for (int index = last; index < until; index++) {
-            b[index] = 0;
-        }
-        return last - off;
-    }
 
-    @Override
-    public long skip(final long n) throws IOException {
-        long sum = 0;
-        final byte[] b = new byte[size];
-        while (sum < n) {
-            final int left = (int) (n - sum);
-            final int len = left > size ? size : left;
-            final int read = read(b, 0, len);
-            if (read == -1) {
-                return sum;
+        for (int index = off; index < off + read; index++) {
+            if (b[index] == JSON_SEQUENCE_RECORD_SEPARATOR) {
+                b[index] = WHITESPACE;
             }
-            sum += read;
         }
-        return sum;
+
+        return read;
     }
 
-}
\ No newline at end of file
+}
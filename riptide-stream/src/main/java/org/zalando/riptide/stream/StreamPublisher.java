@@ -0,0 +1,225 @@
+package org.zalando.riptide.stream;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * A single-use {@link Publisher publisher} that reads elements from a {@link StreamSpliterator spliterator}, but only
+ * as many as were requested. Reading blocks, which is why elements are read and signalled on the given executor,
+ * rather than on the thread that signals demand. No thread is occupied while there is no demand. Cancelling the
+ * subscription closes the stream and releases the underlying connection.
+ */
+final class StreamPublisher<T> implements Publisher<T>, AutoCloseable {
+
+    /**
+     * Upper bound of threads of the {@link #DEFAULT_EXECUTOR default executor}, i.e. of publishers that read at the
+     * same time.
+     */
+    static final int MAX_THREADS = 256;
+
+    /**
+     * Shared by all publishers that weren't given an executor. A thread is only occupied while a publisher reads,
+     * i.e. while there is demand, and idle threads are released after a minute. Once {@link #MAX_THREADS all threads}
+     * are busy, the executor rejects new reads, which fails the subscription rather than queueing it behind reads that
+     * may block for as long as their streams are open. Threads are daemons, i.e. they don't prevent the JVM from
+     * shutting down while a stream is still open.
+     */
+    static final ThreadPoolExecutor DEFAULT_EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS, 1, MINUTES,
+            new SynchronousQueue<>(), runnable -> {
+        final Thread thread = new Thread(runnable, "riptide-stream-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Spliterator<T> spliterator;
+    private final Closeable closeable;
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    StreamPublisher(final Spliterator<T> spliterator, final Closeable closeable) {
+        this(spliterator, closeable, DEFAULT_EXECUTOR);
+    }
+
+    StreamPublisher(final Spliterator<T> spliterator, final Closeable closeable, final Executor executor) {
+        this.spliterator = spliterator;
+        this.closeable = closeable;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+
+        if (subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new StreamSubscription(subscriber));
+        } else {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(final long n) {
+                    // already failed
+                }
+
+                @Override
+                public void cancel() {
+                    // already failed
+                }
+            });
+            subscriber.onError(new IllegalStateException("Publisher only supports a single subscriber"));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed.compareAndSet(false, true)) {
+            closeable.close();
+        }
+    }
+
+    private final class StreamSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * Guarantees that only one task reads at a time, i.e. signals are serialized, and that they are never
+         * delivered recursively, e.g. when {@link #request(long)} is called from within
+         * {@link Subscriber#onNext(Object)}.
+         */
+        private final AtomicInteger work = new AtomicInteger();
+
+        private volatile boolean cancelled;
+        @Nullable
+        private volatile Throwable invalid;
+
+        private StreamSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalid = new IllegalArgumentException("Requested elements must be positive, but was " + n);
+            } else {
+                demand.getAndUpdate(current -> {
+                    final long sum = current + n;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            // unblocks a pending read, if any
+            release();
+            schedule();
+        }
+
+        private void schedule() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+
+            try {
+                executor.execute(this::drain);
+            } catch (final RejectedExecutionException e) {
+                // no other task is running, since we own the work counter
+                fail(e);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+
+            do {
+                if (cancelled) {
+                    release();
+                    return;
+                }
+
+                if (invalid != null) {
+                    fail(invalid);
+                    return;
+                }
+
+                try {
+                    while (demand.get() > 0 && !cancelled) {
+                        if (!spliterator.tryAdvance(subscriber::onNext)) {
+                            complete();
+                            return;
+                        }
+
+                        demand.decrementAndGet();
+                    }
+                } catch (final RuntimeException e) {
+                    if (cancelled) {
+                        // most likely caused by closing the stream, the subscriber is not interested anymore
+                        release();
+                    } else {
+                        fail(e);
+                    }
+                    return;
+                }
+
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void complete() {
+            cancelled = true;
+
+            try {
+                close();
+            } catch (final IOException e) {
+                subscriber.onError(e);
+                return;
+            }
+
+            subscriber.onComplete();
+        }
+
+        private void fail(final Throwable throwable) {
+            cancelled = true;
+
+            try {
+                close();
+            } catch (final IOException e) {
+                throwable.addSuppressed(e);
+            }
+
+            subscriber.onError(throwable);
+        }
+
+        private void release() {
+            try {
+                close();
+            } catch (final IOException e) {
+                // the subscriber is not interested in any signals anymore
+            }
+        }
+
+    }
+
+}
@@ -1,24 +1,49 @@
 package org.zalando.riptide.stream;
 
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
+/**
+ * Parses elements sequentially, but supports parallel processing by reading ahead batches of elements and handing
+ * them out as splits, similar to {@link Spliterators.AbstractSpliterator}. Every split is one batch larger than the
+ * previous one, up to a fixed maximum. Elements are read by an {@link ObjectReader} that is bound to the element type,
+ * i.e. the deserializer is looked up once rather than once per element.
+ */
 final class StreamSpliterator<T> implements Spliterator<T> {
 
-    private final JavaType type;
+    static final int DEFAULT_BATCH_SIZE = 1 << 10;
+    private static final int MAX_BATCH_SIZE = 1 << 25;
+
+    private final ObjectReader reader;
     private final JsonParser parser;
     private final boolean isNotStreamOfArrays;
+    private final long contentLength;
+    private final int batchSize;
+
+    private int batch;
+    private long count;
+
+    StreamSpliterator(final JavaType type, final ObjectReader reader, final JsonParser parser) {
+        this(type, reader, parser, -1, DEFAULT_BATCH_SIZE);
+    }
 
-    StreamSpliterator(final JavaType type, final JsonParser parser) {
-        this.type = type;
+    StreamSpliterator(final JavaType type, final ObjectReader reader, final JsonParser parser,
+            final long contentLength, final int batchSize) {
+        this.reader = reader;
         this.parser = parser;
         this.isNotStreamOfArrays = !type.isArrayType() && !type.isCollectionLikeType();
+        this.contentLength = contentLength;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -34,7 +59,8 @@ final class StreamSpliterator<T> implements Spliterator<T> {
                 return false;
             }
 
-            final T value = parser.getCodec().readValue(parser, type);
+            final T value = reader.readValue(parser);
+            count++;
             action.accept(value);
             return true;
         } catch (final IOException e) {
@@ -57,14 +83,44 @@ final class StreamSpliterator<T> implements Spliterator<T> {
         }
     }
 
+    @Nullable
     @Override
     public Spliterator<T> trySplit() {
-        return null;
+        final int size = Math.min(batch + batchSize, MAX_BATCH_SIZE);
+        final Object[] elements = new Object[size];
+        final Buffer buffer = new Buffer(elements);
+
+        while (buffer.size < size && tryAdvance(buffer)) {
+            // the buffer collects all elements
+        }
+
+        if (buffer.size == 0) {
+            return null;
+        }
+
+        batch = buffer.size;
+        return Spliterators.spliterator(elements, 0, buffer.size, ORDERED | IMMUTABLE);
     }
 
+    /**
+     * The number of remaining elements can't be known upfront. If the response has a {@code Content-Length} the
+     * remaining bytes, divided by the average size of the elements read so far, are a reasonable estimate.
+     */
     @Override
     public long estimateSize() {
-        return Long.MAX_VALUE;
+        if (contentLength < 0 || count == 0) {
+            return Long.MAX_VALUE;
+        }
+
+        @Nullable final JsonLocation location = parser.getCurrentLocation();
+
+        if (location == null || location.getByteOffset() <= 0) {
+            return Long.MAX_VALUE;
+        }
+
+        final long offset = location.getByteOffset();
+        final long remaining = Math.max(contentLength - offset, 0);
+        return (long) Math.ceil((double) remaining / offset * count);
     }
 
     @Override
@@ -72,4 +128,20 @@ final class StreamSpliterator<T> implements Spliterator<T> {
         return ORDERED | IMMUTABLE;
     }
 
-}
\ No newline at end of file
+    private static final class Buffer implements Consumer<Object> {
+
+        private final Object[] elements;
+        private int size;
+
+        private Buffer(final Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public void accept(final Object element) {
+            elements[size++] = element;
+        }
+
+    }
+
+}
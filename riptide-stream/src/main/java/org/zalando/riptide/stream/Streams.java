@@ -1,16 +1,35 @@
 package org.zalando.riptide.stream;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.reflect.TypeParameter;
 import com.google.common.reflect.TypeToken;
 import org.apiguardian.api.API;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.zalando.fauxpas.ThrowingConsumer;
+import org.zalando.fauxpas.ThrowingFunction;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.singletonList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 /**
@@ -41,6 +60,15 @@ public final class Streams {
     public static final MediaType APPLICATION_STREAM_JSON = new MediaType("application", "stream+json");
     public static final MediaType APPLICATION_X_JSON_STREAM = new MediaType("application", "x-json-stream");
 
+    @API(status = EXPERIMENTAL)
+    public static final MediaType APPLICATION_X_JACKSON_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @API(status = EXPERIMENTAL)
+    public static final MediaType APPLICATION_CBOR = new MediaType("application", "cbor");
+
+    @API(status = EXPERIMENTAL)
+    public static final MediaType TEXT_EVENT_STREAM = new MediaType("text", "event-stream");
+
     private Streams() {
 
     }
@@ -86,6 +114,87 @@ public final class Streams {
         return streamType.where(elementType, type);
     }
 
+    /**
+     * Creates specialized {@link Publisher publisher} {@link TypeToken type token} for the given element
+     * {@link Class class type}. Requires a {@link Streams#publisherConverter(ObjectMapper) publisher converter}:
+     *
+     * <pre>
+     *     on(...).call(publisherOf(Result.class), publisher -&gt; Flux.from(publisher)...)
+     * </pre>
+     *
+     * @param <T> generic publisher element type
+     * @param type element class type.
+     * @return publisher token type.
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> TypeToken<Publisher<T>> publisherOf(final Class<T> type) {
+        return publisherOf(TypeToken.of(type));
+    }
+
+    /**
+     * Creates specialized {@link Publisher publisher} {@link TypeToken type token} for the given element
+     * {@link TypeToken type token}.
+     *
+     * @param <T> generic publisher element type
+     * @param type element token type.
+     * @return publisher token type.
+     */
+    @API(status = EXPERIMENTAL)
+    @SuppressWarnings("serial")
+    public static <T> TypeToken<Publisher<T>> publisherOf(final TypeToken<T> type) {
+        final TypeToken<Publisher<T>> publisherType = new TypeToken<Publisher<T>>() {
+            // no overriding needed.
+        };
+
+        final TypeParameter<T> elementType = new TypeParameter<T>() {
+            // no overriding needed.
+        };
+
+        return publisherType.where(elementType, type);
+    }
+
+    /**
+     * Creates specialized {@link ServerSentEvent server-sent event} {@link TypeToken type token} for the given data
+     * {@link Class class type}, to be used as the element type of streams and publishers. Requires a
+     * {@link Streams#serverSentEventConverter(ObjectMapper) server-sent event converter}:
+     *
+     * <pre>
+     *     on(...).call(streamOf(eventOf(Result.class)), forEach(event -&gt; ...))
+     * </pre>
+     *
+     * Data of type {@link String} is passed on as is, any other type is deserialized from JSON.
+     *
+     * @param <T> generic data type
+     * @param type data class type.
+     * @return event token type.
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> TypeToken<ServerSentEvent<T>> eventOf(final Class<T> type) {
+        return eventOf(TypeToken.of(type));
+    }
+
+    /**
+     * Creates specialized {@link ServerSentEvent server-sent event} {@link TypeToken type token} for the given data
+     * {@link TypeToken type token}.
+     *
+     * @param <T> generic data type
+     * @param type data token type.
+     * @return event token type.
+     */
+    @API(status = EXPERIMENTAL)
+    @SuppressWarnings("serial")
+    public static <T> TypeToken<ServerSentEvent<T>> eventOf(final TypeToken<T> type) {
+        final TypeToken<ServerSentEvent<T>> eventType = new TypeToken<ServerSentEvent<T>>() {
+            // no overriding needed.
+        };
+
+        final TypeParameter<T> dataType = new TypeParameter<T>() {
+            // no overriding needed.
+        };
+
+        return eventType.where(dataType, type);
+    }
+
     /**
      * Creates {@link ThrowingConsumer stream consumer} for given {@link ThrowingConsumer element consumer}. Commonly
      * used to wrap a single entity consumer function in a stream consumer function as follows:
@@ -113,6 +222,278 @@ public final class Streams {
         };
     }
 
+    /**
+     * Creates {@link ThrowingConsumer stream consumer} that passes elements in batches of the given size to the given
+     * {@link ThrowingConsumer batch consumer}, e.g. to write them to a database in bulk:
+     *
+     * <pre>
+     *     on(...).call(streamOf(...), forEachBatch(100, repository::saveAll))
+     * </pre>
+     *
+     * The last batch may be smaller. The same list is reused for every batch, i.e. it must be copied if it's needed
+     * after the batch consumer returned.
+     *
+     * @param <I> generic stream element type
+     * @param <X> generic exception type
+     * @param size maximum number of elements per batch
+     * @param consumer batch consumer function.
+     * @return stream consumer function.
+     */
+    @API(status = EXPERIMENTAL)
+    public static <I, X extends Throwable> ThrowingConsumer<Stream<I>, X> forEachBatch(final int size,
+            final ThrowingConsumer<List<I>, X> consumer) {
+        return forEachBatch(size, Duration.ofNanos(Long.MAX_VALUE), consumer);
+    }
+
+    /**
+     * Creates {@link ThrowingConsumer stream consumer} that passes elements in batches to the given
+     * {@link ThrowingConsumer batch consumer}. A batch is passed on as soon as it's full or as soon as its first
+     * element is older than the given maximum wait time, whatever happens first.
+     *
+     * Elements are batched as they are parsed, i.e. the wait time is only checked whenever an element arrives. A batch
+     * that is overdue is passed on together with the element that arrived last. The maximum wait time therefore only
+     * bounds batches while elements keep arriving: if the stream stalls, a partial batch waits for the next element or
+     * for the end of the stream, however long that takes.
+     *
+     * The same list is reused for every batch, i.e. it must be copied if it's needed after the batch consumer
+     * returned.
+     *
+     * @param <I> generic stream element type
+     * @param <X> generic exception type
+     * @param size maximum number of elements per batch
+     * @param maxWait maximum time the first element of a batch waits for more elements
+     * @param consumer batch consumer function.
+     * @return stream consumer function.
+     */
+    @API(status = EXPERIMENTAL)
+    public static <I, X extends Throwable> ThrowingConsumer<Stream<I>, X> forEachBatch(final int size,
+            final Duration maxWait, final ThrowingConsumer<List<I>, X> consumer) {
+        checkArgument(size > 0, "Batch size must be positive");
+        final long maxWaitNanos = maxWait.toNanos();
+
+        return input -> {
+            if (input == null) {
+                return;
+            }
+
+            try {
+                final List<I> batch = new ArrayList<>(size);
+                final Iterator<I> iterator = input.iterator();
+                long start = 0;
+
+                while (iterator.hasNext()) {
+                    if (batch.isEmpty()) {
+                        start = System.nanoTime();
+                    }
+
+                    batch.add(iterator.next());
+
+                    if (batch.size() >= size || System.nanoTime() - start >= maxWaitNanos) {
+                        consumer.tryAccept(batch);
+                        batch.clear();
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    consumer.tryAccept(batch);
+                }
+            } finally {
+                input.close();
+            }
+        };
+    }
+
+    /**
+     * Groups the elements of the given stream into batches of the given size. The last batch may be smaller.
+     * Closing the returned stream closes the given stream:
+     *
+     * <pre>
+     *     on(...).call(streamOf(...), stream -&gt; batches(stream, 100).forEach(repository::saveAll))
+     * </pre>
+     *
+     * @param <T> generic stream element type
+     * @param stream the stream of elements
+     * @param size maximum number of elements per batch
+     * @return stream of batches
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> Stream<List<T>> batches(final Stream<T> stream, final int size) {
+        checkArgument(size > 0, "Batch size must be positive");
+        final Spliterator<T> elements = stream.spliterator();
+
+        final Spliterator<List<T>> batches = new AbstractSpliterator<List<T>>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super List<T>> action) {
+                final List<T> batch = new ArrayList<>(size);
+
+                while (batch.size() < size && elements.tryAdvance(batch::add)) {
+                    // the batch collects all elements
+                }
+
+                if (batch.isEmpty()) {
+                    return false;
+                }
+
+                action.accept(batch);
+                return true;
+            }
+
+        };
+
+        return StreamSupport.stream(batches, false).onClose(stream::close);
+    }
+
+    /**
+     * Creates a stream that survives network failures. The given function opens the stream, e.g. by performing a
+     * request and capturing the streamed response body, for the given cursor. The cursor is {@code null} initially,
+     * afterwards it's extracted from the last element that was consumed. If the response fails with an
+     * {@link IOException I/O failure}, the stream is re-opened from the last cursor, i.e. consumers see one
+     * continuous stream:
+     *
+     * <pre>{@code
+     * Stream<Event> events = Streams.resumable(cursor -> {
+     *     Capture<Stream<Event>> capture = Capture.empty();
+     *     return http.get("/events")
+     *             .header("X-Cursor", cursor == null ? "BEGIN" : cursor)
+     *             .dispatch(series(), on(SUCCESSFUL).call(streamOf(Event.class), capture))
+     *             .thenApply(capture).join();
+     * }, Event::getCursor);
+     * }</pre>
+     *
+     * The stream is re-opened up to 10 consecutive times, waiting 100 milliseconds at first and doubling the delay
+     * for every subsequent failure, up to 30 seconds.
+     *
+     * @param <T> generic stream element type
+     * @param <C> generic cursor type
+     * @param open function that opens the stream for a given cursor
+     * @param cursorOf function that extracts the cursor of an element
+     * @return resumable stream
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T, C> Stream<T> resumable(final ThrowingFunction<C, Stream<T>, IOException> open,
+            final Function<? super T, ? extends C> cursorOf) {
+        return resumable(open, cursorOf, 10, Duration.ofMillis(100), Duration.ofSeconds(30));
+    }
+
+    /**
+     * Creates a stream that survives network failures using the given backoff.
+     *
+     * @param <T> generic stream element type
+     * @param <C> generic cursor type
+     * @param open function that opens the stream for a given cursor
+     * @param cursorOf function that extracts the cursor of an element
+     * @param maxRetries maximum number of consecutive attempts to re-open the stream
+     * @param delay delay before the first attempt, doubled for every subsequent attempt
+     * @param maxDelay maximum delay between two attempts
+     * @return resumable stream
+     * @see #resumable(ThrowingFunction, Function)
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T, C> Stream<T> resumable(final ThrowingFunction<C, Stream<T>, IOException> open,
+            final Function<? super T, ? extends C> cursorOf, final int maxRetries, final Duration delay,
+            final Duration maxDelay) {
+        checkArgument(maxRetries >= 0, "Max retries must not be negative");
+        final ResumableSpliterator<T, C> spliterator =
+                new ResumableSpliterator<>(open, cursorOf, maxRetries, delay, maxDelay, false, element -> null);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Creates a stream of {@link ServerSentEvent server-sent events} that reconnects like an {@code EventSource}
+     * does. The given function opens the stream with the given headers, which contain the {@code Last-Event-ID}
+     * header if, and only if, an event with an id was received before:
+     *
+     * <pre>{@code
+     * Stream<ServerSentEvent<Order>> events = Streams.resumableEvents(headers -> {
+     *     Capture<Stream<ServerSentEvent<Order>>> capture = Capture.empty();
+     *     return http.get("/events")
+     *             .accept(TEXT_EVENT_STREAM)
+     *             .headers(headers)
+     *             .dispatch(series(), on(SUCCESSFUL).call(streamOf(eventOf(Order.class)), capture))
+     *             .thenApply(capture).join();
+     * });
+     * }</pre>
+     *
+     * The stream is re-opened whenever it ends, i.e. when the server closes the connection, after the reconnection
+     * time of 3 seconds or the {@link ServerSentEvent#getRetry() retry} of the last event that set one. I/O failures
+     * and streams that end without a single event are re-opened up to 10 consecutive times, doubling the delay up to
+     * 30 seconds. The function may return {@code null} in order to end the stream, e.g. if the server responded with
+     * {@code 204 No Content}.
+     *
+     * @param <T> generic data type
+     * @param open function that opens the stream with the given headers
+     * @return resumable stream of events
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> Stream<ServerSentEvent<T>> resumableEvents(
+            final ThrowingFunction<HttpHeaders, Stream<ServerSentEvent<T>>, IOException> open) {
+        return resumableEvents(open, 10, Duration.ofSeconds(3), Duration.ofSeconds(30));
+    }
+
+    /**
+     * Creates a stream of {@link ServerSentEvent server-sent events} that reconnects using the given settings.
+     *
+     * @param <T> generic data type
+     * @param open function that opens the stream with the given headers
+     * @param maxRetries maximum number of consecutive attempts to re-open the stream after failures or empty streams
+     * @param delay reconnection time until the server sets one
+     * @param maxDelay maximum delay between two attempts after failures or empty streams
+     * @return resumable stream of events
+     * @see #resumableEvents(ThrowingFunction)
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> Stream<ServerSentEvent<T>> resumableEvents(
+            final ThrowingFunction<HttpHeaders, Stream<ServerSentEvent<T>>, IOException> open,
+            final int maxRetries, final Duration delay, final Duration maxDelay) {
+        checkArgument(maxRetries >= 0, "Max retries must not be negative");
+        final ResumableSpliterator<ServerSentEvent<T>, String> spliterator = new ResumableSpliterator<>(
+                lastEventId -> open.tryApply(lastEventId(lastEventId)), ServerSentEvent::getId,
+                maxRetries, delay, maxDelay, true, ServerSentEvent::getRetry);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private static HttpHeaders lastEventId(@Nullable final String lastEventId) {
+        final HttpHeaders headers = new HttpHeaders();
+
+        if (lastEventId != null) {
+            headers.set("Last-Event-ID", lastEventId);
+        }
+
+        return headers;
+    }
+
+    /**
+     * Creates a {@link Publisher publisher} that emits the elements of the given stream, e.g. a
+     * {@link #resumable(ThrowingFunction, Function) resumable stream}. Elements are read on a shared pool of at most
+     * 256 daemon threads, only while there is demand, and the stream is closed when the subscription is completed or
+     * cancelled. Subscriptions fail if all of those threads are busy.
+     *
+     * @param <T> generic stream element type
+     * @param stream the stream of elements
+     * @return publisher of the given stream
+     * @see #toPublisher(Stream, Executor)
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> Publisher<T> toPublisher(final Stream<T> stream) {
+        return new StreamPublisher<>(stream.spliterator(), stream::close);
+    }
+
+    /**
+     * Creates a {@link Publisher publisher} that emits the elements of the given stream. Elements are read, i.e.
+     * blocking, and signalled on the given executor. An executor that rejects the task fails the subscription.
+     *
+     * @param <T> generic stream element type
+     * @param stream the stream of elements
+     * @param executor executor to read elements on
+     * @return publisher of the given stream
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> Publisher<T> toPublisher(final Stream<T> stream, final Executor executor) {
+        return new StreamPublisher<>(stream.spliterator(), stream::close, executor);
+    }
+
     /**
      * Create default stream converter.
      *
@@ -149,4 +530,176 @@ public final class Streams {
             final List<MediaType> supportedMediaTypes) {
         return new StreamConverter(mapper, supportedMediaTypes);
     }
+
+    /**
+     * Create stream converter with custom {@link ObjectMapper object mapper}, custom list of
+     * {@link MediaType supported media types} and a custom batch size. Streams are parsed sequentially, but
+     * {@link Stream#parallel() parallel streams} process batches of already parsed elements concurrently. Every batch
+     * is larger than the previous one by the given batch size.
+     *
+     * @param <T> generic stream element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @param supportedMediaTypes custom list of {@link MediaType media types}.
+     * @param batchSize number of elements that are read ahead for the first batch
+     * @return stream converter with customer object mapper.
+     */
+    @API(status = EXPERIMENTAL)
+    @SuppressWarnings("unchecked")
+    public static <T> StreamConverter<T> streamConverter(final ObjectMapper mapper,
+            final List<MediaType> supportedMediaTypes, final int batchSize) {
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        return new StreamConverter(mapper, supportedMediaTypes, batchSize);
+    }
+
+    /**
+     * Create stream converter that parses delimited streams in parallel. The response body is split into lines, or
+     * records in case of {@link #APPLICATION_JSON_SEQ JSON text sequences}, which are parsed by the given
+     * {@link Executor executor} while the stream is consumed. Other responses, e.g. top-level arrays, are parsed
+     * sequentially.
+     *
+     * @param <T> generic stream element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @param supportedMediaTypes custom list of {@link MediaType media types}.
+     * @param executor executor that parses elements, should be bounded
+     * @param maxInFlight maximum number of elements that are read ahead of the consumer
+     * @param ordered whether elements are passed on in the order of the response or as soon as they are parsed
+     * @return stream converter with customer object mapper.
+     */
+    @API(status = EXPERIMENTAL)
+    @SuppressWarnings("unchecked")
+    public static <T> StreamConverter<T> parallelStreamConverter(final ObjectMapper mapper,
+            final List<MediaType> supportedMediaTypes, final Executor executor, final int maxInFlight,
+            final boolean ordered) {
+        checkArgument(maxInFlight > 0, "Max in flight must be positive");
+        return new StreamConverter(mapper, supportedMediaTypes, executor, maxInFlight, ordered);
+    }
+
+    /**
+     * Create stream converter for <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>, a
+     * binary JSON format. Streams are sequences of Smile values without separators.
+     *
+     * @param <T> generic stream element type
+     * @param mapper {@link ObjectMapper object mapper} using a {@code SmileFactory}
+     * @return stream converter for {@link #APPLICATION_X_JACKSON_SMILE application/x-jackson-smile}
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> StreamConverter<T> smileStreamConverter(final ObjectMapper mapper) {
+        checkArgument("Smile".equals(mapper.getFactory().getFormatName()), "Object mapper must use a SmileFactory");
+        return streamConverter(mapper, singletonList(APPLICATION_X_JACKSON_SMILE));
+    }
+
+    /**
+     * Create stream converter for <a href="https://tools.ietf.org/html/rfc7049">CBOR</a>, a binary JSON format.
+     * Streams are sequences of CBOR data items without separators.
+     *
+     * @param <T> generic stream element type
+     * @param mapper {@link ObjectMapper object mapper} using a {@code CBORFactory}
+     * @return stream converter for {@link #APPLICATION_CBOR application/cbor}
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> StreamConverter<T> cborStreamConverter(final ObjectMapper mapper) {
+        checkArgument("CBOR".equals(mapper.getFactory().getFormatName()), "Object mapper must use a CBORFactory");
+        return streamConverter(mapper, singletonList(APPLICATION_CBOR));
+    }
+
+    /**
+     * Create publisher converter with custom {@link ObjectMapper object mapper}. Publishers only read as many
+     * elements from the response body as were requested by their subscriber and release the connection when the
+     * subscription is cancelled.
+     *
+     * @param <T> generic publisher element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @return publisher converter with custom object mapper.
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> HttpMessageConverter<Publisher<T>> publisherConverter(final ObjectMapper mapper) {
+        return new PublisherConverter<>(streamConverter(mapper));
+    }
+
+    /**
+     * Create publisher converter with custom {@link ObjectMapper object mapper}, and custom list of
+     * {@link MediaType supported media types}.
+     *
+     * @param <T> generic publisher element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @param supportedMediaTypes custom list of {@link MediaType media types}.
+     * @return publisher converter with custom object mapper.
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> HttpMessageConverter<Publisher<T>> publisherConverter(final ObjectMapper mapper,
+            final List<MediaType> supportedMediaTypes) {
+        return new PublisherConverter<>(streamConverter(mapper, supportedMediaTypes));
+    }
+
+    /**
+     * Create publisher converter with custom {@link ObjectMapper object mapper}, custom list of
+     * {@link MediaType supported media types} and a custom executor that elements are read on.
+     *
+     * @param <T> generic publisher element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @param supportedMediaTypes custom list of {@link MediaType media types}.
+     * @param executor executor to read elements on
+     * @return publisher converter with custom object mapper and executor.
+     * @see #toPublisher(Stream, Executor)
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> HttpMessageConverter<Publisher<T>> publisherConverter(final ObjectMapper mapper,
+            final List<MediaType> supportedMediaTypes, final Executor executor) {
+        return new PublisherConverter<>(streamConverter(mapper, supportedMediaTypes), executor);
+    }
+
+    /**
+     * Create converter for <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">server-sent
+     * events</a>, i.e. {@link #TEXT_EVENT_STREAM text/event-stream}, which reads
+     * {@link #streamOf(TypeToken) streams} and {@link #publisherOf(TypeToken) publishers} of
+     * {@link #eventOf(Class) events}. Events are parsed incrementally, as they arrive. Reconnecting with the
+     * {@code Last-Event-ID} header can be done using {@link #resumableEvents(ThrowingFunction)}.
+     *
+     * @param mapper custom {@link ObjectMapper object mapper} used to deserialize the data of events
+     * @return server-sent event converter
+     */
+    @API(status = EXPERIMENTAL)
+    public static HttpMessageConverter<Object> serverSentEventConverter(final ObjectMapper mapper) {
+        return new ServerSentEventConverter(mapper);
+    }
+
+    /**
+     * Create a {@link NonBlockingStreamParser non-blocking parser} for streams of the given element
+     * {@link Class class type}, to be used with non-blocking HTTP clients that deliver response bodies in chunks.
+     *
+     * @param <T> generic stream element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @param type element class type.
+     * @param contentType the content type of the response, used to detect {@link #APPLICATION_JSON_SEQ}
+     * @param consumer element consumer function.
+     * @return non-blocking parser
+     * @throws IOException if the parser can't be created
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> NonBlockingStreamParser<T> nonBlockingParser(final ObjectMapper mapper, final Class<T> type,
+            @Nullable final MediaType contentType, final Consumer<? super T> consumer) throws IOException {
+        return nonBlockingParser(mapper, TypeToken.of(type), contentType, consumer);
+    }
+
+    /**
+     * Create a {@link NonBlockingStreamParser non-blocking parser} for streams of the given element
+     * {@link TypeToken type token}.
+     *
+     * @param <T> generic stream element type
+     * @param mapper custom {@link ObjectMapper object mapper}.
+     * @param type element token type.
+     * @param contentType the content type of the response, used to detect {@link #APPLICATION_JSON_SEQ}
+     * @param consumer element consumer function.
+     * @return non-blocking parser
+     * @throws IOException if the parser can't be created
+     */
+    @API(status = EXPERIMENTAL)
+    public static <T> NonBlockingStreamParser<T> nonBlockingParser(final ObjectMapper mapper, final TypeToken<T> type,
+            @Nullable final MediaType contentType, final Consumer<? super T> consumer) throws IOException {
+        checkArgument(mapper.getFactory().canParseAsync(), "Object mapper doesn't support non-blocking parsing");
+        final JavaType elementType = mapper.getTypeFactory().constructType(type.getType());
+        final boolean sequence = APPLICATION_JSON_SEQ.includes(contentType);
+        return new NonBlockingStreamParser<>(mapper, elementType, sequence, consumer);
+    }
+
 }
@@ -0,0 +1,117 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.zalando.riptide.stream.Streams.APPLICATION_JSON_SEQ;
+import static org.zalando.riptide.stream.Streams.APPLICATION_X_JSON_STREAM;
+import static org.zalando.riptide.stream.Streams.nonBlockingParser;
+
+public final class NonBlockingStreamParserTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    private final List<AccountBody> accounts = new ArrayList<>();
+
+    @Test
+    public void shouldParseStreamInChunks() throws IOException {
+        final NonBlockingStreamParser<AccountBody> unit =
+                nonBlockingParser(mapper, AccountBody.class, APPLICATION_X_JSON_STREAM, accounts::add);
+
+        feedInChunks(unit, read("account-stream.json"), 7);
+        unit.end();
+
+        assertThat(accounts, contains(
+                new AccountBody("1234567890", "Acme Corporation"),
+                new AccountBody("1234567891", "Acme Company"),
+                new AccountBody("1234567892", "Acme GmbH"),
+                new AccountBody("1234567893", "Acme SE")));
+    }
+
+    @Test
+    public void shouldEmitElementAsSoonAsItIsComplete() throws IOException {
+        final NonBlockingStreamParser<AccountBody> unit =
+                nonBlockingParser(mapper, AccountBody.class, APPLICATION_X_JSON_STREAM, accounts::add);
+
+        final byte[] bytes = "{\"id\":\"1\",\"name\":\"Acme\"}".getBytes(UTF_8);
+
+        unit.feed(bytes, 0, bytes.length - 1);
+        assertThat(accounts, is(empty()));
+
+        unit.feed(bytes, bytes.length - 1, 1);
+        assertThat(accounts, contains(new AccountBody("1", "Acme")));
+    }
+
+    @Test
+    public void shouldUnwrapArray() throws IOException {
+        final NonBlockingStreamParser<AccountBody> unit =
+                nonBlockingParser(mapper, AccountBody.class, null, accounts::add);
+
+        feedInChunks(unit, read("account-list.json"), 3);
+        unit.end();
+
+        assertThat(accounts, hasSize(4));
+    }
+
+    @Test
+    public void shouldParseSequence() throws IOException {
+        final NonBlockingStreamParser<AccountBody> unit =
+                nonBlockingParser(mapper, AccountBody.class, APPLICATION_JSON_SEQ, accounts::add);
+
+        feedInChunks(unit, read("account-sequence.json"), 5);
+        unit.end();
+
+        assertThat(accounts, hasSize(4));
+    }
+
+    @Test
+    public void shouldParseArrays() throws IOException {
+        final List<AccountBody[]> arrays = new ArrayList<>();
+        final NonBlockingStreamParser<AccountBody[]> unit =
+                nonBlockingParser(mapper, AccountBody[].class, APPLICATION_X_JSON_STREAM, arrays::add);
+
+        unit.feed(ByteBuffer.wrap(read("account-list.json")));
+        unit.end();
+
+        assertThat(arrays, hasSize(1));
+        assertThat(arrays.get(0).length, is(4));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailOnIncompleteElement() throws IOException {
+        final NonBlockingStreamParser<AccountBody> unit =
+                nonBlockingParser(mapper, AccountBody.class, APPLICATION_X_JSON_STREAM, accounts::add);
+
+        final byte[] bytes = "{\"id\":\"1\"".getBytes(UTF_8);
+        unit.feed(bytes, 0, bytes.length);
+        unit.end();
+    }
+
+    private static void feedInChunks(final NonBlockingStreamParser<?> unit, final byte[] bytes, final int size)
+            throws IOException {
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            unit.feed(bytes, offset, Math.min(size, bytes.length - offset));
+        }
+    }
+
+    private static byte[] read(final String resource) throws IOException {
+        try (final InputStream stream = new ClassPathResource(resource).getInputStream()) {
+            return ByteStreams.toByteArray(stream);
+        }
+    }
+
+}
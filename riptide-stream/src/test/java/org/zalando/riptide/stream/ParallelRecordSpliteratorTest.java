@@ -0,0 +1,154 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.zalando.riptide.stream.Streams.APPLICATION_JSON_SEQ;
+import static org.zalando.riptide.stream.Streams.APPLICATION_X_JSON_STREAM;
+import static org.zalando.riptide.stream.Streams.parallelStreamConverter;
+import static org.zalando.riptide.stream.Streams.streamOf;
+
+public final class ParallelRecordSpliteratorTest {
+
+    private static final byte LINE_FEED = '\n';
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectReader reader = mapper.readerFor(Integer.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldParseInOrder() {
+        final List<Integer> elements = stream(lines(10_000), 16, true).collect(toList());
+
+        assertThat(elements, is(IntStream.range(0, 10_000).boxed().collect(toList())));
+    }
+
+    @Test
+    public void shouldParseUnordered() {
+        final List<Integer> elements = stream("1\n2\n3\n4\n5", 2, false).collect(toList());
+
+        assertThat(elements, containsInAnyOrder(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void shouldSkipBlankLines() {
+        final List<Integer> elements = stream("\n1\r\n\n \t\n2\n\n", 4, true).collect(toList());
+
+        assertThat(elements, contains(1, 2));
+    }
+
+    @Test
+    public void shouldParseLinesLongerThanBuffer() {
+        final String padding = String.join("", nCopies(20_000, " "));
+        final List<Integer> elements = stream(padding + "1\n2" + padding, 1, true).collect(toList());
+
+        assertThat(elements, contains(1, 2));
+    }
+
+    @Test
+    public void shouldBoundElementsInFlight() {
+        final AtomicInteger submitted = new AtomicInteger();
+        final ParallelRecordSpliterator<Integer> unit = new ParallelRecordSpliterator<>(reader,
+                input("1\n2\n3\n4\n5"), LINE_FEED, task -> {
+                    submitted.incrementAndGet();
+                    task.run();
+                }, 2, true);
+
+        unit.tryAdvance(element -> assertThat(element, is(1)));
+
+        assertThat(submitted.get(), is(2));
+    }
+
+    @Test
+    public void shouldNotBeOrderedIfUnordered() {
+        final Spliterator<Integer> unit =
+                new ParallelRecordSpliterator<>(reader, input(""), LINE_FEED, executor, 1, false);
+
+        assertThat(unit.hasCharacteristics(Spliterator.ORDERED), is(false));
+    }
+
+    @Test
+    public void shouldPropagateParsingErrors() {
+        exception.expect(UncheckedIOException.class);
+
+        stream("1\n{\n3", 2, true).forEach(element -> {});
+    }
+
+    @Test
+    public void shouldReadStreamsInParallel() throws IOException {
+        final StreamConverter<AccountBody> unit = parallelStreamConverter(mapper,
+                singletonList(APPLICATION_X_JSON_STREAM), executor, 2, true);
+
+        final MockHttpInputMessage message =
+                new MockHttpInputMessage(new ClassPathResource("account-stream.json").getInputStream());
+        message.getHeaders().setContentType(APPLICATION_X_JSON_STREAM);
+
+        try (final Stream<AccountBody> stream = unit.read(streamOf(AccountBody.class).getType(), null, message)) {
+            assertThat(stream.map(AccountBody::getName).collect(toList()),
+                    contains("Acme Corporation", "Acme Company", "Acme GmbH", "Acme SE"));
+        }
+    }
+
+    @Test
+    public void shouldReadSequencesInParallel() throws IOException {
+        final StreamConverter<AccountBody> unit = parallelStreamConverter(mapper,
+                singletonList(APPLICATION_JSON_SEQ), executor, 2, true);
+
+        final MockHttpInputMessage message =
+                new MockHttpInputMessage(new ClassPathResource("account-sequence.json").getInputStream());
+        message.getHeaders().setContentType(APPLICATION_JSON_SEQ);
+
+        try (final Stream<AccountBody> stream = unit.read(streamOf(AccountBody.class).getType(), null, message)) {
+            assertThat(stream.count(), is(4L));
+        }
+    }
+
+    private Stream<Integer> stream(final String content, final int maxInFlight, final boolean ordered) {
+        return StreamSupport.stream(
+                new ParallelRecordSpliterator<>(reader, input(content), LINE_FEED, executor, maxInFlight, ordered), false);
+    }
+
+    private static ByteArrayInputStream input(final String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+    private static String lines(final int count) {
+        return IntStream.range(0, count).mapToObj(String::valueOf).collect(joining("\n"));
+    }
+
+}
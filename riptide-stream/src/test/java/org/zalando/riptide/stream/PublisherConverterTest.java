@@ -0,0 +1,85 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.zalando.riptide.Capture;
+import org.zalando.riptide.Http;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.http.HttpStatus.Series.SUCCESSFUL;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.zalando.riptide.Bindings.on;
+import static org.zalando.riptide.Navigators.series;
+import static org.zalando.riptide.stream.Streams.APPLICATION_X_JSON_STREAM;
+import static org.zalando.riptide.stream.Streams.publisherConverter;
+import static org.zalando.riptide.stream.Streams.publisherOf;
+import static org.zalando.riptide.stream.Streams.streamOf;
+
+public final class PublisherConverterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    private final MockSetup setup = new MockSetup("https://api.example.com",
+            singletonList(publisherConverter(mapper)));
+    private final MockRestServiceServer server = setup.getServer();
+    private final Http unit = setup.getRest();
+
+    @After
+    public void verify() {
+        server.verify();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldOnlyReadPublishers() {
+        final GenericHttpMessageConverter<Publisher<Object>> unit =
+                (GenericHttpMessageConverter<Publisher<Object>>) Streams.<Object>publisherConverter(mapper,
+                        singletonList(APPLICATION_X_JSON_STREAM));
+
+        assertTrue(unit.canRead(publisherOf(AccountBody.class).getType(), null, APPLICATION_X_JSON_STREAM));
+        assertFalse(unit.canRead(publisherOf(AccountBody.class).getType(), null, APPLICATION_JSON));
+        assertFalse(unit.canRead(streamOf(AccountBody.class).getType(), null, APPLICATION_X_JSON_STREAM));
+        assertFalse(unit.canRead(AccountBody.class, APPLICATION_X_JSON_STREAM));
+        assertFalse(unit.canWrite(publisherOf(AccountBody.class).getType(), null, APPLICATION_X_JSON_STREAM));
+    }
+
+    @Test
+    public void shouldPublishElements() {
+        server.expect(requestTo("https://api.example.com/accounts")).andRespond(
+                withSuccess()
+                        .body(new ClassPathResource("account-stream.json"))
+                        .contentType(APPLICATION_X_JSON_STREAM));
+
+        final Capture<Publisher<AccountBody>> capture = Capture.empty();
+
+        final Publisher<AccountBody> publisher = unit.get("/accounts")
+                .dispatch(series(),
+                        on(SUCCESSFUL).call(publisherOf(AccountBody.class), capture))
+                .thenApply(capture)
+                .join();
+
+        final List<String> names = Flux.from(publisher)
+                .limitRate(1)
+                .take(2)
+                .map(AccountBody::getName)
+                .collectList()
+                .block();
+
+        assertThat(names, contains("Acme Corporation", "Acme Company"));
+    }
+
+}
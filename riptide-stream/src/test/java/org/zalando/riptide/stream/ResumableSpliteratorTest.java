@@ -0,0 +1,261 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.zalando.riptide.stream.Streams.resumable;
+import static org.zalando.riptide.stream.Streams.resumableEvents;
+import static org.zalando.riptide.stream.Streams.toPublisher;
+
+public final class ResumableSpliteratorTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private final List<Integer> cursors = new ArrayList<>();
+
+    @Test
+    public void shouldResumeFromLastCursor() {
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            cursors.add(cursor);
+            return cursor == null ? failing(1, 2) : Stream.of(3, 4);
+        }, Integer::valueOf, 3, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.collect(toList()), contains(1, 2, 3, 4));
+        assertThat(cursors, contains(nullValue(), is(2)));
+    }
+
+    @Test
+    public void shouldResumeIfOpeningFails() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CompletionException(new SocketTimeoutException());
+            }
+            return Stream.of(1, 2);
+        }, Integer::valueOf, 3, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.collect(toList()), contains(1, 2));
+        assertThat(attempts.get(), is(3));
+    }
+
+    @Test
+    public void shouldResetRetriesAfterElement() {
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            cursors.add(cursor);
+            return cursor == null ? failing(1) : cursor < 3 ? failing(cursor + 1) : Stream.empty();
+        }, Integer::valueOf, 1, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.collect(toList()), contains(1, 2, 3));
+        assertThat(cursors, contains(nullValue(), is(1), is(2), is(3)));
+    }
+
+    @Test
+    public void shouldGiveUpAfterMaxRetries() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            attempts.incrementAndGet();
+            throw new IOException();
+        }, Integer::valueOf, 2, Duration.ZERO, Duration.ZERO);
+
+        exception.expect(UncheckedIOException.class);
+
+        try {
+            unit.forEach(element -> {});
+        } finally {
+            assertThat(attempts.get(), is(3));
+        }
+    }
+
+    @Test
+    public void shouldNotResumeOnOtherFailures() {
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            cursors.add(cursor);
+            return Stream.concat(Stream.of(1), Stream.<Integer>generate(() -> {
+                throw new IllegalStateException();
+            }));
+        }, Integer::valueOf, 3, Duration.ZERO, Duration.ZERO);
+
+        exception.expect(IllegalStateException.class);
+
+        try {
+            unit.forEach(element -> {});
+        } finally {
+            assertThat(cursors, contains(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldNotResumeOnMalformedElements() {
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            cursors.add(cursor);
+            return Stream.concat(Stream.of(1), Stream.<Integer>generate(() -> {
+                throw new UncheckedIOException(JsonMappingException.from((JsonParser) null, "Malformed element"));
+            }));
+        }, Integer::valueOf, 3, Duration.ZERO, Duration.ZERO);
+
+        exception.expect(UncheckedIOException.class);
+
+        try {
+            unit.forEach(element -> {});
+        } finally {
+            assertThat(cursors, contains(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldNotResumeOnConsumerFailures() {
+        final Stream<Integer> unit = resumable((final Integer cursor) -> {
+            cursors.add(cursor);
+            return Stream.of(1, 2);
+        }, Integer::valueOf, 3, Duration.ZERO, Duration.ZERO);
+
+        exception.expect(UncheckedIOException.class);
+
+        try {
+            unit.forEach(element -> {
+                throw new UncheckedIOException(new IOException());
+            });
+        } finally {
+            assertThat(cursors, contains(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldCloseCurrentStream() {
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        final Stream<Integer> unit = resumable((final Integer cursor) ->
+                Stream.of(1, 2).onClose(() -> closed.set(true)), Integer::valueOf);
+
+        try (final Stream<Integer> stream = unit) {
+            assertThat(stream.findFirst().orElse(null), is(1));
+        }
+
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void shouldPublishResumableStream() {
+        final Stream<Integer> unit = resumable((final Integer cursor) ->
+                cursor == null ? failing(1, 2) : Stream.of(3, 4), Integer::valueOf, 3, Duration.ZERO, Duration.ZERO);
+
+        final List<Integer> elements = Flux.from(toPublisher(unit)).collectList().block();
+
+        assertThat(elements, contains(1, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldRejectNegativeRetries() {
+        exception.expect(IllegalArgumentException.class);
+        resumable((final Integer cursor) -> Stream.<Integer>empty(), Integer::valueOf, -1, Duration.ZERO, Duration.ZERO);
+    }
+
+    @Test
+    public void shouldReconnectEventsAfterEndOfStream() {
+        final List<HttpHeaders> headers = new ArrayList<>();
+
+        final Stream<ServerSentEvent<String>> unit = resumableEvents(current -> {
+            headers.add(current);
+            return headers.size() == 1 ? Stream.of(event("1", null)) :
+                    headers.size() == 2 ? Stream.of(event("2", null)) : null;
+        }, 3, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.map(ServerSentEvent::getData).collect(toList()), contains("1", "2"));
+        assertThat(headers, hasSize(3));
+        assertThat(headers.get(0).containsKey("Last-Event-ID"), is(false));
+        assertThat(headers.get(1).getFirst("Last-Event-ID"), is("1"));
+        assertThat(headers.get(2).getFirst("Last-Event-ID"), is("2"));
+    }
+
+    @Test
+    public void shouldOmitLastEventIdIfEventsHaveNoId() {
+        final List<HttpHeaders> headers = new ArrayList<>();
+
+        final Stream<ServerSentEvent<String>> unit = resumableEvents(current -> {
+            headers.add(current);
+            return headers.size() == 1 ? Stream.of(event(null, null)) : null;
+        }, 3, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.count(), is(1L));
+        assertThat(headers.get(1).containsKey("Last-Event-ID"), is(false));
+    }
+
+    @Test(timeout = 5_000)
+    public void shouldUseRetryAsReconnectionTime() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final Stream<ServerSentEvent<String>> unit = resumableEvents(current ->
+                attempts.incrementAndGet() == 1 ? Stream.of(event("1", Duration.ZERO)) : null,
+                3, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertThat(unit.count(), is(1L));
+        assertThat(attempts.get(), is(2));
+    }
+
+    @Test
+    public void shouldResumeEventsOnNetworkFailures() {
+        final List<HttpHeaders> headers = new ArrayList<>();
+
+        final Stream<ServerSentEvent<String>> unit = resumableEvents(current -> {
+            headers.add(current);
+            return headers.size() == 1 ?
+                    Stream.concat(Stream.of(event("1", null)), Stream.<ServerSentEvent<String>>generate(() -> {
+                        throw new UncheckedIOException(new IOException("Connection reset"));
+                    })) :
+                    headers.size() == 2 ? Stream.of(event("2", null)) : null;
+        }, 3, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.map(ServerSentEvent::getData).collect(toList()), contains("1", "2"));
+        assertThat(headers.get(1).getFirst("Last-Event-ID"), is("1"));
+    }
+
+    @Test
+    public void shouldStopReconnectingAfterEmptyStreams() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final Stream<ServerSentEvent<String>> unit = resumableEvents(current -> {
+            attempts.incrementAndGet();
+            return Stream.empty();
+        }, 2, Duration.ZERO, Duration.ZERO);
+
+        assertThat(unit.count(), is(0L));
+        assertThat(attempts.get(), is(3));
+    }
+
+    private static ServerSentEvent<String> event(@Nullable final String id, @Nullable final Duration retry) {
+        return new ServerSentEvent<>(id, "message", id, retry);
+    }
+
+    private static Stream<Integer> failing(final Integer... elements) {
+        return Stream.concat(Stream.of(elements), Stream.<Integer>generate(() -> {
+            throw new UncheckedIOException(new IOException("Connection reset"));
+        }));
+    }
+
+}
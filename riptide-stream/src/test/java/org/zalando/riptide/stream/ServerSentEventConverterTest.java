@@ -0,0 +1,107 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.zalando.riptide.Capture;
+import org.zalando.riptide.Http;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.http.HttpStatus.Series.SUCCESSFUL;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.zalando.riptide.Bindings.on;
+import static org.zalando.riptide.Navigators.series;
+import static org.zalando.riptide.stream.Streams.TEXT_EVENT_STREAM;
+import static org.zalando.riptide.stream.Streams.eventOf;
+import static org.zalando.riptide.stream.Streams.forEach;
+import static org.zalando.riptide.stream.Streams.publisherOf;
+import static org.zalando.riptide.stream.Streams.serverSentEventConverter;
+import static org.zalando.riptide.stream.Streams.streamOf;
+
+public final class ServerSentEventConverterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    private final MockSetup setup = new MockSetup("https://api.example.com",
+            singletonList(serverSentEventConverter(mapper)));
+    private final MockRestServiceServer server = setup.getServer();
+    private final Http unit = setup.getRest();
+
+    @After
+    public void verify() {
+        server.verify();
+    }
+
+    @Test
+    public void shouldOnlyReadStreamsAndPublishersOfEvents() {
+        final GenericHttpMessageConverter<?> unit = (GenericHttpMessageConverter<?>) serverSentEventConverter(mapper);
+
+        assertTrue(unit.canRead(streamOf(eventOf(AccountBody.class)).getType(), null, TEXT_EVENT_STREAM));
+        assertTrue(unit.canRead(publisherOf(eventOf(String.class)).getType(), null, TEXT_EVENT_STREAM));
+        assertTrue(unit.canRead(streamOf(eventOf(AccountBody.class)).getType(), null, null));
+        assertFalse(unit.canRead(streamOf(eventOf(AccountBody.class)).getType(), null, APPLICATION_JSON));
+        assertFalse(unit.canRead(streamOf(AccountBody.class).getType(), null, TEXT_EVENT_STREAM));
+        assertFalse(unit.canRead(eventOf(AccountBody.class).getType(), null, TEXT_EVENT_STREAM));
+        assertFalse(unit.canRead(Stream.class, TEXT_EVENT_STREAM));
+        assertFalse(unit.canWrite(streamOf(eventOf(AccountBody.class)).getType(), null, TEXT_EVENT_STREAM));
+    }
+
+    @Test
+    public void shouldStreamEvents() {
+        server.expect(requestTo("https://api.example.com/accounts")).andRespond(
+                withSuccess()
+                        .body(new ClassPathResource("account-events.txt"))
+                        .contentType(TEXT_EVENT_STREAM));
+
+        final List<ServerSentEvent<AccountBody>> events = new ArrayList<>();
+
+        unit.get("/accounts")
+                .dispatch(series(),
+                        on(SUCCESSFUL).call(streamOf(eventOf(AccountBody.class)), forEach(events::add)))
+                .join();
+
+        assertThat(events, contains(
+                new ServerSentEvent<>("1", "created", new AccountBody("1234567890", "Acme Corporation"), null),
+                new ServerSentEvent<>("2", "updated", new AccountBody("1234567890", "Acme Company"), null)));
+    }
+
+    @Test
+    public void shouldPublishEvents() {
+        server.expect(requestTo("https://api.example.com/accounts")).andRespond(
+                withSuccess()
+                        .body(new ClassPathResource("account-events.txt"))
+                        .contentType(TEXT_EVENT_STREAM));
+
+        final Capture<Publisher<ServerSentEvent<String>>> capture = Capture.empty();
+
+        final Publisher<ServerSentEvent<String>> publisher = unit.get("/accounts")
+                .dispatch(series(),
+                        on(SUCCESSFUL).call(publisherOf(eventOf(String.class)), capture))
+                .thenApply(capture)
+                .join();
+
+        final List<String> ids = Flux.from(publisher)
+                .limitRate(1)
+                .map(ServerSentEvent::getId)
+                .collectList()
+                .block();
+
+        assertThat(ids, contains("1", "2"));
+    }
+
+}
@@ -0,0 +1,116 @@
+package org.zalando.riptide.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ServerSentEventSpliteratorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    public void shouldParseEvents() {
+        final List<ServerSentEvent<String>> events = parse(
+                "data: first\n" +
+                "\n" +
+                "event: update\n" +
+                "id: 2\n" +
+                "data: second\n" +
+                "\n");
+
+        assertThat(events, contains(
+                new ServerSentEvent<>(null, "message", "first", null),
+                new ServerSentEvent<>("2", "update", "second", null)));
+    }
+
+    @Test
+    public void shouldJoinDataLines() {
+        final List<ServerSentEvent<String>> events = parse("data: first\ndata:second\ndata\n\n");
+
+        assertThat(events, contains(new ServerSentEvent<>(null, "message", "first\nsecond\n", null)));
+    }
+
+    @Test
+    public void shouldKeepLastEventId() {
+        final List<ServerSentEvent<String>> events = parse("id: 1\ndata: a\n\ndata: b\n\nid\ndata: c\n\n");
+
+        assertThat(events, contains(
+                new ServerSentEvent<>("1", "message", "a", null),
+                new ServerSentEvent<>("1", "message", "b", null),
+                new ServerSentEvent<>(null, "message", "c", null)));
+    }
+
+    @Test
+    public void shouldParseRetry() {
+        final List<ServerSentEvent<String>> events = parse("retry: 1500\n\nretry: soon\ndata: a\n\ndata: b\n\n");
+
+        assertThat(events, contains(
+                new ServerSentEvent<>(null, "message", "a", Duration.ofMillis(1500)),
+                new ServerSentEvent<>(null, "message", "b", null)));
+    }
+
+    @Test
+    public void shouldIgnoreCommentsAndUnknownFields() {
+        final List<ServerSentEvent<String>> events = parse(": heartbeat\nfoo: bar\n\ndata: a\n\n");
+
+        assertThat(events, contains(new ServerSentEvent<>(null, "message", "a", null)));
+    }
+
+    @Test
+    public void shouldSupportAllLineEndings() {
+        final List<ServerSentEvent<String>> events = parse("\uFEFFdata: a\r\n\r\ndata: b\r\rdata: c\n\n");
+
+        assertThat(events, contains(
+                new ServerSentEvent<>(null, "message", "a", null),
+                new ServerSentEvent<>(null, "message", "b", null),
+                new ServerSentEvent<>(null, "message", "c", null)));
+    }
+
+    @Test
+    public void shouldDiscardIncompleteEvent() {
+        assertThat(parse("data: a"), is(empty()));
+    }
+
+    @Test
+    public void shouldDeserializeData() {
+        final ServerSentEventSpliterator<AccountBody> unit = new ServerSentEventSpliterator<>(
+                mapper.readerFor(AccountBody.class),
+                input("data: {\"id\":\"1\",\ndata: \"name\":\"Acme\"}\n\ndata:\n\n"));
+
+        final List<ServerSentEvent<AccountBody>> events = StreamSupport.stream(unit, false).collect(toList());
+
+        assertThat(events, contains(
+                new ServerSentEvent<>(null, "message", new AccountBody("1", "Acme"), null),
+                new ServerSentEvent<AccountBody>(null, "message", null, null)));
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void shouldFailOnInvalidData() {
+        final ServerSentEventSpliterator<AccountBody> unit = new ServerSentEventSpliterator<>(
+                mapper.readerFor(AccountBody.class), input("data: {\n\n"));
+
+        unit.tryAdvance(event -> {});
+    }
+
+    private static List<ServerSentEvent<String>> parse(final String content) {
+        final ServerSentEventSpliterator<String> unit = new ServerSentEventSpliterator<>(null, input(content));
+        return StreamSupport.stream(unit, false).collect(toList());
+    }
+
+    private static ByteArrayInputStream input(final String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+}
@@ -4,26 +4,39 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpOutputMessage;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -36,8 +49,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_XML;
+import static org.zalando.riptide.stream.Streams.APPLICATION_CBOR;
 import static org.zalando.riptide.stream.Streams.APPLICATION_JSON_SEQ;
+import static org.zalando.riptide.stream.Streams.APPLICATION_X_JACKSON_SMILE;
 import static org.zalando.riptide.stream.Streams.APPLICATION_X_JSON_STREAM;
+import static org.zalando.riptide.stream.Streams.cborStreamConverter;
+import static org.zalando.riptide.stream.Streams.smileStreamConverter;
 import static org.zalando.riptide.stream.Streams.streamConverter;
 
 public class StreamConverterTest {
@@ -92,9 +109,18 @@ public class StreamConverterTest {
     }
 
     @Test
-    public void shouldNotSupportWriteGeneric() throws Exception {
+    public void shouldSupportWriteStream() throws Exception {
+        final HttpMessageConverter<Stream<AccountBody>> unit = streamConverter();
+        assertTrue(unit.canWrite(Stream.of(1, 2).getClass(), APPLICATION_X_JSON_STREAM));
+        assertTrue(unit.canWrite(Stream.of(1, 2).getClass(), null));
+        assertFalse(unit.canWrite(Stream.of(1, 2).getClass(), APPLICATION_XML));
+    }
+
+    @Test
+    public void shouldSupportWriteGeneric() throws Exception {
         final StreamConverter<AccountBody> unit = streamConverter();
-        assertFalse(unit.canWrite(Streams.streamOf(AccountBody.class).getType(), null, APPLICATION_X_JSON_STREAM));
+        assertTrue(unit.canWrite(Streams.streamOf(AccountBody.class).getType(), null, APPLICATION_X_JSON_STREAM));
+        assertFalse(unit.canWrite(AccountBody.class, null, APPLICATION_X_JSON_STREAM));
     }
 
     private HttpInputMessage mockWithContentType(final MediaType mediaType) {
@@ -199,18 +225,99 @@ public class StreamConverterTest {
     }
 
     @Test
-    public void writeNotSupported() throws Exception {
-        exception.expect(UnsupportedOperationException.class);
+    public void shouldWriteStream() throws Exception {
+        final StreamConverter<AccountBody> unit = streamConverter();
+        final MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        unit.write(accounts(), APPLICATION_X_JSON_STREAM, message);
+
+        assertThat(message.getHeaders().getContentType(), is(APPLICATION_X_JSON_STREAM));
+        assertThat(message.getBodyAsString(UTF_8), is(
+                "{\"id\":\"1234567890\",\"name\":\"Acme Corporation\"}\n" +
+                "{\"id\":\"1234567891\",\"name\":\"Acme Company\"}\n"));
+    }
+
+    @Test
+    public void shouldWriteSequence() throws Exception {
+        final StreamConverter<AccountBody> unit = streamConverter();
+        final MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        unit.write(accounts(), Streams.streamOf(AccountBody.class).getType(), APPLICATION_JSON_SEQ, message);
 
-        final HttpMessageConverter<Stream<Object>> unit = streamConverter();
-        unit.write(null, APPLICATION_X_JSON_STREAM, null);
+        assertThat(message.getHeaders().getContentType(), is(APPLICATION_JSON_SEQ));
+        assertThat(message.getBodyAsString(UTF_8), is(
+                "\u001E{\"id\":\"1234567890\",\"name\":\"Acme Corporation\"}\n" +
+                "\u001E{\"id\":\"1234567891\",\"name\":\"Acme Company\"}\n"));
     }
 
     @Test
-    public void writeGenericNotSupported() throws Exception {
-        exception.expect(UnsupportedOperationException.class);
+    public void shouldWriteStreamingBodyLazily() throws Exception {
+        final StreamConverter<AccountBody> unit = streamConverter();
+        final StreamingHttpOutputMessage message = mock(StreamingHttpOutputMessage.class);
+        when(message.getHeaders()).thenReturn(new HttpHeaders());
+
+        final AtomicBoolean consumed = new AtomicBoolean();
+        unit.write(accounts().peek(account -> consumed.set(true)), APPLICATION_X_JSON_STREAM, message);
+
+        final ArgumentCaptor<StreamingHttpOutputMessage.Body> captor =
+                ArgumentCaptor.forClass(StreamingHttpOutputMessage.Body.class);
+        verify(message).setBody(captor.capture());
+        assertFalse(consumed.get());
 
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        captor.getValue().writeTo(body);
+
+        assertTrue(consumed.get());
+        assertThat(body.toString("UTF-8"), startsWith("{\"id\":\"1234567890\""));
+    }
+
+    @Test
+    public void shouldCloseStreamAfterWriting() throws Exception {
         final StreamConverter<AccountBody> unit = streamConverter();
-        unit.write(null, Streams.streamOf(AccountBody.class).getType(), APPLICATION_X_JSON_STREAM, null);
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        unit.write(accounts().onClose(() -> closed.set(true)), APPLICATION_X_JSON_STREAM, new MockHttpOutputMessage());
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldWriteAndReadSmile() throws Exception {
+        shouldWriteAndRead(smileStreamConverter(new ObjectMapper(new SmileFactory())), APPLICATION_X_JACKSON_SMILE);
+    }
+
+    @Test
+    public void shouldWriteAndReadCbor() throws Exception {
+        shouldWriteAndRead(cborStreamConverter(new ObjectMapper(new CBORFactory())), APPLICATION_CBOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTextualMapperForBinaryFormat() {
+        smileStreamConverter(new ObjectMapper());
+    }
+
+    private void shouldWriteAndRead(final StreamConverter<AccountBody> unit, final MediaType mediaType)
+            throws IOException {
+        final MockHttpOutputMessage output = new MockHttpOutputMessage();
+        unit.write(accounts(), null, output);
+
+        assertThat(output.getHeaders().getContentType(), is(mediaType));
+
+        final HttpInputMessage input = mockWithContentType(mediaType);
+        when(input.getBody()).thenReturn(new ByteArrayInputStream(output.getBodyAsBytes()));
+
+        final Type type = Streams.streamOf(AccountBody.class).getType();
+
+        try (final Stream<AccountBody> stream = unit.read(type, null, input)) {
+            assertThat(stream.collect(toList()), contains(
+                    new AccountBody("1234567890", "Acme Corporation"),
+                    new AccountBody("1234567891", "Acme Company")));
+        }
+    }
+
+    private static Stream<AccountBody> accounts() {
+        return Stream.of(
+                new AccountBody("1234567890", "Acme Corporation"),
+                new AccountBody("1234567891", "Acme Company"));
     }
 }
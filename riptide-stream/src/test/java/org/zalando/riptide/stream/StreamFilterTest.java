@@ -5,13 +5,17 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.core.io.ClassPathResource;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 
 public class StreamFilterTest {
 
+    private static final int RECORD_SEPARATOR = 30;
+
     @Rule
     public final ExpectedException exception = ExpectedException.none();
 
@@ -20,13 +24,14 @@ public class StreamFilterTest {
         final InputStream stream = new ClassPathResource("account-sequence.json").getInputStream();
 
         try (final StreamFilter unit = new StreamFilter(stream)) {
-            final int filtered = 3;
             final int available = stream.available();
             int read = 0;
-            while (unit.read() != -1) {
+            int current;
+            while ((current = unit.read()) != -1) {
+                assertThat(current, is(not(RECORD_SEPARATOR)));
                 read++;
             }
-            assertThat(read, is(available - filtered));
+            assertThat(read, is(available));
         }
     }
 
@@ -35,31 +40,45 @@ public class StreamFilterTest {
         final InputStream stream = new ClassPathResource("account-sequence.json").getInputStream();
 
         try (final StreamFilter unit = new StreamFilter(stream)) {
-            final int filtered = 3;
             final int available = stream.available();
             int sum = 0;
             int read;
             final byte[] buffer = new byte[10];
             while ((read = unit.read(buffer, 0, buffer.length)) != -1) {
+                for (int index = 0; index < read; index++) {
+                    assertThat((int) buffer[index], is(not(RECORD_SEPARATOR)));
+                }
                 sum += read;
             }
-            assertThat(sum, is(available - filtered));
+            assertThat(sum, is(available));
+        }
+    }
+
+    @Test
+    public void shouldReplaceRecordSeparatorsWithWhitespaceInPlace() throws Exception {
+        final byte[] input = {RECORD_SEPARATOR, '1', '\n', RECORD_SEPARATOR, '2', '\n'};
+
+        try (final StreamFilter unit = new StreamFilter(new ByteArrayInputStream(input))) {
+            final byte[] buffer = new byte[8];
+            final int read = unit.read(buffer, 1, 6);
+
+            assertThat(read, is(6));
+            assertThat(new String(buffer, 1, read), is(" 1\n 2\n"));
         }
     }
 
     @Test
-    public void shouldFilterOnSkip() throws Exception {
+    public void shouldSkipWithoutFiltering() throws Exception {
         final InputStream stream = new ClassPathResource("account-sequence.json").getInputStream();
 
-        try (final StreamFilter unit = new StreamFilter(stream, 5)) {
-            final long filtered = 3;
+        try (final StreamFilter unit = new StreamFilter(stream)) {
             final long available = stream.available();
             long sum = 0;
             long skipped;
             while ((skipped = unit.skip(10)) != 0) {
                 sum += skipped;
             }
-            assertThat(sum, is(available - filtered));
+            assertThat(sum, is(available));
         }
     }
 }
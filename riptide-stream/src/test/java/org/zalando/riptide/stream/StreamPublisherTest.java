@@ -0,0 +1,264 @@
+package org.zalando.riptide.stream;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static java.util.Spliterator.ORDERED;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class StreamPublisherTest {
+
+    private final Closeable closeable = mock(Closeable.class);
+
+    // reads synchronously, which keeps assertions simple
+    private final StreamPublisher<Integer> unit =
+            new StreamPublisher<>(spliterator(1, 2, 3), closeable, Runnable::run);
+
+    @Test
+    public void shouldOnlyPublishRequestedElements() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+
+        assertThat(subscriber.elements, is(empty()));
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.elements, contains(1, 2));
+        assertThat(subscriber.completed, is(false));
+        verify(closeable, never()).close();
+    }
+
+    @Test
+    public void shouldCompleteAndClose() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.elements, contains(1, 2, 3));
+        assertThat(subscriber.completed, is(true));
+        verify(closeable).close();
+    }
+
+    @Test
+    public void shouldCloseOnCancel() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.elements, contains(1));
+        assertThat(subscriber.completed, is(false));
+        verify(closeable).close();
+    }
+
+    @Test
+    public void shouldNotRecurseWhenRequestingFromOnNext() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(final Integer element) {
+                super.onNext(element);
+                subscription.request(1);
+            }
+        };
+
+        unit.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.elements, contains(1, 2, 3));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void shouldReadOnExecutor() throws InterruptedException {
+        final CountDownLatch available = new CountDownLatch(1);
+        final ExecutorService executor = newSingleThreadExecutor();
+
+        try {
+            final StreamPublisher<Integer> unit = new StreamPublisher<>(blocking(available), closeable, executor);
+
+            final BlockingQueue<String> threads = new LinkedBlockingQueue<>();
+            final RecordingSubscriber subscriber = new RecordingSubscriber() {
+                @Override
+                public void onNext(final Integer element) {
+                    threads.add(Thread.currentThread().getName());
+                    super.onNext(element);
+                }
+            };
+
+            unit.subscribe(subscriber);
+
+            // returns immediately, even though the element is not available yet
+            subscriber.subscription.request(1);
+            available.countDown();
+
+            final String thread = threads.poll(1, SECONDS);
+            assertThat(thread, is(notNullValue()));
+            assertThat(thread, is(not(Thread.currentThread().getName())));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldFailIfExecutorRejects() throws IOException {
+        final StreamPublisher<Integer> unit = new StreamPublisher<>(spliterator(1, 2, 3), closeable, task -> {
+            throw new RejectedExecutionException();
+        });
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, is(instanceOf(RejectedExecutionException.class)));
+        verify(closeable).close();
+    }
+
+    @Test
+    public void shouldBoundDefaultExecutor() {
+        assertThat(StreamPublisher.DEFAULT_EXECUTOR.getCorePoolSize(), is(0));
+        assertThat(StreamPublisher.DEFAULT_EXECUTOR.getMaximumPoolSize(), is(StreamPublisher.MAX_THREADS));
+        assertThat(StreamPublisher.DEFAULT_EXECUTOR.getQueue().remainingCapacity(), is(0));
+    }
+
+    @Test
+    public void shouldRejectNonPositiveRequests() throws IOException {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+        verify(closeable).close();
+    }
+
+    @Test
+    public void shouldRejectSecondSubscriber() {
+        unit.subscribe(new RecordingSubscriber());
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+
+        assertThat(subscriber.error, is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    public void shouldPublishParsingErrors() throws IOException {
+        final StreamPublisher<Integer> unit = new StreamPublisher<>(new Spliterator<Integer>() {
+            @Override
+            public boolean tryAdvance(final Consumer<? super Integer> action) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public Spliterator<Integer> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED;
+            }
+        }, closeable);
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        unit.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, is(instanceOf(IllegalStateException.class)));
+        assertThat(subscriber.elements, is(empty()));
+        verify(closeable).close();
+    }
+
+    @Test
+    public void shouldNotFailWithoutSubscriber() throws IOException {
+        unit.close();
+        unit.close();
+
+        verify(closeable).close();
+    }
+
+    private static Spliterator<Integer> spliterator(final Integer... elements) {
+        return Arrays.asList(elements).spliterator();
+    }
+
+    private static Spliterator<Integer> blocking(final CountDownLatch available) {
+        return new Spliterators.AbstractSpliterator<Integer>(Long.MAX_VALUE, ORDERED) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super Integer> action) {
+                try {
+                    available.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                action.accept(1);
+                return true;
+            }
+        };
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Integer> {
+
+        Subscription subscription;
+        final List<Integer> elements = new ArrayList<>();
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final Integer element) {
+            elements.add(element);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+    }
+
+}
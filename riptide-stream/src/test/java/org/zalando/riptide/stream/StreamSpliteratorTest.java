@@ -2,6 +2,7 @@ package org.zalando.riptide.stream;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.SimpleType;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,11 +11,20 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class StreamSpliteratorTest {
@@ -24,16 +34,70 @@ public final class StreamSpliteratorTest {
 
     private final JavaType type = SimpleType.constructUnsafe(List.class);
 
+    private final ObjectMapper mapper = new ObjectMapper();
+
     @Mock
     private JsonParser parser;
 
     @Test
-    public void shouldNotSupportParallelExecution() {
-        assertNull( new StreamSpliterator<>(type, parser).trySplit());
+    public void shouldNotSplitEmptyStream() {
+        assertNull(new StreamSpliterator<>(type, mapper.readerFor(type), parser).trySplit());
     }
 
     @Test
     public void shouldNotPredictEstimateSize() {
-        assertThat(new StreamSpliterator<>(type, parser).estimateSize(), is(Long.MAX_VALUE));
+        assertThat(new StreamSpliterator<>(type, mapper.readerFor(type), parser).estimateSize(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldSplitIntoGrowingSizedBatches() throws IOException {
+        final Spliterator<Integer> unit = spliterator(array(5000), -1, 1000);
+
+        final Spliterator<Integer> first = unit.trySplit();
+        assertTrue(first.hasCharacteristics(Spliterator.SIZED));
+        assertThat(first.estimateSize(), is(1000L));
+
+        final Spliterator<Integer> second = unit.trySplit();
+        assertThat(second.estimateSize(), is(2000L));
+
+        final Spliterator<Integer> third = unit.trySplit();
+        assertThat(third.estimateSize(), is(2000L));
+
+        assertNull(unit.trySplit());
     }
+
+    @Test
+    public void shouldProcessInParallelAndPreserveOrder() throws IOException {
+        final Spliterator<Integer> unit = spliterator(array(10000), -1, 100);
+
+        final List<Integer> actual = StreamSupport.stream(unit, true)
+                .map(i -> i * 2)
+                .collect(toList());
+
+        assertThat(actual, is(IntStream.range(0, 10000).map(i -> i * 2).boxed().collect(toList())));
+    }
+
+    @Test
+    public void shouldEstimateSizeBasedOnContentLength() throws IOException {
+        // every element has the same size
+        final String content = IntStream.range(0, 1000).mapToObj(i -> "7").collect(joining(",", "[", "]"));
+        final Spliterator<Integer> unit = spliterator(content, content.length(), 100);
+
+        unit.trySplit();
+
+        assertThat(unit.estimateSize(), is(greaterThan(800L)));
+        assertThat(unit.estimateSize(), is(lessThan(1000L)));
+    }
+
+    private Spliterator<Integer> spliterator(final String content, final long contentLength, final int batchSize)
+            throws IOException {
+        final JsonParser parser = mapper.getFactory().createParser(content.getBytes());
+        final JavaType type = mapper.constructType(Integer.class);
+        return new StreamSpliterator<>(type, mapper.readerFor(type), parser, contentLength, batchSize);
+    }
+
+    private static String array(final int size) {
+        return IntStream.range(0, size).mapToObj(String::valueOf).collect(joining(",", "[", "]"));
+    }
+
 }
@@ -16,14 +16,22 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.hobsoft.hamcrest.compose.ComposeMatchers.hasFeature;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
@@ -41,7 +49,9 @@ import static org.zalando.riptide.Navigators.status;
 import static org.zalando.riptide.Types.listOf;
 import static org.zalando.riptide.stream.Streams.APPLICATION_JSON_SEQ;
 import static org.zalando.riptide.stream.Streams.APPLICATION_X_JSON_STREAM;
+import static org.zalando.riptide.stream.Streams.batches;
 import static org.zalando.riptide.stream.Streams.forEach;
+import static org.zalando.riptide.stream.Streams.forEachBatch;
 import static org.zalando.riptide.stream.Streams.streamConverter;
 import static org.zalando.riptide.stream.Streams.streamOf;
 
@@ -243,6 +253,62 @@ public class StreamsTest {
         future.join();
     }
 
+    @Test
+    public void shouldCallConsumerWithBatches() {
+        server.expect(requestTo(url)).andRespond(
+                withSuccess()
+                        .body(new ClassPathResource("account-stream.json"))
+                        .contentType(APPLICATION_X_JSON_STREAM));
+
+        final List<List<String>> batches = new ArrayList<>();
+
+        unit.get("/accounts").dispatch(status(),
+                on(OK).call(streamOf(AccountBody.class), forEachBatch(3, batch ->
+                        batches.add(batch.stream().map(AccountBody::getId).collect(toList())))),
+                anyStatus().call(this::fail)).join();
+
+        assertThat(batches, contains(
+                Arrays.asList("1234567890", "1234567891", "1234567892"),
+                singletonList("1234567893")));
+    }
+
+    @Test
+    public void shouldCallConsumerWithOverdueBatches() {
+        server.expect(requestTo(url)).andRespond(
+                withSuccess()
+                        .body(new ClassPathResource("account-stream.json"))
+                        .contentType(APPLICATION_X_JSON_STREAM));
+
+        final List<Integer> sizes = new ArrayList<>();
+
+        unit.get("/accounts").dispatch(status(),
+                on(OK).call(streamOf(AccountBody.class), forEachBatch(3, Duration.ZERO, batch ->
+                        sizes.add(batch.size()))),
+                anyStatus().call(this::fail)).join();
+
+        assertThat(sizes, contains(1, 1, 1, 1));
+    }
+
+    @Test
+    public void shouldRejectNonPositiveBatchSize() {
+        exception.expect(IllegalArgumentException.class);
+        forEachBatch(0, batch -> {});
+    }
+
+    @Test
+    public void shouldGroupStreamIntoBatches() {
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        try (final Stream<List<Integer>> stream = batches(Stream.of(1, 2, 3, 4, 5).onClose(() -> closed.set(true)), 2)) {
+            assertThat(stream.collect(toList()), contains(
+                    Arrays.asList(1, 2),
+                    Arrays.asList(3, 4),
+                    singletonList(5)));
+        }
+
+        assertThat(closed.get(), is(true));
+    }
+
     private void fail(final ClientHttpResponse response) throws IOException {
         throw new AssertionError(response.getRawStatusCode());
     }
@@ -0,0 +1,17 @@
+package org.zalando.riptide.timeout;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Signals that no response, i.e. status line and headers, was received in time.
+ *
+ * @see ResponseTimeoutPlugin
+ */
+@API(status = EXPERIMENTAL)
+public final class ResponseTimeoutException extends TimeoutException {
+
+}
@@ -0,0 +1,44 @@
+package org.zalando.riptide.timeout;
+
+import org.apiguardian.api.API;
+import org.zalando.riptide.Plugin;
+import org.zalando.riptide.RequestArguments;
+import org.zalando.riptide.RequestExecution;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Limits the time to the first byte, i.e. until the response headers arrived. In contrast to the
+ * {@link TimeoutPlugin} it neither includes reading the response body nor routing. Fails with a
+ * {@link ResponseTimeoutException}.
+ */
+@API(status = EXPERIMENTAL)
+public final class ResponseTimeoutPlugin implements Plugin {
+
+    private final TimeoutPlugin plugin;
+
+    public ResponseTimeoutPlugin(final ScheduledExecutorService scheduler, final long timeout, final TimeUnit unit) {
+        this(scheduler, timeout, unit, Runnable::run);
+    }
+
+    public ResponseTimeoutPlugin(final ScheduledExecutorService scheduler, final long timeout, final TimeUnit unit,
+            final Executor executor) {
+        this.plugin = new TimeoutPlugin(scheduler, timeout, unit, executor, ResponseTimeoutException::new);
+    }
+
+    @Override
+    public RequestExecution interceptBeforeRouting(final RequestArguments arguments,
+            final RequestExecution execution) {
+        return plugin.prepare(arguments, execution);
+    }
+
+    @Override
+    public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
+        return execution;
+    }
+
+}
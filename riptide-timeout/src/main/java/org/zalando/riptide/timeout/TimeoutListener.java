@@ -0,0 +1,30 @@
+package org.zalando.riptide.timeout;
+
+import org.apiguardian.api.API;
+import org.zalando.riptide.RequestArguments;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+@API(status = EXPERIMENTAL)
+public interface TimeoutListener {
+
+    TimeoutListener DEFAULT = new TimeoutListener() {
+        // nothing to implement, since default methods are sufficient
+    };
+
+    /**
+     * Called when a request didn't complete in time, either because the timeout expired while waiting for the
+     * response or because the request's deadline had already expired before it was sent.
+     * Listeners are called before the future of the request is completed exceptionally.
+     *
+     * @param arguments the request
+     * @param timeout the timeout that was applied, i.e. the configured one or the remaining budget of the deadline
+     * @param unit the unit of the given timeout
+     */
+    default void onTimeout(final RequestArguments arguments, final long timeout, final TimeUnit unit) {
+        // nothing to do
+    }
+
+}
@@ -1,9 +1,9 @@
 package org.zalando.riptide.timeout;
 
 import com.google.gag.annotation.remark.ThisWouldBeOneLineIn;
-import lombok.AllArgsConstructor;
 import org.apiguardian.api.API;
 import org.springframework.http.client.ClientHttpResponse;
+import org.zalando.riptide.Deadline;
 import org.zalando.riptide.Plugin;
 import org.zalando.riptide.RequestArguments;
 import org.zalando.riptide.RequestExecution;
@@ -16,17 +16,21 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.stream;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.zalando.riptide.CancelableCompletableFuture.forwardTo;
 import static org.zalando.riptide.CancelableCompletableFuture.preserveCancelability;
 
 /**
+ * Applies the given timeout or the remaining budget of the request's {@link Deadline deadline}, whichever is smaller.
+ * Requests whose deadline already expired fail right away without being sent.
+ *
  * @see "CompletableFuture#orTimeout(long, TimeUnit)"
  */
 @API(status = STABLE)
-@AllArgsConstructor
 @ThisWouldBeOneLineIn(language = "Java 9", toWit = "return () -> execution.execute().orTimeout(timeout, unit)")
 public final class TimeoutPlugin implements Plugin {
 
@@ -34,20 +38,58 @@ public final class TimeoutPlugin implements Plugin {
     private final long timeout;
     private final TimeUnit unit;
     private final Executor executor;
+    private final Supplier<? extends TimeoutException> exception;
+    private final TimeoutListener listener;
 
     public TimeoutPlugin(final ScheduledExecutorService scheduler, final long timeout, final TimeUnit unit) {
         this(scheduler, timeout, unit, Runnable::run);
     }
 
+    public TimeoutPlugin(final ScheduledExecutorService scheduler, final long timeout, final TimeUnit unit,
+            final Executor executor) {
+        this(scheduler, timeout, unit, executor, TimeoutException::new);
+    }
+
+    TimeoutPlugin(final ScheduledExecutorService scheduler, final long timeout, final TimeUnit unit,
+            final Executor executor, final Supplier<? extends TimeoutException> exception) {
+        this(scheduler, timeout, unit, executor, exception, TimeoutListener.DEFAULT);
+    }
+
+    private TimeoutPlugin(final ScheduledExecutorService scheduler, final long timeout, final TimeUnit unit,
+            final Executor executor, final Supplier<? extends TimeoutException> exception,
+            final TimeoutListener listener) {
+        this.scheduler = scheduler;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.executor = executor;
+        this.exception = exception;
+        this.listener = listener;
+    }
+
+    public TimeoutPlugin withListener(final TimeoutListener listener) {
+        return new TimeoutPlugin(scheduler, timeout, unit, executor, exception, listener);
+    }
+
     @Override
     public RequestExecution prepare(final RequestArguments arguments, final RequestExecution execution) {
         return () -> {
+            final long nanos = Deadline.remaining(arguments.getDeadline(), timeout, unit);
+
+            if (nanos <= 0) {
+                final CompletableFuture<ClientHttpResponse> expired = new CompletableFuture<>();
+                // notify first, callers that join the future expect the listener to have been called
+                listener.onTimeout(arguments, 0, NANOSECONDS);
+                expired.completeExceptionally(exception.get());
+                return expired;
+            }
+
             final CompletableFuture<ClientHttpResponse> upstream = execution.execute();
 
             final CompletableFuture<ClientHttpResponse> downstream = preserveCancelability(upstream);
             upstream.whenCompleteAsync(forwardTo(downstream), executor);
 
-            final ScheduledFuture<?> scheduledTimeout = delay(timeout(downstream), cancel(upstream));
+            final ScheduledFuture<?> scheduledTimeout =
+                    delay(nanos, timeout(arguments, nanos, downstream), cancel(upstream));
             upstream.whenCompleteAsync(cancel(scheduledTimeout), executor);
 
             return downstream;
@@ -58,12 +100,19 @@ public final class TimeoutPlugin implements Plugin {
         return () -> future.cancel(true);
     }
 
-    private <T> Runnable timeout(final CompletableFuture<T> future) {
-        return () -> future.completeExceptionally(new TimeoutException());
+    private <T> Runnable timeout(final RequestArguments arguments, final long nanos,
+            final CompletableFuture<T> future) {
+        return () -> {
+            // the response may have arrived already, in which case nothing timed out
+            if (!future.isDone()) {
+                listener.onTimeout(arguments, nanos, NANOSECONDS);
+                future.completeExceptionally(exception.get());
+            }
+        };
     }
 
-    private ScheduledFuture<?> delay(final Runnable... tasks) {
-        return scheduler.schedule(run(executor, tasks), timeout, unit);
+    private ScheduledFuture<?> delay(final long nanos, final Runnable... tasks) {
+        return scheduler.schedule(run(executor, tasks), nanos, NANOSECONDS);
     }
 
     private Runnable run(final Executor executor, final Runnable... tasks) {
@@ -0,0 +1,80 @@
+package org.zalando.riptide.timeout;
+
+import com.github.restdriver.clientdriver.ClientDriverRule;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.zalando.riptide.Http;
+import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import static com.github.restdriver.clientdriver.RestClientDriver.giveEmptyResponse;
+import static com.github.restdriver.clientdriver.RestClientDriver.onRequestTo;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.fail;
+import static org.zalando.riptide.PassRoute.pass;
+import static org.zalando.riptide.Route.call;
+
+public final class ResponseTimeoutPluginTest {
+
+    @Rule
+    public final ClientDriverRule driver = new ClientDriverRule();
+
+    private final CloseableHttpClient client = HttpClientBuilder.create().build();
+    private final AsyncListenableTaskExecutor executor = new ConcurrentTaskExecutor();
+    private final RestAsyncClientHttpRequestFactory factory = new RestAsyncClientHttpRequestFactory(client, executor);
+
+    private final Http unit = Http.builder()
+            .baseUrl(driver.getBaseUrl())
+            .requestFactory(factory)
+            .plugin(new ResponseTimeoutPlugin(newSingleThreadScheduledExecutor(), 500, MILLISECONDS, executor))
+            .build();
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    public void shouldNotTimeout() {
+        driver.addExpectation(onRequestTo("/foo"),
+                giveEmptyResponse());
+
+        unit.get("/foo")
+                .call(pass())
+                .join();
+    }
+
+    @Test
+    public void shouldNotIncludeRouting() {
+        driver.addExpectation(onRequestTo("/foo"),
+                giveEmptyResponse());
+
+        unit.get("/foo")
+                .call(call(() -> Thread.sleep(1000)))
+                .join();
+    }
+
+    @Test(expected = ResponseTimeoutException.class)
+    public void shouldTimeout() throws Throwable {
+        driver.addExpectation(onRequestTo("/foo"),
+                giveEmptyResponse().after(1000, MILLISECONDS));
+
+        try {
+            unit.get("/foo")
+                    .call(pass())
+                    .join();
+            fail("Expecting exception");
+        } catch (final CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+}
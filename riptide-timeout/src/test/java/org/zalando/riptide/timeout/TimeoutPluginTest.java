@@ -11,6 +11,7 @@ import org.junit.Test;
 import org.springframework.core.task.AsyncListenableTaskExecutor;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.zalando.riptide.Deadline;
 import org.zalando.riptide.Http;
 import org.zalando.riptide.httpclient.RestAsyncClientHttpRequestFactory;
 
@@ -22,7 +23,17 @@ import java.util.concurrent.TimeoutException;
 import static com.github.restdriver.clientdriver.RestClientDriver.giveEmptyResponse;
 import static com.github.restdriver.clientdriver.RestClientDriver.onRequestTo;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.zalando.riptide.PassRoute.pass;
 
 public class TimeoutPluginTest {
@@ -82,4 +93,81 @@ public class TimeoutPluginTest {
         }
     }
 
+    @Test
+    public void shouldNotifyListenerOnTimeout() {
+        driver.addExpectation(onRequestTo("/foo"),
+                giveEmptyResponse().after(500, MILLISECONDS));
+
+        final TimeoutListener listener = mock(TimeoutListener.class);
+
+        final Http unit = Http.builder()
+                .baseUrl(driver.getBaseUrl())
+                .requestFactory(factory)
+                .plugin(new TimeoutPlugin(newSingleThreadScheduledExecutor(), 100, MILLISECONDS, executor)
+                        .withListener(listener))
+                .build();
+
+        try {
+            unit.get("/foo")
+                    .call(pass())
+                    .join();
+            fail("Expecting exception");
+        } catch (final CompletionException e) {
+            assertThat(e.getCause(), is(instanceOf(TimeoutException.class)));
+        }
+
+        verify(listener).onTimeout(argThat(arguments -> arguments.getRequestUri().getPath().equals("/foo")),
+                eq(MILLISECONDS.toNanos(100)), eq(NANOSECONDS));
+    }
+
+    @Test
+    public void shouldNotNotifyListenerWithoutTimeout() {
+        driver.addExpectation(onRequestTo("/foo"),
+                giveEmptyResponse());
+
+        final TimeoutListener listener = mock(TimeoutListener.class);
+
+        final Http unit = Http.builder()
+                .baseUrl(driver.getBaseUrl())
+                .requestFactory(factory)
+                .plugin(new TimeoutPlugin(newSingleThreadScheduledExecutor(), 1, TimeUnit.SECONDS, executor)
+                        .withListener(listener))
+                .build();
+
+        unit.get("/foo")
+                .call(pass())
+                .join();
+
+        verifyZeroInteractions(listener);
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void shouldTimeoutWhenDeadlineIsEarlier() throws Throwable {
+        driver.addExpectation(onRequestTo("/foo"),
+                giveEmptyResponse().after(500, MILLISECONDS));
+
+        try {
+            unit.get("/foo")
+                    .deadline(Deadline.after(100, MILLISECONDS))
+                    .call(pass())
+                    .join();
+            fail("Expecting exception");
+        } catch (final CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void shouldNotSendRequestIfDeadlineExpired() throws Throwable {
+        try {
+            unit.get("/foo")
+                    .deadline(Deadline.after(-1, NANOSECONDS))
+                    .call(pass())
+                    .join();
+            fail("Expecting exception");
+        } catch (final CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
 }